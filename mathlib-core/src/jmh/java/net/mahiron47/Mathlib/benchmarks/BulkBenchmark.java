@@ -0,0 +1,86 @@
+package net.mahiron47.mathlib.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mahiron47.mathlib.types.Mat4f;
+import net.mahiron47.mathlib.utils.Bulk;
+
+/**
+ * Elementwise array kernels and point transforms of Bulk.
+ * Compare the SIMD and scalar backends by running once more with -Dmathlib.bulk.scalar=true.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkBenchmark {
+	@Param({ "4096", "65536" })
+	public int length;
+
+	private float[] a, b, out, x, y, z;
+	private Mat4f   transform;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(47);
+		a = new float[length];
+		b = new float[length];
+		out = new float[length];
+		x = new float[length];
+		y = new float[length];
+		z = new float[length];
+		for (int i = 0; i < length; i++) {
+			a[i] = (float) random.nextGaussian() * 100.0f;
+			b[i] = (float) random.nextGaussian() * 100.0f;
+			x[i] = (float) random.nextGaussian();
+			y[i] = (float) random.nextGaussian();
+			z[i] = (float) random.nextGaussian();
+		}
+		transform = new Mat4f(new float[] {
+			0.0f, -1.0f, 0.0f, 8.0f,
+			1.0f, 0.0f, 0.0f, 0.0f,
+			0.0f, 0.0f, 1.0f, -8.0f,
+			0.0f, 0.0f, 0.0f, 1.0f
+		});
+	}
+
+	@Benchmark
+	public float[] floor() {
+		Bulk.floor(a, 0, out, 0, length);
+		return out;
+	}
+
+	@Benchmark
+	public float[] fract() {
+		Bulk.fract(a, 0, out, 0, length);
+		return out;
+	}
+
+	@Benchmark
+	public float[] max() {
+		Bulk.max(a, 0, b, 0, out, 0, length);
+		return out;
+	}
+
+	@Benchmark
+	public float[] transformPoints() {
+		// A rotation by 90 degrees, so the points stay bounded over many invocations
+		Bulk.transformPoints(transform, x, y, z, 0, length);
+		return x;
+	}
+}
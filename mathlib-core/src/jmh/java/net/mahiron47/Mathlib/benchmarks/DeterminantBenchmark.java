@@ -0,0 +1,67 @@
+package net.mahiron47.mathlib.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mahiron47.mathlib.types.Mat;
+import net.mahiron47.mathlib.types.interfaces.ITensor;
+
+/**
+ * Determinant of the general Mat at several sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeterminantBenchmark {
+	@Param({ "3", "4", "8", "16", "64" })
+	public int size;
+
+	private Mat m;
+	private Mat integral;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(47);
+		m = MatBenchmark.randomMat(random, size);
+
+		// Upper unitriangular: determinant 1 and small minors at every size, so the checked path never widens
+		long[][] data = new long[size][size];
+		for (int i = 0; i < size; i++) {
+			data[i][i] = 1;
+			for (int j = i + 1; j < size; j++) {
+				data[i][j] = random.nextInt(7) - 3;
+			}
+		}
+		integral = new Mat(data, ITensor.TYPE_LONG);
+	}
+
+	@Benchmark
+	public double detd() {
+		return m.detd();
+	}
+
+	@Benchmark
+	public long detl() {
+		return integral.detl();
+	}
+
+	@Benchmark
+	public long detlUnchecked() {
+		return integral.detl(false);
+	}
+}
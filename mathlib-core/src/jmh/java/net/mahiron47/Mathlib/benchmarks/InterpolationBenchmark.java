@@ -0,0 +1,64 @@
+package net.mahiron47.mathlib.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mahiron47.mathlib.types.Mat4d;
+import net.mahiron47.mathlib.types.Vec2d;
+import net.mahiron47.mathlib.types.Vec3d;
+import net.mahiron47.mathlib.utils.Interpolation;
+
+/**
+ * Bicubic and tricubic interpolation with the Mat4d/Vec based API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InterpolationBenchmark {
+	private Mat4d up, up_center, down_center, down;
+	private Vec2d t2;
+	private Vec3d t3;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(47);
+		up = randomMat4d(random);
+		up_center = randomMat4d(random);
+		down_center = randomMat4d(random);
+		down = randomMat4d(random);
+		t2 = new Vec2d(0.3, 0.7);
+		t3 = new Vec3d(0.3, 0.7, 0.45);
+	}
+
+	@Benchmark
+	public double bicubicI() {
+		return Interpolation.bicubicI(up, t2);
+	}
+
+	@Benchmark
+	public double tricubicI() {
+		return Interpolation.tricubicI(up, up_center, down_center, down, t3);
+	}
+
+	private static Mat4d randomMat4d(Random random) {
+		double[] elements = new double[16];
+		for (int i = 0; i < 16; i++) {
+			elements[i] = random.nextDouble() * 2.0 - 1.0;
+		}
+		return new Mat4d(elements);
+	}
+}
@@ -0,0 +1,59 @@
+package net.mahiron47.mathlib.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mahiron47.mathlib.types.Mat4f;
+import net.mahiron47.mathlib.types.Vec4f;
+import net.mahiron47.mathlib.types.interfaces.IMatrix;
+
+/**
+ * Products of the fixed-size Mat4f with another Mat4f and with a Vec4f.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Mat4fBenchmark {
+	private Mat4f a, b;
+	private Vec4f v, out;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(47);
+		float[] elements = new float[16];
+		for (int i = 0; i < 16; i++) {
+			elements[i] = random.nextFloat() * 2.0f - 1.0f;
+		}
+		a = new Mat4f(elements);
+		for (int i = 0; i < 16; i++) {
+			elements[i] = random.nextFloat() * 2.0f - 1.0f;
+		}
+		b = new Mat4f(elements);
+		v = new Vec4f(random.nextFloat(), random.nextFloat(), random.nextFloat(), 1.0f);
+		out = new Vec4f(0, 0, 0, 0);
+	}
+
+	@Benchmark
+	public IMatrix multiplyMat4f() {
+		return a.multiply(b);
+	}
+
+	@Benchmark
+	public Vec4f multiplyMat4fVec4f() {
+		return a.multiply(v, out);
+	}
+}
@@ -0,0 +1,69 @@
+package net.mahiron47.mathlib.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mahiron47.mathlib.types.Mat;
+import net.mahiron47.mathlib.types.interfaces.ITensor;
+
+/**
+ * Matrix products of the general Mat at several sizes. The fixed-size Mat4f is in {@link Mat4fBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatBenchmark {
+	@Param({ "4", "16", "64", "128", "512" })
+	public int size;
+
+	private Mat a, b, c;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(47);
+		a = randomMat(random, size);
+		b = randomMat(random, size);
+		c = randomMat(random, size);
+	}
+
+	@Benchmark
+	public Mat multiplyMat() {
+		return a.multiply(b);
+	}
+
+	@Benchmark
+	public Mat multiplyMatDest() {
+		return a.multiply(b, c);
+	}
+
+	@Benchmark
+	public Mat multiplyMatParallel() {
+		return a.multiplyParallel(b, c, ForkJoinPool.commonPool());
+	}
+
+	static Mat randomMat(Random random, int size) {
+		double[][] data = new double[size][size];
+		for (int i = 0; i < size; i++) {
+			for (int j = 0; j < size; j++) {
+				data[i][j] = random.nextDouble() * 2.0 - 1.0;
+			}
+		}
+		return new Mat(data, ITensor.TYPE_DOUBLE);
+	}
+}
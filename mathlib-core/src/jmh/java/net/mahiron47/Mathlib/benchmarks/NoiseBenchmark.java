@@ -0,0 +1,51 @@
+package net.mahiron47.mathlib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mahiron47.mathlib.utils.Noise;
+
+/**
+ * Single samples and a chunk-sized bulk fill of the sine-hashed simplex noise.
+ * The coordinates advance on every call so the JIT cannot fold the result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NoiseBenchmark {
+	private final float[] column = new float[16 * 256 * 16];
+
+	private double x = 0.5, y = 64.25, z = -12.75;
+
+	@Benchmark
+	public double simplexNoise2D() {
+		x += 0.013;
+		return Noise.simplexNoise(x, z);
+	}
+
+	@Benchmark
+	public double simplexNoise3D() {
+		x += 0.013;
+		return Noise.simplexNoise(x, y, z);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public float[] fillSimplex3DColumn() {
+		x += 16.0;
+		Noise.fillSimplex3D(column, (int) x, 0, 0, 16, 256, 16, 0.02);
+		return column;
+	}
+}
@@ -0,0 +1,80 @@
+package net.mahiron47.mathlib.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mahiron47.mathlib.types.Mat3f;
+import net.mahiron47.mathlib.types.Quatf;
+import net.mahiron47.mathlib.types.Vec3f;
+import net.mahiron47.mathlib.types.interfaces.IMatrix;
+
+/**
+ * Composing and applying rotations as Quatf against the same rotations as Mat3f.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuatBenchmark {
+	private static final int BATCH = 4096;
+
+	private Quatf   qa, qb, qout;
+	private Mat3f   ma, mb;
+	private Vec3f   v, vout;
+	private float[] xyz;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(47);
+		qa = Quatf.fromAxisAngle(0.3f, 1.0f, -0.2f, 0.7f);
+		qb = Quatf.fromAxisAngle(-1.0f, 0.1f, 0.4f, 2.1f);
+		qout = Quatf.identity();
+		ma = qa.toMat3f();
+		mb = qb.toMat3f();
+		v = new Vec3f(1.5f, -2.25f, 3.125f);
+		vout = new Vec3f(0, 0, 0);
+		xyz = new float[BATCH * 3];
+		for (int i = 0; i < xyz.length; i++) {
+			xyz[i] = (float) random.nextGaussian();
+		}
+	}
+
+	@Benchmark
+	public Quatf composeQuatf() {
+		return qa.multiply(qb, qout);
+	}
+
+	@Benchmark
+	public IMatrix composeMat3f() {
+		return ma.multiply(mb);
+	}
+
+	@Benchmark
+	public Vec3f rotateQuatf() {
+		return qa.rotate(v, vout);
+	}
+
+	@Benchmark
+	public Quatf slerpQuatf() {
+		return qa.slerp(qb, 0.35f, qout);
+	}
+
+	@Benchmark
+	public float[] rotateBatchQuatf() {
+		qa.rotate(xyz, 0, BATCH);
+		return xyz;
+	}
+}
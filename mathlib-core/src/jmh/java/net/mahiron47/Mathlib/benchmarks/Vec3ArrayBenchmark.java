@@ -0,0 +1,79 @@
+package net.mahiron47.mathlib.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mahiron47.mathlib.types.Vec3f;
+import net.mahiron47.mathlib.types.Vec3fArray;
+
+/**
+ * Per-tick position updates on an array of Vec3f objects against the same data in a Vec3fArray.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Vec3ArrayBenchmark {
+	@Param({ "4096", "65536" })
+	public int size;
+
+	private Vec3f[]    positions, velocities;
+	private Vec3fArray positionArray, velocityArray;
+	private float[]    lengths;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(47);
+		positions = new Vec3f[size];
+		velocities = new Vec3f[size];
+		positionArray = new Vec3fArray(size);
+		velocityArray = new Vec3fArray(size);
+		lengths = new float[size];
+		for (int i = 0; i < size; i++) {
+			positions[i] = new Vec3f((float) random.nextGaussian(), (float) random.nextGaussian(), (float) random.nextGaussian());
+			velocities[i] = new Vec3f((float) random.nextGaussian(), (float) random.nextGaussian(), (float) random.nextGaussian());
+			positionArray.set(i, positions[i]);
+			velocityArray.set(i, velocities[i]);
+		}
+	}
+
+	@Benchmark
+	public Vec3f[] integrateObjects() {
+		for (int i = 0; i < size; i++) {
+			positions[i].addLocal(velocities[i]);
+		}
+		return positions;
+	}
+
+	@Benchmark
+	public Vec3fArray integrateArray() {
+		return positionArray.add(velocityArray);
+	}
+
+	@Benchmark
+	public float[] lengthObjects() {
+		for (int i = 0; i < size; i++) {
+			lengths[i] = (float) positions[i].getLength();
+		}
+		return lengths;
+	}
+
+	@Benchmark
+	public float[] lengthArray() {
+		return positionArray.length(lengths);
+	}
+}
@@ -0,0 +1,69 @@
+package net.mahiron47.mathlib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mahiron47.mathlib.types.Vec3d;
+import net.mahiron47.mathlib.types.Vec3f;
+
+/**
+ * Vector arithmetic on the fixed-size Vec3f and Vec3d types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VecBenchmark {
+	private Vec3f af, bf;
+	private Vec3d ad, bd;
+
+	@Setup
+	public void setup() {
+		af = new Vec3f(1.5f, -2.25f, 3.125f);
+		bf = new Vec3f(-0.5f, 4.0f, 0.75f);
+		ad = new Vec3d(1.5, -2.25, 3.125);
+		bd = new Vec3d(-0.5, 4.0, 0.75);
+	}
+
+	@Benchmark
+	public Vec3f addVec3f() {
+		return af.add(bf);
+	}
+
+	@Benchmark
+	public float dotVec3f() {
+		return af.dotf(bf);
+	}
+
+	@Benchmark
+	public Vec3f normalizeVec3f() {
+		return af.getNormal();
+	}
+
+	@Benchmark
+	public Vec3d addVec3d() {
+		return ad.add(bd);
+	}
+
+	@Benchmark
+	public double dotVec3d() {
+		return ad.dotd(bd);
+	}
+
+	@Benchmark
+	public Vec3d normalizeVec3d() {
+		return ad.getNormal();
+	}
+}
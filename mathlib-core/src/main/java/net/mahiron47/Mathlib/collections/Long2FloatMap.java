@@ -0,0 +1,252 @@
+package net.mahiron47.mathlib.collections;
+
+import java.util.Arrays;
+
+/**
+ * Hash map from primitive long keys to primitive floats, e.g. per-block or per-column values
+ * keyed by packed coordinates. Works like {@link Long2ObjectMap}; missing keys read as 0
+ * unless another default is passed to {@link #getOrDefault(long, float)}. The map is not thread-safe.
+ */
+public class Long2FloatMap {
+	private long[]  keys;
+	private float[] values;
+	private int     mask;
+	private int     maxFill;
+	private int     size;
+	private boolean hasZeroKey;
+	private float   zeroValue;
+
+	/**
+	 * A callback receiving the entries of a map.
+	 */
+	public interface EntryConsumer {
+		void accept(long key, float value);
+	}
+
+	public Long2FloatMap() {
+		this(16);
+	}
+
+	/**
+	 * Creates a map.
+	 * @param expectedSize The number of entries the map holds without resizing.
+	 */
+	public Long2FloatMap(int expectedSize) {
+		allocate(LongHashing.tableSize(expectedSize));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Gets the value mapped to a key.
+	 * @param key The key.
+	 * @return The value, or 0 if the key is not present.
+	 */
+	public float get(long key) {
+		return getOrDefault(key, 0.0f);
+	}
+
+	/**
+	 * Gets the value mapped to a key.
+	 * @param key The key.
+	 * @param defaultValue The value returned if the key is not present.
+	 * @return The value, or defaultValue if the key is not present.
+	 */
+	public float getOrDefault(long key, float defaultValue) {
+		if (key == 0) {
+			return hasZeroKey ? zeroValue : defaultValue;
+		}
+		int slot = find(key);
+		return slot < 0 ? defaultValue : values[slot];
+	}
+
+	public boolean containsKey(long key) {
+		return key == 0 ? hasZeroKey : find(key) >= 0;
+	}
+
+	/**
+	 * Maps a key to a value.
+	 * @param key The key.
+	 * @param value The value.
+	 * @return The previous value, or 0 if the key was not present.
+	 */
+	public float put(long key, float value) {
+		if (key == 0) {
+			float previous = hasZeroKey ? zeroValue : 0.0f;
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				size++;
+			}
+			zeroValue = value;
+			return previous;
+		}
+
+		int slot = LongHashing.mix(key) & mask;
+		long current;
+		while ((current = keys[slot]) != 0) {
+			if (current == key) {
+				float previous = values[slot];
+				values[slot] = value;
+				return previous;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		values[slot] = value;
+		if (++size > maxFill) {
+			grow();
+		}
+		return 0.0f;
+	}
+
+	/**
+	 * Adds an increment to the value of a key, treating a missing key as 0.
+	 * @param key The key.
+	 * @param increment The amount to add.
+	 * @return The new value.
+	 */
+	public float addTo(long key, float increment) {
+		if (key == 0) {
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				size++;
+			}
+			return zeroValue += increment;
+		}
+
+		int slot = LongHashing.mix(key) & mask;
+		long current;
+		while ((current = keys[slot]) != 0) {
+			if (current == key) {
+				return values[slot] += increment;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		values[slot] = increment;
+		if (++size > maxFill) {
+			grow();
+		}
+		return increment;
+	}
+
+	/**
+	 * Removes the mapping of a key.
+	 * @param key The key.
+	 * @return The removed value, or 0 if the key was not present.
+	 */
+	public float remove(long key) {
+		if (key == 0) {
+			float previous = hasZeroKey ? zeroValue : 0.0f;
+			if (hasZeroKey) {
+				hasZeroKey = false;
+				zeroValue = 0.0f;
+				size--;
+			}
+			return previous;
+		}
+
+		int slot = find(key);
+		if (slot < 0) {
+			return 0.0f;
+		}
+		float previous = values[slot];
+		size--;
+		shiftKeys(slot);
+		return previous;
+	}
+
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		Arrays.fill(keys, 0);
+		hasZeroKey = false;
+		zeroValue = 0.0f;
+		size = 0;
+	}
+
+	/**
+	 * Passes every entry to an action, in no particular order. The action must not modify this map.
+	 * @param action The action.
+	 */
+	public void forEach(EntryConsumer action) {
+		if (hasZeroKey) {
+			action.accept(0, zeroValue);
+		}
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != 0) {
+				action.accept(keys[slot], values[slot]);
+			}
+		}
+	}
+
+	private int find(long key) {
+		int slot = LongHashing.mix(key) & mask;
+		long current;
+		while ((current = keys[slot]) != 0) {
+			if (current == key) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Closes the gap left at a removed slot by moving back later entries of the same probe run.
+	 */
+	private void shiftKeys(int slot) {
+		while (true) {
+			int last = slot;
+			slot = (slot + 1) & mask;
+			long current;
+			while (true) {
+				if ((current = keys[slot]) == 0) {
+					keys[last] = 0;
+					return;
+				}
+				int home = LongHashing.mix(current) & mask;
+				// The entry can move back into the gap unless its home slot lies cyclically in (last, slot]
+				if (last <= slot ? last >= home || home > slot : last >= home && home > slot) {
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+			keys[last] = current;
+			values[last] = values[slot];
+		}
+	}
+
+	private void grow() {
+		assert keys.length < LongHashing.MAX_CAPACITY : "Long2FloatMap:grow: map is full";
+
+		long[] oldKeys = keys;
+		float[] oldValues = values;
+		allocate(keys.length * 2);
+		for (int i = 0; i < oldKeys.length; i++) {
+			long key = oldKeys[i];
+			if (key != 0) {
+				int slot = LongHashing.mix(key) & mask;
+				while (keys[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = key;
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	private void allocate(int tableSize) {
+		keys = new long[tableSize];
+		values = new float[tableSize];
+		mask = tableSize - 1;
+		maxFill = LongHashing.maxFill(tableSize);
+	}
+}
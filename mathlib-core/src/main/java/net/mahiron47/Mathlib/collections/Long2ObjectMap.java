@@ -0,0 +1,242 @@
+package net.mahiron47.mathlib.collections;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+
+/**
+ * Hash map from primitive long keys to objects, e.g. from packed block or chunk coordinates
+ * (see {@link net.mahiron47.mathlib.types.Vec3i#pack()} and {@link net.mahiron47.mathlib.types.Vec2i#pack()}).
+ *
+ * <p>Entries live in two parallel arrays indexed by linear probing, so a lookup does not allocate
+ * and an entry costs 12 to 16 bytes of table instead of a boxed key and a node. Removal shifts
+ * later entries back instead of leaving tombstones. The key 0 marks free slots and is stored
+ * separately. Null values are not permitted. The map is not thread-safe.</p>
+ *
+ * @param <V> The type of the values.
+ */
+public class Long2ObjectMap<V> {
+	private long[]   keys;
+	private Object[] values;
+	private int      mask;
+	private int      maxFill;
+	private int      size;
+	private boolean  hasZeroKey;
+	private V        zeroValue;
+
+	/**
+	 * A callback receiving the entries of a map.
+	 * @param <V> The type of the values.
+	 */
+	public interface EntryConsumer<V> {
+		void accept(long key, V value);
+	}
+
+	public Long2ObjectMap() {
+		this(16);
+	}
+
+	/**
+	 * Creates a map.
+	 * @param expectedSize The number of entries the map holds without resizing.
+	 */
+	public Long2ObjectMap(int expectedSize) {
+		allocate(LongHashing.tableSize(expectedSize));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Gets the value mapped to a key.
+	 * @param key The key.
+	 * @return The value, or null if the key is not present.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(long key) {
+		if (key == 0) {
+			return zeroValue;
+		}
+		int slot = find(key);
+		return slot < 0 ? null : (V) values[slot];
+	}
+
+	public boolean containsKey(long key) {
+		return key == 0 ? hasZeroKey : find(key) >= 0;
+	}
+
+	/**
+	 * Maps a key to a value.
+	 * @param key The key.
+	 * @param value The value, not null.
+	 * @return The previous value, or null if the key was not present.
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(long key, V value) {
+		assert value != null : "Long2ObjectMap:put: value == null";
+
+		if (key == 0) {
+			V previous = zeroValue;
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				size++;
+			}
+			zeroValue = value;
+			return previous;
+		}
+
+		int slot = LongHashing.mix(key) & mask;
+		long current;
+		while ((current = keys[slot]) != 0) {
+			if (current == key) {
+				V previous = (V) values[slot];
+				values[slot] = value;
+				return previous;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		values[slot] = value;
+		if (++size > maxFill) {
+			grow();
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the value mapped to a key, computing and storing it first if the key is not present.
+	 * @param key The key.
+	 * @param mapping Computes the value from the key; it must not return null or modify this map.
+	 * @return The present or computed value.
+	 */
+	public V computeIfAbsent(long key, LongFunction<? extends V> mapping) {
+		V value = get(key);
+		if (value == null) {
+			value = mapping.apply(key);
+			put(key, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Removes the mapping of a key.
+	 * @param key The key.
+	 * @return The removed value, or null if the key was not present.
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(long key) {
+		if (key == 0) {
+			V previous = zeroValue;
+			if (hasZeroKey) {
+				hasZeroKey = false;
+				zeroValue = null;
+				size--;
+			}
+			return previous;
+		}
+
+		int slot = find(key);
+		if (slot < 0) {
+			return null;
+		}
+		V previous = (V) values[slot];
+		size--;
+		shiftKeys(slot);
+		return previous;
+	}
+
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, null);
+		hasZeroKey = false;
+		zeroValue = null;
+		size = 0;
+	}
+
+	/**
+	 * Passes every entry to an action, in no particular order. The action must not modify this map.
+	 * @param action The action.
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(EntryConsumer<? super V> action) {
+		if (hasZeroKey) {
+			action.accept(0, zeroValue);
+		}
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != 0) {
+				action.accept(keys[slot], (V) values[slot]);
+			}
+		}
+	}
+
+	private int find(long key) {
+		int slot = LongHashing.mix(key) & mask;
+		long current;
+		while ((current = keys[slot]) != 0) {
+			if (current == key) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Closes the gap left at a removed slot by moving back later entries of the same probe run.
+	 */
+	private void shiftKeys(int slot) {
+		while (true) {
+			int last = slot;
+			slot = (slot + 1) & mask;
+			long current;
+			while (true) {
+				if ((current = keys[slot]) == 0) {
+					keys[last] = 0;
+					values[last] = null;
+					return;
+				}
+				int home = LongHashing.mix(current) & mask;
+				// The entry can move back into the gap unless its home slot lies cyclically in (last, slot]
+				if (last <= slot ? last >= home || home > slot : last >= home && home > slot) {
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+			keys[last] = current;
+			values[last] = values[slot];
+		}
+	}
+
+	private void grow() {
+		assert keys.length < LongHashing.MAX_CAPACITY : "Long2ObjectMap:grow: map is full";
+
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		allocate(keys.length * 2);
+		for (int i = 0; i < oldKeys.length; i++) {
+			long key = oldKeys[i];
+			if (key != 0) {
+				int slot = LongHashing.mix(key) & mask;
+				while (keys[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = key;
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	private void allocate(int tableSize) {
+		keys = new long[tableSize];
+		values = new Object[tableSize];
+		mask = tableSize - 1;
+		maxFill = LongHashing.maxFill(tableSize);
+	}
+}
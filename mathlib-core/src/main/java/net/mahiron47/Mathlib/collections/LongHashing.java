@@ -0,0 +1,55 @@
+package net.mahiron47.mathlib.collections;
+
+/**
+ * Hashing and sizing shared by the long-keyed open-addressing tables.
+ */
+final class LongHashing {
+	static final float LOAD_FACTOR = 0.75f;
+	static final int MAX_CAPACITY = 1 << 30;
+
+	private LongHashing() {
+		// Private constructor to prevent instantiation
+	}
+
+	/**
+	 * Spreads every key bit over the low bits used as table index, so that packed grid
+	 * coordinates, which differ only in a few bits, do not cluster.
+	 * @param key The key.
+	 * @return The mixed hash.
+	 */
+	static int mix(long key) {
+		// Final avalanche (MurmurHash3 fmix64)
+		long h = key;
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return (int) h;
+	}
+
+	/**
+	 * Gets the power-of-two table length that holds the given number of keys without resizing.
+	 * @param expectedSize The number of keys.
+	 * @return The table length.
+	 */
+	static int tableSize(int expectedSize) {
+		assert expectedSize >= 0 : "LongHashing:tableSize: expectedSize < 0";
+
+		long needed = (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1;
+		int size = 2;
+		while (size < needed && size < MAX_CAPACITY) {
+			size <<= 1;
+		}
+		return size;
+	}
+
+	/**
+	 * Gets the number of keys a table of the given length holds before it grows.
+	 * @param tableSize The table length.
+	 * @return The fill limit.
+	 */
+	static int maxFill(int tableSize) {
+		return Math.min(tableSize - 1, (int) (tableSize * LOAD_FACTOR));
+	}
+}
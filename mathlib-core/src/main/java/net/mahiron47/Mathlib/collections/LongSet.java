@@ -0,0 +1,197 @@
+package net.mahiron47.mathlib.collections;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Hash set of primitive longs, e.g. of packed block or chunk coordinates.
+ * Works like {@link Long2ObjectMap} without the values. The set is not thread-safe.
+ */
+public class LongSet {
+	private long[]  keys;
+	private int     mask;
+	private int     maxFill;
+	private int     size;
+	private boolean hasZeroKey;
+
+	public LongSet() {
+		this(16);
+	}
+
+	/**
+	 * Creates a set.
+	 * @param expectedSize The number of elements the set holds without resizing.
+	 */
+	public LongSet(int expectedSize) {
+		allocate(LongHashing.tableSize(expectedSize));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public boolean contains(long key) {
+		if (key == 0) {
+			return hasZeroKey;
+		}
+		int slot = LongHashing.mix(key) & mask;
+		long current;
+		while ((current = keys[slot]) != 0) {
+			if (current == key) {
+				return true;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * Adds an element.
+	 * @param key The element.
+	 * @return true if the element was not present.
+	 */
+	public boolean add(long key) {
+		if (key == 0) {
+			if (hasZeroKey) {
+				return false;
+			}
+			hasZeroKey = true;
+			size++;
+			return true;
+		}
+
+		int slot = LongHashing.mix(key) & mask;
+		long current;
+		while ((current = keys[slot]) != 0) {
+			if (current == key) {
+				return false;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		if (++size > maxFill) {
+			grow();
+		}
+		return true;
+	}
+
+	/**
+	 * Removes an element.
+	 * @param key The element.
+	 * @return true if the element was present.
+	 */
+	public boolean remove(long key) {
+		if (key == 0) {
+			if (!hasZeroKey) {
+				return false;
+			}
+			hasZeroKey = false;
+			size--;
+			return true;
+		}
+
+		int slot = LongHashing.mix(key) & mask;
+		long current;
+		while ((current = keys[slot]) != 0) {
+			if (current == key) {
+				size--;
+				shiftKeys(slot);
+				return true;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return false;
+	}
+
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		Arrays.fill(keys, 0);
+		hasZeroKey = false;
+		size = 0;
+	}
+
+	/**
+	 * Passes every element to an action, in no particular order. The action must not modify this set.
+	 * @param action The action.
+	 */
+	public void forEach(LongConsumer action) {
+		if (hasZeroKey) {
+			action.accept(0);
+		}
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != 0) {
+				action.accept(keys[slot]);
+			}
+		}
+	}
+
+	/**
+	 * Copies the elements into a new array, in no particular order.
+	 * @return The elements.
+	 */
+	public long[] toArray() {
+		long[] result = new long[size];
+		int i = 0;
+		if (hasZeroKey) {
+			result[i++] = 0;
+		}
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != 0) {
+				result[i++] = keys[slot];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Closes the gap left at a removed slot by moving back later elements of the same probe run.
+	 */
+	private void shiftKeys(int slot) {
+		while (true) {
+			int last = slot;
+			slot = (slot + 1) & mask;
+			long current;
+			while (true) {
+				if ((current = keys[slot]) == 0) {
+					keys[last] = 0;
+					return;
+				}
+				int home = LongHashing.mix(current) & mask;
+				// The element can move back into the gap unless its home slot lies cyclically in (last, slot]
+				if (last <= slot ? last >= home || home > slot : last >= home && home > slot) {
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+			keys[last] = current;
+		}
+	}
+
+	private void grow() {
+		assert keys.length < LongHashing.MAX_CAPACITY : "LongSet:grow: set is full";
+
+		long[] oldKeys = keys;
+		allocate(keys.length * 2);
+		for (long key : oldKeys) {
+			if (key != 0) {
+				int slot = LongHashing.mix(key) & mask;
+				while (keys[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = key;
+			}
+		}
+	}
+
+	private void allocate(int tableSize) {
+		keys = new long[tableSize];
+		mask = tableSize - 1;
+		maxFill = LongHashing.maxFill(tableSize);
+	}
+}
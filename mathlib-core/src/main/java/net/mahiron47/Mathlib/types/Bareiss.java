@@ -0,0 +1,134 @@
+package net.mahiron47.mathlib.types;
+
+import net.mahiron47.mathlib.utils.Intrinsics;
+
+/**
+ * Exact integer determinants by Bareiss fraction-free elimination.
+ *
+ * <pre>
+ * Step k replaces every entry below and right of the pivot by
+ * a[i][j] = (a[i][j] * a[k][k] - a[i][k] * a[k][j]) / a[k-1][k-1]
+ * </pre>
+ *
+ * The division is always exact and every intermediate entry is a minor of the input, so the
+ * elimination stays in integers and needs O(n³) operations. Only the two products of a step
+ * can be larger than the minors; the overflow-checked mode evaluates those in 128 bits.
+ */
+final class Bareiss {
+    private Bareiss() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Computes the determinant of a row-major n×n matrix, destroying its contents.
+     *
+     * @param a the matrix, used as scratch space
+     * @param n the dimension
+     * @param overflowChecked if true, products that do not fit in a long are evaluated in 128 bits and an
+     *                        ArithmeticException is thrown if a minor, including the determinant itself,
+     *                        does not fit in a long; if false, the result is undefined on overflow
+     * @return the determinant
+     * @throws ArithmeticException if overflowChecked and the result or an intermediate minor overflows a long
+     */
+    static long determinant(long[] a, int n, boolean overflowChecked) {
+        long sign = 1;
+        long previous = 1;
+
+        for (int k = 0; k < n - 1; k++) {
+            int rowK = k * n;
+            if (a[rowK + k] == 0) {
+                // Any row with a non-zero entry in column k can serve as pivot; exactness does not need the largest
+                int p = k + 1;
+                while (p < n && a[p * n + k] == 0) {
+                    p++;
+                }
+                if (p == n) {
+                    return 0;
+                }
+                int rowP = p * n;
+                for (int j = k; j < n; j++) {
+                    long t = a[rowP + j];
+                    a[rowP + j] = a[rowK + j];
+                    a[rowK + j] = t;
+                }
+                sign = -sign;
+            }
+
+            long pivot = a[rowK + k];
+            for (int i = k + 1; i < n; i++) {
+                int rowI = i * n;
+                long factor = a[rowI + k];
+                for (int j = k + 1; j < n; j++) {
+                    long upper = a[rowK + j];
+                    long value = a[rowI + j];
+                    if (!overflowChecked || (fitsInt(pivot) && fitsInt(value) && fitsInt(factor) && fitsInt(upper))) {
+                        // Both products are below 2^62 in magnitude, so neither they nor their difference overflow
+                        a[rowI + j] = (value * pivot - factor * upper) / previous;
+                    } else {
+                        a[rowI + j] = wideStep(value, pivot, factor, upper, previous);
+                    }
+                }
+                a[rowI + k] = 0;
+            }
+            previous = pivot;
+        }
+
+        long det = a[n * n - 1];
+        if (sign < 0) {
+            if (overflowChecked && det == Long.MIN_VALUE) {
+                throw new ArithmeticException("Bareiss:determinant: determinant overflows long");
+            }
+            det = -det;
+        }
+        return det;
+    }
+
+    private static boolean fitsInt(long x) {
+        return x == (int) x;
+    }
+
+    /**
+     * Computes (a * b - c * d) / divisor exactly with a 128-bit numerator.
+     */
+    private static long wideStep(long a, long b, long c, long d, long divisor) {
+        long abLow = a * b;
+        long abHigh = Intrinsics.multiplyHigh(a, b);
+        long cdLow = c * d;
+        long cdHigh = Intrinsics.multiplyHigh(c, d);
+
+        long low = abLow - cdLow;
+        long high = abHigh - cdHigh - (Long.compareUnsigned(abLow, cdLow) < 0 ? 1 : 0);
+        // The difference of two signed 127-bit products fits in 128 bits, so high carries the true sign
+
+        boolean negative = high < 0;
+        if (negative) {
+            low = -low;
+            high = ~high + (low == 0 ? 1 : 0);
+        }
+        boolean divisorNegative = divisor < 0;
+        long magnitude = divisorNegative ? -divisor : divisor;
+
+        // Unsigned 128 / 64 restoring division; the quotient only fits in 64 bits if high < magnitude
+        if (Long.compareUnsigned(high, magnitude) >= 0) {
+            throw new ArithmeticException("Bareiss:determinant: intermediate minor overflows long");
+        }
+        long remainder = high;
+        long quotient = low;
+        for (int bit = 0; bit < 64; bit++) {
+            boolean carry = remainder < 0;
+            remainder = (remainder << 1) | (quotient >>> 63);
+            quotient <<= 1;
+            if (carry || Long.compareUnsigned(remainder, magnitude) >= 0) {
+                remainder -= magnitude;
+                quotient |= 1;
+            }
+        }
+        assert remainder == 0 : "Bareiss:determinant: inexact division";
+
+        boolean resultNegative = negative != divisorNegative;
+        if (resultNegative ? Long.compareUnsigned(quotient, Long.MIN_VALUE) > 0 : quotient < 0) {
+            throw new ArithmeticException("Bareiss:determinant: intermediate minor overflows long");
+        }
+        return resultNegative ? -quotient : quotient;
+    }
+}
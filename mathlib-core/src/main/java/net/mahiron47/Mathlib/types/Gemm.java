@@ -0,0 +1,303 @@
+package net.mahiron47.mathlib.types;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import net.mahiron47.mathlib.types.interfaces.ITensor;
+
+/**
+ * Blocked general matrix multiply kernels, C = A * B, over the row arrays of a {@link Mat}.
+ *
+ * <pre>
+ * for each block of KC rows of B and NC columns of C:
+ *     for each group of MR = 4 rows of A and C:
+ *         for k in the block:  c[i][j] += a[i][k] * b[k][j]   (j innermost)
+ * </pre>
+ *
+ * The i-k-j order streams rows of B and C, so no operand is read column-wise and nothing needs
+ * to be transposed. The KC×NC panel of B stays in L2 while it is reused by every row of A, and
+ * each b[k][j] loaded into a register feeds four rows of C. Every element still accumulates its
+ * products in increasing k starting from zero, exactly like the textbook i-j-k loop, so float and
+ * double results are bit-identical to it.
+ */
+final class Gemm {
+    /** Rows of B per block: a KC×NC double panel is 256 KiB. */
+    static final int KC = 128;
+    /** Columns of C per block: MR rows of C fit in L1 alongside the current row of B. */
+    static final int NC = 256;
+    /** Multiply-adds up to which a block of C is computed by one task: a few milliseconds, 128×128 at n = 1024. */
+    static final long PARALLEL_THRESHOLD = 1L << 24;
+
+    private Gemm() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Computes the block [rowStart, rowEnd)×[colStart, colEnd) of C = A * B, overwriting it.
+     *
+     * @param a the rows of A, m×n
+     * @param b the rows of B, n×p
+     * @param c the rows of C, m×p; must not share rows with a or b
+     * @param rowStart the first row of C to compute
+     * @param rowEnd one past the last row of C to compute
+     * @param colStart the first column of C to compute
+     * @param colEnd one past the last column of C to compute
+     */
+    static void multiply(double[][] a, double[][] b, double[][] c, int rowStart, int rowEnd, int colStart, int colEnd) {
+        int n = b.length;
+
+        for (int i = rowStart; i < rowEnd; i++) {
+            Arrays.fill(c[i], colStart, colEnd, 0.0);
+        }
+
+        for (int j0 = colStart; j0 < colEnd; j0 += NC) {
+            int j1 = Math.min(j0 + NC, colEnd);
+            for (int k0 = 0; k0 < n; k0 += KC) {
+                int k1 = Math.min(k0 + KC, n);
+
+                int i = rowStart;
+                for (; i + 3 < rowEnd; i += 4) {
+                    double[] a0 = a[i], a1 = a[i + 1], a2 = a[i + 2], a3 = a[i + 3];
+                    double[] c0 = c[i], c1 = c[i + 1], c2 = c[i + 2], c3 = c[i + 3];
+                    for (int k = k0; k < k1; k++) {
+                        double[] bk = b[k];
+                        double x0 = a0[k], x1 = a1[k], x2 = a2[k], x3 = a3[k];
+                        for (int j = j0; j < j1; j++) {
+                            double bkj = bk[j];
+                            c0[j] += x0 * bkj;
+                            c1[j] += x1 * bkj;
+                            c2[j] += x2 * bkj;
+                            c3[j] += x3 * bkj;
+                        }
+                    }
+                }
+                for (; i < rowEnd; i++) {
+                    double[] ai = a[i];
+                    double[] ci = c[i];
+                    for (int k = k0; k < k1; k++) {
+                        double[] bk = b[k];
+                        double x = ai[k];
+                        for (int j = j0; j < j1; j++) {
+                            ci[j] += x * bk[j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the block [rowStart, rowEnd)×[colStart, colEnd) of C = A * B, overwriting it.
+     */
+    static void multiply(float[][] a, float[][] b, float[][] c, int rowStart, int rowEnd, int colStart, int colEnd) {
+        int n = b.length;
+
+        for (int i = rowStart; i < rowEnd; i++) {
+            Arrays.fill(c[i], colStart, colEnd, 0.0f);
+        }
+
+        for (int j0 = colStart; j0 < colEnd; j0 += NC) {
+            int j1 = Math.min(j0 + NC, colEnd);
+            for (int k0 = 0; k0 < n; k0 += KC) {
+                int k1 = Math.min(k0 + KC, n);
+
+                int i = rowStart;
+                for (; i + 3 < rowEnd; i += 4) {
+                    float[] a0 = a[i], a1 = a[i + 1], a2 = a[i + 2], a3 = a[i + 3];
+                    float[] c0 = c[i], c1 = c[i + 1], c2 = c[i + 2], c3 = c[i + 3];
+                    for (int k = k0; k < k1; k++) {
+                        float[] bk = b[k];
+                        float x0 = a0[k], x1 = a1[k], x2 = a2[k], x3 = a3[k];
+                        for (int j = j0; j < j1; j++) {
+                            float bkj = bk[j];
+                            c0[j] += x0 * bkj;
+                            c1[j] += x1 * bkj;
+                            c2[j] += x2 * bkj;
+                            c3[j] += x3 * bkj;
+                        }
+                    }
+                }
+                for (; i < rowEnd; i++) {
+                    float[] ai = a[i];
+                    float[] ci = c[i];
+                    for (int k = k0; k < k1; k++) {
+                        float[] bk = b[k];
+                        float x = ai[k];
+                        for (int j = j0; j < j1; j++) {
+                            ci[j] += x * bk[j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the block [rowStart, rowEnd)×[colStart, colEnd) of C = A * B, overwriting it.
+     * Products and sums wrap on overflow, like the textbook loop.
+     */
+    static void multiply(int[][] a, int[][] b, int[][] c, int rowStart, int rowEnd, int colStart, int colEnd) {
+        int n = b.length;
+
+        for (int i = rowStart; i < rowEnd; i++) {
+            Arrays.fill(c[i], colStart, colEnd, 0);
+        }
+
+        for (int j0 = colStart; j0 < colEnd; j0 += NC) {
+            int j1 = Math.min(j0 + NC, colEnd);
+            for (int k0 = 0; k0 < n; k0 += KC) {
+                int k1 = Math.min(k0 + KC, n);
+
+                int i = rowStart;
+                for (; i + 3 < rowEnd; i += 4) {
+                    int[] a0 = a[i], a1 = a[i + 1], a2 = a[i + 2], a3 = a[i + 3];
+                    int[] c0 = c[i], c1 = c[i + 1], c2 = c[i + 2], c3 = c[i + 3];
+                    for (int k = k0; k < k1; k++) {
+                        int[] bk = b[k];
+                        int x0 = a0[k], x1 = a1[k], x2 = a2[k], x3 = a3[k];
+                        for (int j = j0; j < j1; j++) {
+                            int bkj = bk[j];
+                            c0[j] += x0 * bkj;
+                            c1[j] += x1 * bkj;
+                            c2[j] += x2 * bkj;
+                            c3[j] += x3 * bkj;
+                        }
+                    }
+                }
+                for (; i < rowEnd; i++) {
+                    int[] ai = a[i];
+                    int[] ci = c[i];
+                    for (int k = k0; k < k1; k++) {
+                        int[] bk = b[k];
+                        int x = ai[k];
+                        for (int j = j0; j < j1; j++) {
+                            ci[j] += x * bk[j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the block [rowStart, rowEnd)×[colStart, colEnd) of C = A * B, overwriting it.
+     * Products and sums wrap on overflow, like the textbook loop.
+     */
+    static void multiply(long[][] a, long[][] b, long[][] c, int rowStart, int rowEnd, int colStart, int colEnd) {
+        int n = b.length;
+
+        for (int i = rowStart; i < rowEnd; i++) {
+            Arrays.fill(c[i], colStart, colEnd, 0L);
+        }
+
+        for (int j0 = colStart; j0 < colEnd; j0 += NC) {
+            int j1 = Math.min(j0 + NC, colEnd);
+            for (int k0 = 0; k0 < n; k0 += KC) {
+                int k1 = Math.min(k0 + KC, n);
+
+                int i = rowStart;
+                for (; i + 3 < rowEnd; i += 4) {
+                    long[] a0 = a[i], a1 = a[i + 1], a2 = a[i + 2], a3 = a[i + 3];
+                    long[] c0 = c[i], c1 = c[i + 1], c2 = c[i + 2], c3 = c[i + 3];
+                    for (int k = k0; k < k1; k++) {
+                        long[] bk = b[k];
+                        long x0 = a0[k], x1 = a1[k], x2 = a2[k], x3 = a3[k];
+                        for (int j = j0; j < j1; j++) {
+                            long bkj = bk[j];
+                            c0[j] += x0 * bkj;
+                            c1[j] += x1 * bkj;
+                            c2[j] += x2 * bkj;
+                            c3[j] += x3 * bkj;
+                        }
+                    }
+                }
+                for (; i < rowEnd; i++) {
+                    long[] ai = a[i];
+                    long[] ci = c[i];
+                    for (int k = k0; k < k1; k++) {
+                        long[] bk = b[k];
+                        long x = ai[k];
+                        for (int j = j0; j < j1; j++) {
+                            ci[j] += x * bk[j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes C = A * B on a ForkJoinPool. The output is halved recursively along its longer side
+     * until a block costs at most {@link #PARALLEL_THRESHOLD} multiply-adds, and every block is then
+     * computed by the serial kernel. Each element is written by exactly one task with the same
+     * summation order as the serial kernel, so the result does not depend on the parallelism.
+     *
+     * @param type the element type, one of the ITensor type constants
+     * @param a the rows of A, an m×n array of that type
+     * @param b the rows of B, an n×p array of that type
+     * @param c the rows of C, an m×p array of that type; must not share rows with a or b
+     * @param columns p, the number of columns of C
+     * @param pool the pool running the tasks
+     */
+    static void multiplyParallel(byte type, Object[] a, Object[] b, Object[] c, int columns, ForkJoinPool pool) {
+        pool.invoke(new Task(type, a, b, c, 0, c.length, 0, columns));
+    }
+
+    private static final class Task extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final byte     type;
+        private final Object[] a, b, c;
+        private final int      rowStart, rowEnd, colStart, colEnd;
+
+        Task(byte type, Object[] a, Object[] b, Object[] c, int rowStart, int rowEnd, int colStart, int colEnd) {
+            this.type = type;
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+            this.colStart = colStart;
+            this.colEnd = colEnd;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = rowEnd - rowStart;
+            int columns = colEnd - colStart;
+            if ((long) rows * columns * b.length > PARALLEL_THRESHOLD) {
+                if (rows >= columns && rows >= 8) {
+                    // Split on a multiple of 4 so both halves keep the full register tile
+                    int mid = rowStart + ((rows / 2 + 3) & ~3);
+                    invokeAll(new Task(type, a, b, c, rowStart, mid, colStart, colEnd),
+                              new Task(type, a, b, c, mid, rowEnd, colStart, colEnd));
+                    return;
+                }
+                if (columns >= 16) {
+                    int mid = colStart + ((columns / 2 + 7) & ~7);
+                    invokeAll(new Task(type, a, b, c, rowStart, rowEnd, colStart, mid),
+                              new Task(type, a, b, c, rowStart, rowEnd, mid, colEnd));
+                    return;
+                }
+            }
+
+            switch (type) {
+            case ITensor.TYPE_INT:
+                multiply((int[][]) a, (int[][]) b, (int[][]) c, rowStart, rowEnd, colStart, colEnd);
+                break;
+            case ITensor.TYPE_LONG:
+                multiply((long[][]) a, (long[][]) b, (long[][]) c, rowStart, rowEnd, colStart, colEnd);
+                break;
+            case ITensor.TYPE_FLOAT:
+                multiply((float[][]) a, (float[][]) b, (float[][]) c, rowStart, rowEnd, colStart, colEnd);
+                break;
+            case ITensor.TYPE_DOUBLE:
+                multiply((double[][]) a, (double[][]) b, (double[][]) c, rowStart, rowEnd, colStart, colEnd);
+                break;
+            default:
+                throw new IllegalArgumentException("Gemm:multiplyParallel: unsupported type: " + type);
+            }
+        }
+    }
+}
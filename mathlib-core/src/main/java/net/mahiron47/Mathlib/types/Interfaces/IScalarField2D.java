@@ -0,0 +1,14 @@
+package net.mahiron47.mathlib.types.interfaces;
+
+public interface IScalarField2D {
+    /**
+     * Samples the field at the specified position.
+     * Implementations used by the bulk and parallel noise utilities must be
+     * safe to call from several threads at once.
+     * 
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the value of the field at (x,y)
+     */
+    double sample(double x, double y);
+}
@@ -0,0 +1,15 @@
+package net.mahiron47.mathlib.types.interfaces;
+
+public interface IScalarField3D {
+    /**
+     * Samples the field at the specified position.
+     * Implementations used by the bulk and parallel noise utilities must be
+     * safe to call from several threads at once.
+     * 
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     * @return the value of the field at (x,y,z)
+     */
+    double sample(double x, double y, double z);
+}
@@ -0,0 +1,298 @@
+package net.mahiron47.mathlib.types;
+
+import net.mahiron47.mathlib.types.interfaces.IMatrix;
+import net.mahiron47.mathlib.types.interfaces.ITensor;
+
+/**
+ * LU decomposition with partial pivoting of a square matrix, P * A = L * U.
+ *
+ * <pre>
+ * L is unit lower triangular and U is upper triangular:
+ * | 1    0    0   |   | u11  u12  u13 |
+ * | l21  1    0   | * | 0    u22  u23 |
+ * | l31  l32  1   |   | 0    0    u33 |
+ * </pre>
+ *
+ * The factorization is computed once in O(n³) in double precision, whatever the type of the
+ * source matrix, and then answers determinants, solves and inverses in O(n²) per right-hand side.
+ */
+public class LUDecomposition {
+    private final double[] lu;
+    private final int[]    pivot;
+    private final int      n;
+    private final int      pivotSign;
+
+    /**
+     * Factors a square matrix.
+     *
+     * @param matrix the matrix to factor
+     */
+    public LUDecomposition(IMatrix matrix) {
+        assert matrix != null : "LUDecomposition:constructor: matrix == null";
+        assert matrix.getDimensions()[0] == matrix.getDimensions()[1] : "LUDecomposition:constructor: matrix is not square";
+
+        this.n = matrix.getDimensions()[0];
+        this.lu = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                switch (matrix.getType()) {
+                case ITensor.TYPE_INT:
+                    lu[i * n + j] = matrix.geti(i, j);
+                    break;
+                case ITensor.TYPE_LONG:
+                    lu[i * n + j] = matrix.getl(i, j);
+                    break;
+                case ITensor.TYPE_FLOAT:
+                    lu[i * n + j] = matrix.getf(i, j);
+                    break;
+                default:
+                    lu[i * n + j] = matrix.getd(i, j);
+                    break;
+                }
+            }
+        }
+        this.pivot = new int[n];
+        this.pivotSign = factor(lu, n, pivot);
+    }
+
+    /**
+     * Factors a row-major n×n matrix, taking ownership of the array.
+     */
+    LUDecomposition(double[] data, int n) {
+        this.n = n;
+        this.lu = data;
+        this.pivot = new int[n];
+        this.pivotSign = factor(lu, n, pivot);
+    }
+
+    /**
+     * Factors a row-major n×n matrix in place into the packed L and U factors.
+     *
+     * @param a the matrix, overwritten with L below and U on and above the diagonal
+     * @param n the dimension
+     * @param pivot receives the source row of every row of the result, may be null
+     * @return the sign of the row permutation, +1 or -1
+     */
+    static int factor(double[] a, int n, int[] pivot) {
+        if (pivot != null) {
+            for (int i = 0; i < n; i++) {
+                pivot[i] = i;
+            }
+        }
+        int sign = 1;
+
+        for (int k = 0; k < n; k++) {
+            // Pivot on the largest remaining entry of column k to bound the growth of rounding errors
+            int p = k;
+            double max = Math.abs(a[k * n + k]);
+            for (int i = k + 1; i < n; i++) {
+                double value = Math.abs(a[i * n + k]);
+                if (value > max) {
+                    max = value;
+                    p = i;
+                }
+            }
+            if (p != k) {
+                int rowP = p * n, rowK = k * n;
+                for (int j = 0; j < n; j++) {
+                    double t = a[rowP + j];
+                    a[rowP + j] = a[rowK + j];
+                    a[rowK + j] = t;
+                }
+                if (pivot != null) {
+                    int t = pivot[p];
+                    pivot[p] = pivot[k];
+                    pivot[k] = t;
+                }
+                sign = -sign;
+            }
+
+            double diagonal = a[k * n + k];
+            if (diagonal == 0) {
+                // Singular: column k is already zero below the diagonal
+                continue;
+            }
+            int rowK = k * n;
+            for (int i = k + 1; i < n; i++) {
+                int rowI = i * n;
+                double factor = a[rowI + k] / diagonal;
+                a[rowI + k] = factor;
+                for (int j = k + 1; j < n; j++) {
+                    a[rowI + j] -= factor * a[rowK + j];
+                }
+            }
+        }
+        return sign;
+    }
+
+    /**
+     * Computes the determinant of a factored matrix.
+     *
+     * @param a the packed factors written by {@link #factor(double[], int, int[])}
+     * @param n the dimension
+     * @param sign the permutation sign returned by {@link #factor(double[], int, int[])}
+     * @return the determinant
+     */
+    static double determinant(double[] a, int n, int sign) {
+        double det = sign;
+        for (int k = 0; k < n; k++) {
+            det *= a[k * n + k];
+        }
+        return det;
+    }
+
+    public int getSize() {
+        return n;
+    }
+
+    public double determinant() {
+        return determinant(lu, n, pivotSign);
+    }
+
+    /**
+     * Checks whether the matrix is singular, i.e. U has a zero on its diagonal.
+     *
+     * @return true if the matrix is singular
+     */
+    public boolean isSingular() {
+        for (int k = 0; k < n; k++) {
+            if (lu[k * n + k] == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the row permutation: row i of P * A is row {@code getPivot()[i]} of A.
+     *
+     * @return a copy of the pivot indices
+     */
+    public int[] getPivot() {
+        return pivot.clone();
+    }
+
+    public Mat getL() {
+        double[][] l = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                l[i][j] = lu[i * n + j];
+            }
+            l[i][i] = 1.0;
+        }
+        return new Mat(l, ITensor.TYPE_DOUBLE);
+    }
+
+    public Mat getU() {
+        double[][] u = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i; j < n; j++) {
+                u[i][j] = lu[i * n + j];
+            }
+        }
+        return new Mat(u, ITensor.TYPE_DOUBLE);
+    }
+
+    /**
+     * Solves A * x = b.
+     *
+     * @param b the right-hand side, of length n
+     * @return a new array holding x
+     * @throws ArithmeticException if the matrix is singular
+     */
+    public double[] solve(double[] b) {
+        assert b != null : "LUDecomposition:solve: b == null";
+        assert b.length == n : "LUDecomposition:solve: b must have length " + n;
+
+        if (isSingular()) {
+            throw new ArithmeticException("LUDecomposition:solve: matrix is singular");
+        }
+
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = b[pivot[i]];
+        }
+        substitute(x, 0);
+        return x;
+    }
+
+    /**
+     * Solves A * X = B for several right-hand sides at once.
+     *
+     * @param b the right-hand sides as the columns of an n×m matrix
+     * @return a new double Mat holding X
+     * @throws ArithmeticException if the matrix is singular
+     */
+    public Mat solve(IMatrix b) {
+        assert b != null : "LUDecomposition:solve: b == null";
+        assert b.getDimensions()[0] == n : "LUDecomposition:solve: b must have " + n + " rows";
+
+        if (isSingular()) {
+            throw new ArithmeticException("LUDecomposition:solve: matrix is singular");
+        }
+
+        int m = b.getDimensions()[1];
+        double[] x = new double[n * m];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                x[j * n + i] = b.getd(pivot[i], j);
+            }
+        }
+        for (int j = 0; j < m; j++) {
+            substitute(x, j * n);
+        }
+
+        double[][] result = new double[n][m];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                result[i][j] = x[j * n + i];
+            }
+        }
+        return new Mat(result, ITensor.TYPE_DOUBLE);
+    }
+
+    /**
+     * Computes the inverse of the matrix.
+     *
+     * @return a new double Mat holding A^-1
+     * @throws ArithmeticException if the matrix is singular
+     */
+    public Mat inverse() {
+        if (isSingular()) {
+            throw new ArithmeticException("LUDecomposition:inverse: matrix is singular");
+        }
+
+        double[][] result = new double[n][n];
+        double[] x = new double[n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < n; i++) {
+                x[i] = pivot[i] == j ? 1.0 : 0.0;
+            }
+            substitute(x, 0);
+            for (int i = 0; i < n; i++) {
+                result[i][j] = x[i];
+            }
+        }
+        return new Mat(result, ITensor.TYPE_DOUBLE);
+    }
+
+    /**
+     * Solves L * U * x = y in place by forward and back substitution.
+     */
+    private void substitute(double[] x, int offset) {
+        for (int i = 1; i < n; i++) {
+            double sum = x[offset + i];
+            for (int k = 0; k < i; k++) {
+                sum -= lu[i * n + k] * x[offset + k];
+            }
+            x[offset + i] = sum;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            double sum = x[offset + i];
+            for (int k = i + 1; k < n; k++) {
+                sum -= lu[i * n + k] * x[offset + k];
+            }
+            x[offset + i] = sum / lu[i * n + i];
+        }
+    }
+}
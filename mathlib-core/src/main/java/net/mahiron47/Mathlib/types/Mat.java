@@ -1,5 +1,7 @@
 package net.mahiron47.mathlib.types;
 
+import java.util.concurrent.ForkJoinPool;
+
 import net.mahiron47.mathlib.types.interfaces.ITensor;
 import net.mahiron47.mathlib.types.interfaces.IMatrix;
 
@@ -128,6 +130,17 @@ public class Mat implements IMatrix {
         this.type = type;
     }
 
+    /**
+     * Creates a zero matrix without copying, for results computed in place.
+     */
+    private Mat(int rows, int columns, byte type) {
+        Idata = type == ITensor.TYPE_INT ? new int[rows][columns] : null;
+        Ldata = type == ITensor.TYPE_LONG ? new long[rows][columns] : null;
+        Fdata = type == ITensor.TYPE_FLOAT ? new float[rows][columns] : null;
+        Ddata = type == ITensor.TYPE_DOUBLE ? new double[rows][columns] : null;
+        this.type = type;
+    }
+
     @Override
     public byte getType() {
         return this.type;
@@ -384,78 +397,58 @@ public class Mat implements IMatrix {
         }
     }
 
+    /**
+     * Computes the exact determinant of this int matrix by Bareiss elimination in O(n³).
+     *
+     * @return the determinant
+     * @throws ArithmeticException if the determinant does not fit in an int
+     */
     @Override
     public int deti() {
         assert this.getDimensions()[0] == this.getDimensions()[1] : "Mat:getDeterminant: matrix is not square";
         assert Idata != null : "Mat:getDeterminant: Idata == null";
 
-        switch (Idata.length) {
-        case 1:
+        if (Idata.length == 1) {
             return Idata[0][0];
-        case 2:
-            return Idata[0][0] * Idata[1][1] - Idata[0][1] * Idata[1][0];
-        default:
-            int det = 0;
-
-            for (int j = 0; j < Idata.length; j++) {
-                // Create minor matrix (n-1 × n-1)
-                int[][] minor = new int[Idata.length - 1][Idata.length - 1];
-                for (int i = 1; i < Idata.length; i++) {
-                    for (int k = 0, minorCol = 0; k < Idata.length; k++, minorCol++) {
-                        if (k != j) {
-                            minor[i - 1][minorCol] = Idata[i][k];
-                        }
-                    }
-                }
-
-                int minorDet = new Mat(minor, this.type).deti();
-
-                if (j % 2 == 0) {
-                    det += Idata[0][j] * minorDet;
-                } else {
-                    det -= Idata[0][j] * minorDet;
-                }
-            }
-
-            return det;
         }
+        return Math.toIntExact(Bareiss.determinant(toRowMajorLong(), Idata.length, true));
     }
 
+    /**
+     * Computes the exact determinant of this long matrix by Bareiss elimination in O(n³).
+     *
+     * @return the determinant
+     * @throws ArithmeticException if the determinant or an intermediate minor does not fit in a long
+     * @see #detl(boolean)
+     */
     @Override
     public long detl() {
         assert this.getDimensions()[0] == this.getDimensions()[1] : "Mat:getDeterminant: matrix is not square";
         assert Ldata != null : "Mat:getDeterminant: Ldata == null";
 
-        switch (Ldata.length) {
-        case 1:
-            return Ldata[0][0];
-        case 2:
-            return Ldata[0][0] * Ldata[1][1] - Ldata[0][1] * Ldata[1][0];
-        default:
-            long det = 0;
-
-            for (int j = 0; j < Ldata.length; j++) {
-                // Create minor matrix (n-1 × n-1)
-                long[][] minor = new long[Ldata.length - 1][Ldata.length - 1];
-                for (int i = 1; i < Ldata.length; i++) {
-                    for (int k = 0, minorCol = 0; k < Ldata.length; k++, minorCol++) {
-                        if (k != j) {
-                            minor[i - 1][minorCol] = Ldata[i][k];
-                        }
-                    }
-                }
-
-                long minorDet = new Mat(minor, this.type).detl();
+        return detl(true);
+    }
 
-                if (j % 2 == 0) {
-                    det += Ldata[0][j] * minorDet;
-                } else {
-                    det -= Ldata[0][j] * minorDet;
-                }
-            }
+    /**
+     * Computes the determinant of this int or long matrix by Bareiss fraction-free elimination in O(n³).
+     * Every intermediate value is a minor of the matrix and every division is exact, so the result is
+     * exact as long as nothing overflows.
+     *
+     * @param overflowChecked if true, products that would overflow a long are accumulated in 128 bits and
+     *                        an ArithmeticException is thrown instead of returning a wrong result; if false,
+     *                        plain long arithmetic is used and the result is undefined on overflow
+     * @return the determinant
+     * @throws ArithmeticException if overflowChecked and the determinant or an intermediate minor does not fit in a long
+     */
+    public long detl(boolean overflowChecked) {
+        assert this.getDimensions()[0] == this.getDimensions()[1] : "Mat:getDeterminant: matrix is not square";
+        assert this.type == ITensor.TYPE_INT || this.type == ITensor.TYPE_LONG : "Mat:getDeterminant: matrix is not integral";
 
-            return det;
+        int n = this.getDimensions()[0];
+        if (n == 1) {
+            return this.type == ITensor.TYPE_INT ? Idata[0][0] : Ldata[0][0];
         }
+        return Bareiss.determinant(toRowMajorLong(), n, overflowChecked);
     }
 
     @Override
@@ -469,29 +462,10 @@ public class Mat implements IMatrix {
         case 2:
             return Fdata[0][0] * Fdata[1][1] - Fdata[0][1] * Fdata[1][0];
         default:
-            float det = 0;
-
-            for (int j = 0; j < Fdata.length; j++) {
-                // Create minor matrix (n-1 × n-1)
-                float[][] minor = new float[Fdata.length - 1][Fdata.length - 1];
-                for (int i = 1; i < Fdata.length; i++) {
-                    for (int k = 0, minorCol = 0; k < Fdata.length; k++, minorCol++) {
-                        if (k != j) {
-                            minor[i - 1][minorCol] = Fdata[i][k];
-                        }
-                    }
-                }
-
-                float minorDet = new Mat(minor, this.type).detf();
-
-                if (j % 2 == 0) {
-                    det += Fdata[0][j] * minorDet;
-                } else {
-                    det -= Fdata[0][j] * minorDet;
-                }
-            }
-
-            return det;
+            // LU decomposition with partial pivoting: O(n³) on a single scratch array
+            double[] lu = toRowMajor();
+            int sign = LUDecomposition.factor(lu, Fdata.length, null);
+            return (float) LUDecomposition.determinant(lu, Fdata.length, sign);
         }
     }
 
@@ -506,30 +480,23 @@ public class Mat implements IMatrix {
         case 2:
             return Ddata[0][0] * Ddata[1][1] - Ddata[0][1] * Ddata[1][0];
         default:
-            double det = 0;
-
-            for (int j = 0; j < Ddata.length; j++) {
-                // Create minor matrix (n-1 × n-1)
-                double[][] minor = new double[Ddata.length - 1][Ddata.length - 1];
-                for (int i = 1; i < Ddata.length; i++) {
-                    for (int k = 0, minorCol = 0; k < Ddata.length; k++, minorCol++) {
-                        if (k != j) {
-                            minor[i - 1][minorCol] = Ddata[i][k];
-                        }
-                    }
-                }
-
-                double minorDet = new Mat(minor, this.type).detd();
+            // LU decomposition with partial pivoting: O(n³) on a single scratch array
+            double[] lu = toRowMajor();
+            int sign = LUDecomposition.factor(lu, Ddata.length, null);
+            return LUDecomposition.determinant(lu, Ddata.length, sign);
+        }
+    }
 
-                if (j % 2 == 0) {
-                    det += Ddata[0][j] * minorDet;
-                } else {
-                    det -= Ddata[0][j] * minorDet;
-                }
-            }
+    /**
+     * Computes the LU decomposition with partial pivoting of this square matrix, e.g. to solve
+     * linear systems or invert it. The factorization is carried out in double precision.
+     *
+     * @return a new LUDecomposition
+     */
+    public LUDecomposition lu() {
+        assert this.getDimensions()[0] == this.getDimensions()[1] : "Mat:lu: matrix is not square";
 
-            return det;
-        }
+        return new LUDecomposition(toRowMajor(), this.getDimensions()[0]);
     }
 
     @Override
@@ -705,65 +672,223 @@ public class Mat implements IMatrix {
         assert other != null : "Mat:multiply: other == null";
         assert this.getDimensions()[1] == other.getDimensions()[0] : "Mat:multiply: column dimensions do not match";
 
+        return multiply(other, new Mat(this.getDimensions()[0], other.getDimensions()[1], this.type));
+    }
+
+    /**
+     * Performs matrix multiplication with another matrix, writing the product into an existing matrix.
+     * Uses the blocked kernels of {@link Gemm}; an operand that is not a Mat of this type is copied
+     * into one first, which costs O(n²) against the O(n³) product.
+     *
+     * @param other the matrix B<sub>n×k</sub> to multiply with this matrix
+     * @param dest the matrix receiving C<sub>m×k</sub>, of the same type as this matrix; may be this or other
+     * @return dest
+     */
+    public Mat multiply(IMatrix other, Mat dest) {
+        assert other != null : "Mat:multiply: other == null";
+        assert dest != null : "Mat:multiply: dest == null";
+        assert this.getDimensions()[1] == other.getDimensions()[0] : "Mat:multiply: column dimensions do not match";
+        assert dest.type == this.type : "Mat:multiply: dest type does not match";
+        assert dest.getDimensions()[0] == this.getDimensions()[0] : "Mat:multiply: dest row dimensions do not match";
+        assert dest.getDimensions()[1] == other.getDimensions()[1] : "Mat:multiply: dest column dimensions do not match";
+
+        if (dest == this || dest == other) {
+            // The kernel overwrites rows of C while later rows still read A and B
+            return multiply(other).copyTo(dest);
+        }
+
+        Mat mat = asMat(other, this.type);
         switch (this.type) {
         case ITensor.TYPE_INT:
-            assert Idata != null : "Mat:multiply: Idata == null";
+            Gemm.multiply(Idata, mat.Idata, dest.Idata, 0, Idata.length, 0, mat.Idata[0].length);
+            break;
+        case ITensor.TYPE_LONG:
+            Gemm.multiply(Ldata, mat.Ldata, dest.Ldata, 0, Ldata.length, 0, mat.Ldata[0].length);
+            break;
+        case ITensor.TYPE_FLOAT:
+            Gemm.multiply(Fdata, mat.Fdata, dest.Fdata, 0, Fdata.length, 0, mat.Fdata[0].length);
+            break;
+        case ITensor.TYPE_DOUBLE:
+            Gemm.multiply(Ddata, mat.Ddata, dest.Ddata, 0, Ddata.length, 0, mat.Ddata[0].length);
+            break;
+        default:
+            throw new IllegalArgumentException("Mat:multiply: unsupported type: " + type);
+        }
+        return dest;
+    }
 
-            int[][] resultIdata = new int[Idata.length][other.getDimensions()[1]];
-            for (int i = 0; i < Idata.length; i++) {
-                for (int j = 0; j < other.getDimensions()[1]; j++) {
-                    resultIdata[i][j] = 0;
-                    for (int k = 0; k < Idata[i].length; k++) {
-                        resultIdata[i][j] += Idata[i][k] * other.geti(k, j);
-                    }
-                }
-            }
+    /**
+     * Performs matrix multiplication with another matrix on the common ForkJoinPool.
+     *
+     * @param other the matrix B<sub>n×k</sub> to multiply with this matrix
+     * @return a new Mat representing the product C<sub>m×k</sub>
+     * @see #multiplyParallel(IMatrix, Mat, ForkJoinPool)
+     */
+    public Mat multiplyParallel(IMatrix other) {
+        assert other != null : "Mat:multiplyParallel: other == null";
+        assert this.getDimensions()[1] == other.getDimensions()[0] : "Mat:multiplyParallel: column dimensions do not match";
+
+        return multiplyParallel(other, new Mat(this.getDimensions()[0], other.getDimensions()[1], this.type), ForkJoinPool.commonPool());
+    }
 
-            return new Mat(resultIdata, this.type);
+    /**
+     * Performs matrix multiplication with another matrix, splitting the product into blocks computed
+     * in parallel. Products too small to be worth splitting run on the calling thread. The result is
+     * identical to {@link #multiply(IMatrix, Mat)} whatever the parallelism of the pool.
+     *
+     * @param other the matrix B<sub>n×k</sub> to multiply with this matrix
+     * @param dest the matrix receiving C<sub>m×k</sub>, of the same type as this matrix; may be this or other
+     * @param pool the pool running the blocks, e.g. {@code new ForkJoinPool(threads)} to bound the parallelism
+     * @return dest
+     */
+    public Mat multiplyParallel(IMatrix other, Mat dest, ForkJoinPool pool) {
+        assert other != null : "Mat:multiplyParallel: other == null";
+        assert dest != null : "Mat:multiplyParallel: dest == null";
+        assert pool != null : "Mat:multiplyParallel: pool == null";
+        assert this.getDimensions()[1] == other.getDimensions()[0] : "Mat:multiplyParallel: column dimensions do not match";
+        assert dest.type == this.type : "Mat:multiplyParallel: dest type does not match";
+        assert dest.getDimensions()[0] == this.getDimensions()[0] : "Mat:multiplyParallel: dest row dimensions do not match";
+        assert dest.getDimensions()[1] == other.getDimensions()[1] : "Mat:multiplyParallel: dest column dimensions do not match";
+
+        int rows = this.getDimensions()[0];
+        int columns = other.getDimensions()[1];
+        if ((long) rows * columns * this.getDimensions()[1] <= Gemm.PARALLEL_THRESHOLD) {
+            return multiply(other, dest);
+        }
+        if (dest == this || dest == other) {
+            return multiplyParallel(other, new Mat(rows, columns, this.type), pool).copyTo(dest);
+        }
+
+        Mat mat = asMat(other, this.type);
+        switch (this.type) {
+        case ITensor.TYPE_INT:
+            Gemm.multiplyParallel(this.type, Idata, mat.Idata, dest.Idata, columns, pool);
+            break;
         case ITensor.TYPE_LONG:
-            assert Ldata != null : "Mat:multiply: Ldata == null";
+            Gemm.multiplyParallel(this.type, Ldata, mat.Ldata, dest.Ldata, columns, pool);
+            break;
+        case ITensor.TYPE_FLOAT:
+            Gemm.multiplyParallel(this.type, Fdata, mat.Fdata, dest.Fdata, columns, pool);
+            break;
+        case ITensor.TYPE_DOUBLE:
+            Gemm.multiplyParallel(this.type, Ddata, mat.Ddata, dest.Ddata, columns, pool);
+            break;
+        default:
+            throw new IllegalArgumentException("Mat:multiplyParallel: unsupported type: " + type);
+        }
+        return dest;
+    }
 
-            long[][] resultLdata = new long[Ldata.length][other.getDimensions()[1]];
-            for (int i = 0; i < Ldata.length; i++) {
-                for (int j = 0; j < other.getDimensions()[1]; j++) {
-                    resultLdata[i][j] = 0;
-                    for (int k = 0; k < Ldata[i].length; k++) {
-                        resultLdata[i][j] += Ldata[i][k] * other.getl(k, j);
-                    }
-                }
+    /**
+     * Copies the elements into a matrix of the same type and dimensions.
+     *
+     * @return dest
+     */
+    private Mat copyTo(Mat dest) {
+        for (int i = 0; i < this.getDimensions()[0]; i++) {
+            switch (this.type) {
+            case ITensor.TYPE_INT:
+                System.arraycopy(Idata[i], 0, dest.Idata[i], 0, Idata[i].length);
+                break;
+            case ITensor.TYPE_LONG:
+                System.arraycopy(Ldata[i], 0, dest.Ldata[i], 0, Ldata[i].length);
+                break;
+            case ITensor.TYPE_FLOAT:
+                System.arraycopy(Fdata[i], 0, dest.Fdata[i], 0, Fdata[i].length);
+                break;
+            default:
+                System.arraycopy(Ddata[i], 0, dest.Ddata[i], 0, Ddata[i].length);
+                break;
             }
+        }
+        return dest;
+    }
 
-            return new Mat(resultLdata, this.type);
-        case ITensor.TYPE_FLOAT:
-            assert Fdata != null : "Mat:multiply: Fdata == null";
+    /**
+     * Returns the matrix itself if it is a Mat of the given type, else a copy of it converted to that type.
+     */
+    private static Mat asMat(IMatrix matrix, byte type) {
+        if (matrix instanceof Mat && ((Mat) matrix).type == type) {
+            return (Mat) matrix;
+        }
 
-            float[][] resultFdata = new float[Fdata.length][other.getDimensions()[1]];
-            for (int i = 0; i < Fdata.length; i++) {
-                for (int j = 0; j < other.getDimensions()[1]; j++) {
-                    resultFdata[i][j] = 0;
-                    for (int k = 0; k < Fdata[i].length; k++) {
-                        resultFdata[i][j] += Fdata[i][k] * other.getf(k, j);
-                    }
+        int rows = matrix.getDimensions()[0];
+        int columns = matrix.getDimensions()[1];
+        Mat result = new Mat(rows, columns, type);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                switch (type) {
+                case ITensor.TYPE_INT:
+                    result.Idata[i][j] = matrix.geti(i, j);
+                    break;
+                case ITensor.TYPE_LONG:
+                    result.Ldata[i][j] = matrix.getl(i, j);
+                    break;
+                case ITensor.TYPE_FLOAT:
+                    result.Fdata[i][j] = matrix.getf(i, j);
+                    break;
+                default:
+                    result.Ddata[i][j] = matrix.getd(i, j);
+                    break;
                 }
             }
+        }
+        return result;
+    }
 
-            return new Mat(resultFdata, this.type);
-        case ITensor.TYPE_DOUBLE:
-            assert Ddata != null : "Mat:multiply: Ddata == null";
-
-            double[][] resultDdata = new double[Ddata.length][other.getDimensions()[1]];
-            for (int i = 0; i < Ddata.length; i++) {
-                for (int j = 0; j < other.getDimensions()[1]; j++) {
-                    resultDdata[i][j] = 0;
-                    for (int k = 0; k < Ddata[i].length; k++) {
-                        resultDdata[i][j] += Ddata[i][k] * other.getd(k, j);
-                    }
+    /**
+     * Copies the elements into a new row-major double array.
+     */
+    private double[] toRowMajor() {
+        int rows = this.getDimensions()[0];
+        int columns = this.getDimensions()[1];
+        double[] result = new double[rows * columns];
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                switch (this.type) {
+                case ITensor.TYPE_INT:
+                    result[i * columns + j] = Idata[i][j];
+                    break;
+                case ITensor.TYPE_LONG:
+                    result[i * columns + j] = Ldata[i][j];
+                    break;
+                case ITensor.TYPE_FLOAT:
+                    result[i * columns + j] = Fdata[i][j];
+                    break;
+                case ITensor.TYPE_DOUBLE:
+                    result[i * columns + j] = Ddata[i][j];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Mat:toRowMajor: unsupported type: " + type);
                 }
             }
+        }
+        return result;
+    }
 
-            return new Mat(resultDdata, this.type);
-        default:
-            throw new IllegalArgumentException("Mat:multiply: unsupported type: " + type);
+    /**
+     * Copies the elements of an int or long matrix into a new row-major long array.
+     */
+    private long[] toRowMajorLong() {
+        int rows = this.getDimensions()[0];
+        int columns = this.getDimensions()[1];
+        long[] result = new long[rows * columns];
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                switch (this.type) {
+                case ITensor.TYPE_INT:
+                    result[i * columns + j] = Idata[i][j];
+                    break;
+                case ITensor.TYPE_LONG:
+                    result[i * columns + j] = Ldata[i][j];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Mat:toRowMajorLong: unsupported type: " + type);
+                }
+            }
         }
+        return result;
     }
 }
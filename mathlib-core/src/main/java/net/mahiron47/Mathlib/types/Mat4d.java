@@ -229,6 +229,16 @@ public class Mat4d implements IMatrix {
         assert other.getDimensions()[0] == 4 : "Mat4d:add: other matrix must have 4 rows";
         assert other.getDimensions()[1] == 4 : "Mat4d:add: other matrix must have 4 columns";
         
+        if (other instanceof Mat4d) {
+            Mat4d mat = (Mat4d) other;
+            return new Mat4d(
+                this.a11 + mat.a11, this.a12 + mat.a12, this.a13 + mat.a13, this.a14 + mat.a14,
+                this.a21 + mat.a21, this.a22 + mat.a22, this.a23 + mat.a23, this.a24 + mat.a24,
+                this.a31 + mat.a31, this.a32 + mat.a32, this.a33 + mat.a33, this.a34 + mat.a34,
+                this.a41 + mat.a41, this.a42 + mat.a42, this.a43 + mat.a43, this.a44 + mat.a44
+            );
+        }
+
         return new Mat4d(
             this.a11 + other.getd(0, 0), this.a12 + other.getd(0, 1), this.a13 + other.getd(0, 2), this.a14 + other.getd(0, 3),
             this.a21 + other.getd(1, 0), this.a22 + other.getd(1, 1), this.a23 + other.getd(1, 2), this.a24 + other.getd(1, 3),
@@ -242,6 +252,16 @@ public class Mat4d implements IMatrix {
         assert other.getDimensions()[0] == 4 : "Mat4d:subtract: other matrix must have 4 rows";
         assert other.getDimensions()[1] == 4 : "Mat4d:subtract: other matrix must have 4 columns";
         
+        if (other instanceof Mat4d) {
+            Mat4d mat = (Mat4d) other;
+            return new Mat4d(
+                this.a11 - mat.a11, this.a12 - mat.a12, this.a13 - mat.a13, this.a14 - mat.a14,
+                this.a21 - mat.a21, this.a22 - mat.a22, this.a23 - mat.a23, this.a24 - mat.a24,
+                this.a31 - mat.a31, this.a32 - mat.a32, this.a33 - mat.a33, this.a34 - mat.a34,
+                this.a41 - mat.a41, this.a42 - mat.a42, this.a43 - mat.a43, this.a44 - mat.a44
+            );
+        }
+
         return new Mat4d(
             this.a11 - other.getd(0, 0), this.a12 - other.getd(0, 1), this.a13 - other.getd(0, 2), this.a14 - other.getd(0, 3),
             this.a21 - other.getd(1, 0), this.a22 - other.getd(1, 1), this.a23 - other.getd(1, 2), this.a24 - other.getd(1, 3),
@@ -294,6 +314,31 @@ public class Mat4d implements IMatrix {
     public IMatrix multiply(IMatrix other) {
         assert other != null : "Mat4d: multiply: Other matrix cannot be null";
         assert this.getDimensions()[1] == other.getDimensions()[0] : "Mat4d:multiply: Incompatible dimensions for multiplication";
+        if (other instanceof Mat4d) {
+            Mat4d mat = (Mat4d) other;
+            return new Mat4d(
+                this.a11 * mat.a11 + this.a12 * mat.a21 + this.a13 * mat.a31 + this.a14 * mat.a41,
+                this.a11 * mat.a12 + this.a12 * mat.a22 + this.a13 * mat.a32 + this.a14 * mat.a42,
+                this.a11 * mat.a13 + this.a12 * mat.a23 + this.a13 * mat.a33 + this.a14 * mat.a43,
+                this.a11 * mat.a14 + this.a12 * mat.a24 + this.a13 * mat.a34 + this.a14 * mat.a44,
+                
+                this.a21 * mat.a11 + this.a22 * mat.a21 + this.a23 * mat.a31 + this.a24 * mat.a41,
+                this.a21 * mat.a12 + this.a22 * mat.a22 + this.a23 * mat.a32 + this.a24 * mat.a42,
+                this.a21 * mat.a13 + this.a22 * mat.a23 + this.a23 * mat.a33 + this.a24 * mat.a43,
+                this.a21 * mat.a14 + this.a22 * mat.a24 + this.a23 * mat.a34 + this.a24 * mat.a44,
+                
+                this.a31 * mat.a11 + this.a32 * mat.a21 + this.a33 * mat.a31 + this.a34 * mat.a41,
+                this.a31 * mat.a12 + this.a32 * mat.a22 + this.a33 * mat.a32 + this.a34 * mat.a42,
+                this.a31 * mat.a13 + this.a32 * mat.a23 + this.a33 * mat.a33 + this.a34 * mat.a43,
+                this.a31 * mat.a14 + this.a32 * mat.a24 + this.a33 * mat.a34 + this.a34 * mat.a44,
+                
+                this.a41 * mat.a11 + this.a42 * mat.a21 + this.a43 * mat.a31 + this.a44 * mat.a41,
+                this.a41 * mat.a12 + this.a42 * mat.a22 + this.a43 * mat.a32 + this.a44 * mat.a42,
+                this.a41 * mat.a13 + this.a42 * mat.a23 + this.a43 * mat.a33 + this.a44 * mat.a43,
+                this.a41 * mat.a14 + this.a42 * mat.a24 + this.a43 * mat.a34 + this.a44 * mat.a44
+            );
+        }
+
         switch (other.getDimensions()[1]) {
         case 1:
             double[][] result = new double[4][1];
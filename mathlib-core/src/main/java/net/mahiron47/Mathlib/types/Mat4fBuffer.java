@@ -0,0 +1,61 @@
+package net.mahiron47.mathlib.types;
+
+import java.nio.FloatBuffer;
+
+import net.mahiron47.mathlib.utils.Buffers;
+
+/**
+ * A fixed number of 4x4 float matrices stored off-heap in column-major order.
+ *
+ * <pre>
+ * Matrix i occupies the floats:
+ * | 16*i  ..  16*i + 15 |
+ * </pre>
+ *
+ * The backing buffer can be passed to OpenGL as-is, e.g. as a uniform array of bone or instance transforms.
+ */
+public class Mat4fBuffer {
+    private final FloatBuffer buffer;
+    private final int size;
+
+    public Mat4fBuffer(int size) {
+        assert size >= 0 : "Mat4fBuffer:constructor: size < 0";
+
+        this.buffer = Buffers.createFloatBuffer(size * 16);
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the backing direct buffer. Its position and limit are never changed by this class.
+     *
+     * @return the backing buffer
+     */
+    public FloatBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Copies matrix i into {@code dest}.
+     *
+     * @param i the index of the matrix
+     * @param dest the matrix receiving the elements
+     * @return {@code dest}
+     */
+    public Mat4f get(int i, Mat4f dest) {
+        assert i >= 0 && i < size : "Mat4fBuffer:get: Index out of bounds";
+        assert dest != null : "Mat4fBuffer:get: Destination matrix cannot be null";
+
+        return dest.load(i * 16, buffer);
+    }
+
+    public void set(int i, Mat4f matrix) {
+        assert i >= 0 && i < size : "Mat4fBuffer:set: Index out of bounds";
+        assert matrix != null : "Mat4fBuffer:set: Matrix cannot be null";
+
+        matrix.store(i * 16, buffer);
+    }
+}
@@ -0,0 +1,412 @@
+package net.mahiron47.mathlib.types;
+
+import net.mahiron47.mathlib.types.interfaces.ITensor;
+import net.mahiron47.mathlib.types.interfaces.IMatrix;
+
+/**
+ * Represents a matrix of any size of double values, stored in a single flat row-major array.
+ *
+ * <pre>
+ * Element (i, j) lives at data[i * stride + j]:
+ * | data[0]          data[1]              ...  data[columns - 1]              |
+ * | data[stride]     data[stride + 1]     ...  data[stride + columns - 1]     |
+ * | ...                                                                       |
+ * </pre>
+ *
+ * Unlike {@link Mat}, which keeps one array per row, the rows are contiguous in memory so kernels
+ * over large matrices can stream through {@link #getData()} linearly. Matrices created by this class
+ * have stride == columns; a larger stride only occurs when wrapping a caller's array.
+ */
+public class MatNd implements IMatrix {
+    private final double[] data;
+    private final int      rows;
+    private final int      columns;
+    private final int      stride;
+
+    /**
+     * Creates a zero matrix.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     */
+    public MatNd(int rows, int columns) {
+        assert rows > 0 : "MatNd:constructor: rows <= 0";
+        assert columns > 0 : "MatNd:constructor: columns <= 0";
+
+        this.data = new double[rows * columns];
+        this.rows = rows;
+        this.columns = columns;
+        this.stride = columns;
+    }
+
+    /**
+     * Wraps a row-major array without copying it; changes to either are visible through the other.
+     *
+     * @param data the elements, at least (rows - 1) * stride + columns long
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param stride the distance between the starts of two consecutive rows, at least columns
+     */
+    public MatNd(double[] data, int rows, int columns, int stride) {
+        assert data != null : "MatNd:constructor: data == null";
+        assert rows > 0 : "MatNd:constructor: rows <= 0";
+        assert columns > 0 : "MatNd:constructor: columns <= 0";
+        assert stride >= columns : "MatNd:constructor: stride < columns";
+        assert data.length >= (rows - 1) * stride + columns : "MatNd:constructor: data is too short";
+
+        this.data = data;
+        this.rows = rows;
+        this.columns = columns;
+        this.stride = stride;
+    }
+
+    /**
+     * Copies a jagged array.
+     *
+     * @param data the rows, all of the same length
+     */
+    public MatNd(double[][] data) {
+        this(data.length, data[0].length);
+
+        for (int i = 0; i < rows; i++) {
+            assert data[i].length == columns : "MatNd:constructor: rows have different lengths";
+            System.arraycopy(data[i], 0, this.data, i * stride, columns);
+        }
+    }
+
+    /**
+     * Copies any matrix, converting its elements to double.
+     *
+     * @param matrix the matrix to copy
+     */
+    public MatNd(IMatrix matrix) {
+        this(matrix.getDimensions()[0], matrix.getDimensions()[1]);
+
+        if (matrix instanceof MatNd) {
+            MatNd mat = (MatNd) matrix;
+            for (int i = 0; i < rows; i++) {
+                System.arraycopy(mat.data, i * mat.stride, data, i * stride, columns);
+            }
+            return;
+        }
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                switch (matrix.getType()) {
+                case ITensor.TYPE_INT:
+                    data[i * stride + j] = matrix.geti(i, j);
+                    break;
+                case ITensor.TYPE_LONG:
+                    data[i * stride + j] = matrix.getl(i, j);
+                    break;
+                case ITensor.TYPE_FLOAT:
+                    data[i * stride + j] = matrix.getf(i, j);
+                    break;
+                default:
+                    data[i * stride + j] = matrix.getd(i, j);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the backing array. Element (i, j) is at {@code getData()[i * getStride() + j]}.
+     *
+     * @return the backing array itself, not a copy
+     */
+    public double[] getData() {
+        return data;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    @Override
+    public byte getType() {
+        return ITensor.TYPE_DOUBLE;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || !(obj instanceof IMatrix)) return false;
+        IMatrix mat = (IMatrix) obj;
+
+        if (mat.getDimensions()[0] != rows || mat.getDimensions()[1] != columns) return false;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                if (Double.compare(data[i * stride + j], mat.getd(i, j)) != 0) return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        long result = 31 * rows + columns;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                result = 31 * result + Double.doubleToLongBits(data[i * stride + j]);
+            }
+        }
+        return (int) result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("MatNd[\n");
+        for (int i = 0; i < rows; i++) {
+            builder.append("  [");
+            for (int j = 0; j < columns; j++) {
+                if (j > 0) {
+                    builder.append(", ");
+                }
+                builder.append(String.format("%.12f", data[i * stride + j]));
+            }
+            builder.append("]\n");
+        }
+        return builder.append(']').toString();
+    }
+
+    @Override
+    public int geti(int i, int j) {
+        return (int) getd(i, j);
+    }
+
+    @Override
+    public long getl(int i, int j) {
+        return (long) getd(i, j);
+    }
+
+    @Override
+    public float getf(int i, int j) {
+        return (float) getd(i, j);
+    }
+
+    @Override
+    public double getd(int i, int j) {
+        if (i < 0 || i >= rows || j < 0 || j >= columns) {
+            throw new IndexOutOfBoundsException("Index (" + i + ", " + j + ") is out of bounds for MatNd " + rows + "x" + columns);
+        }
+        return data[i * stride + j];
+    }
+
+    @Override
+    public void set(int i, int j, int a_ij) {
+        set(i, j, (double) a_ij);
+    }
+
+    @Override
+    public void set(int i, int j, long a_ij) {
+        set(i, j, (double) a_ij);
+    }
+
+    @Override
+    public void set(int i, int j, float a_ij) {
+        set(i, j, (double) a_ij);
+    }
+
+    @Override
+    public void set(int i, int j, double a_ij) {
+        if (i < 0 || i >= rows || j < 0 || j >= columns) {
+            throw new IndexOutOfBoundsException("Index (" + i + ", " + j + ") is out of bounds for MatNd " + rows + "x" + columns);
+        }
+        data[i * stride + j] = a_ij;
+    }
+
+    @Override
+    public int[] getDimensions() {
+        return new int[]{rows, columns};
+    }
+
+    @Override
+    public MatNd copy() {
+        return new MatNd(this);
+    }
+
+    @Override
+    public Vec convert(int i) {
+        if (i < 0 || i >= columns) {
+            throw new IndexOutOfBoundsException("Index " + i + " is out of bounds for MatNd with " + columns + " columns");
+        }
+
+        double[] column = new double[rows];
+        for (int k = 0; k < rows; k++) {
+            column[k] = data[k * stride + i];
+        }
+        return new Vec(column, ITensor.TYPE_DOUBLE);
+    }
+
+    @Override
+    public MatNd getTranspose() {
+        MatNd result = new MatNd(columns, rows);
+        double[] out = result.data;
+        for (int i = 0; i < rows; i++) {
+            int row = i * stride;
+            for (int j = 0; j < columns; j++) {
+                out[j * rows + i] = data[row + j];
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int deti() {
+        return (int) detd();
+    }
+
+    @Override
+    public long detl() {
+        return (long) detd();
+    }
+
+    @Override
+    public float detf() {
+        return (float) detd();
+    }
+
+    @Override
+    public double detd() {
+        assert rows == columns : "MatNd:detd: matrix is not square";
+
+        double[] lu = toCompact();
+        int sign = LUDecomposition.factor(lu, rows, null);
+        return LUDecomposition.determinant(lu, rows, sign);
+    }
+
+    /**
+     * Computes the LU decomposition with partial pivoting of this square matrix.
+     *
+     * @return a new LUDecomposition
+     */
+    public LUDecomposition lu() {
+        assert rows == columns : "MatNd:lu: matrix is not square";
+
+        return new LUDecomposition(toCompact(), rows);
+    }
+
+    @Override
+    public MatNd add(IMatrix other) {
+        assert other.getDimensions()[0] == rows : "MatNd:add: row dimensions do not match";
+        assert other.getDimensions()[1] == columns : "MatNd:add: column dimensions do not match";
+
+        MatNd result = new MatNd(rows, columns);
+        double[] out = result.data;
+        if (other instanceof MatNd) {
+            MatNd mat = (MatNd) other;
+            for (int i = 0; i < rows; i++) {
+                int row = i * stride, otherRow = i * mat.stride, outRow = i * columns;
+                for (int j = 0; j < columns; j++) {
+                    out[outRow + j] = data[row + j] + mat.data[otherRow + j];
+                }
+            }
+            return result;
+        }
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                out[i * columns + j] = data[i * stride + j] + other.getd(i, j);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MatNd subtract(IMatrix other) {
+        assert other.getDimensions()[0] == rows : "MatNd:subtract: row dimensions do not match";
+        assert other.getDimensions()[1] == columns : "MatNd:subtract: column dimensions do not match";
+
+        MatNd result = new MatNd(rows, columns);
+        double[] out = result.data;
+        if (other instanceof MatNd) {
+            MatNd mat = (MatNd) other;
+            for (int i = 0; i < rows; i++) {
+                int row = i * stride, otherRow = i * mat.stride, outRow = i * columns;
+                for (int j = 0; j < columns; j++) {
+                    out[outRow + j] = data[row + j] - mat.data[otherRow + j];
+                }
+            }
+            return result;
+        }
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                out[i * columns + j] = data[i * stride + j] - other.getd(i, j);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MatNd multiply(int scalar) {
+        return multiply((double) scalar);
+    }
+
+    @Override
+    public MatNd multiply(long scalar) {
+        return multiply((double) scalar);
+    }
+
+    @Override
+    public MatNd multiply(float scalar) {
+        return multiply((double) scalar);
+    }
+
+    @Override
+    public MatNd multiply(double scalar) {
+        MatNd result = new MatNd(rows, columns);
+        double[] out = result.data;
+        for (int i = 0; i < rows; i++) {
+            int row = i * stride, outRow = i * columns;
+            for (int j = 0; j < columns; j++) {
+                out[outRow + j] = data[row + j] * scalar;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MatNd multiply(IMatrix other) {
+        assert other != null : "MatNd:multiply: other == null";
+        assert columns == other.getDimensions()[0] : "MatNd:multiply: column dimensions do not match";
+
+        MatNd mat = other instanceof MatNd ? (MatNd) other : new MatNd(other);
+        int n = mat.columns;
+        MatNd result = new MatNd(rows, n);
+        double[] out = result.data;
+
+        // i-k-j order: the inner loop walks a row of the result and a row of other, both contiguous
+        for (int i = 0; i < rows; i++) {
+            int row = i * stride, outRow = i * n;
+            for (int k = 0; k < columns; k++) {
+                double a = data[row + k];
+                int otherRow = k * mat.stride;
+                for (int j = 0; j < n; j++) {
+                    out[outRow + j] += a * mat.data[otherRow + j];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies the elements into a new row-major array with stride == columns.
+     */
+    private double[] toCompact() {
+        double[] result = new double[rows * columns];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(data, i * stride, result, i * columns, columns);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,421 @@
+package net.mahiron47.mathlib.types;
+
+import net.mahiron47.mathlib.types.interfaces.ITensor;
+import net.mahiron47.mathlib.types.interfaces.IMatrix;
+
+/**
+ * Represents a matrix of any size of float values, stored in a single flat row-major array.
+ *
+ * <pre>
+ * Element (i, j) lives at data[i * stride + j]:
+ * | data[0]          data[1]              ...  data[columns - 1]              |
+ * | data[stride]     data[stride + 1]     ...  data[stride + columns - 1]     |
+ * | ...                                                                       |
+ * </pre>
+ *
+ * Unlike {@link Mat}, which keeps one array per row, the rows are contiguous in memory so kernels
+ * over large matrices can stream through {@link #getData()} linearly. Matrices created by this class
+ * have stride == columns; a larger stride only occurs when wrapping a caller's array.
+ */
+public class MatNf implements IMatrix {
+    private final float[] data;
+    private final int      rows;
+    private final int      columns;
+    private final int      stride;
+
+    /**
+     * Creates a zero matrix.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     */
+    public MatNf(int rows, int columns) {
+        assert rows > 0 : "MatNf:constructor: rows <= 0";
+        assert columns > 0 : "MatNf:constructor: columns <= 0";
+
+        this.data = new float[rows * columns];
+        this.rows = rows;
+        this.columns = columns;
+        this.stride = columns;
+    }
+
+    /**
+     * Wraps a row-major array without copying it; changes to either are visible through the other.
+     *
+     * @param data the elements, at least (rows - 1) * stride + columns long
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param stride the distance between the starts of two consecutive rows, at least columns
+     */
+    public MatNf(float[] data, int rows, int columns, int stride) {
+        assert data != null : "MatNf:constructor: data == null";
+        assert rows > 0 : "MatNf:constructor: rows <= 0";
+        assert columns > 0 : "MatNf:constructor: columns <= 0";
+        assert stride >= columns : "MatNf:constructor: stride < columns";
+        assert data.length >= (rows - 1) * stride + columns : "MatNf:constructor: data is too short";
+
+        this.data = data;
+        this.rows = rows;
+        this.columns = columns;
+        this.stride = stride;
+    }
+
+    /**
+     * Copies a jagged array.
+     *
+     * @param data the rows, all of the same length
+     */
+    public MatNf(float[][] data) {
+        this(data.length, data[0].length);
+
+        for (int i = 0; i < rows; i++) {
+            assert data[i].length == columns : "MatNf:constructor: rows have different lengths";
+            System.arraycopy(data[i], 0, this.data, i * stride, columns);
+        }
+    }
+
+    /**
+     * Copies any matrix, converting its elements to float.
+     *
+     * @param matrix the matrix to copy
+     */
+    public MatNf(IMatrix matrix) {
+        this(matrix.getDimensions()[0], matrix.getDimensions()[1]);
+
+        if (matrix instanceof MatNf) {
+            MatNf mat = (MatNf) matrix;
+            for (int i = 0; i < rows; i++) {
+                System.arraycopy(mat.data, i * mat.stride, data, i * stride, columns);
+            }
+            return;
+        }
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                switch (matrix.getType()) {
+                case ITensor.TYPE_INT:
+                    data[i * stride + j] = matrix.geti(i, j);
+                    break;
+                case ITensor.TYPE_LONG:
+                    data[i * stride + j] = matrix.getl(i, j);
+                    break;
+                case ITensor.TYPE_FLOAT:
+                    data[i * stride + j] = matrix.getf(i, j);
+                    break;
+                default:
+                    data[i * stride + j] = (float) matrix.getd(i, j);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the backing array. Element (i, j) is at {@code getData()[i * getStride() + j]}.
+     *
+     * @return the backing array itself, not a copy
+     */
+    public float[] getData() {
+        return data;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    @Override
+    public byte getType() {
+        return ITensor.TYPE_FLOAT;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || !(obj instanceof IMatrix)) return false;
+        IMatrix mat = (IMatrix) obj;
+
+        if (mat.getDimensions()[0] != rows || mat.getDimensions()[1] != columns) return false;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                if (Float.compare(data[i * stride + j], mat.getf(i, j)) != 0) return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 * rows + columns;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                result = 31 * result + Float.floatToIntBits(data[i * stride + j]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("MatNf[\n");
+        for (int i = 0; i < rows; i++) {
+            builder.append("  [");
+            for (int j = 0; j < columns; j++) {
+                if (j > 0) {
+                    builder.append(", ");
+                }
+                builder.append(String.format("%.6f", data[i * stride + j]));
+            }
+            builder.append("]\n");
+        }
+        return builder.append(']').toString();
+    }
+
+    @Override
+    public int geti(int i, int j) {
+        return (int) getf(i, j);
+    }
+
+    @Override
+    public long getl(int i, int j) {
+        return (long) getf(i, j);
+    }
+
+    @Override
+    public float getf(int i, int j) {
+        if (i < 0 || i >= rows || j < 0 || j >= columns) {
+            throw new IndexOutOfBoundsException("Index (" + i + ", " + j + ") is out of bounds for MatNf " + rows + "x" + columns);
+        }
+        return data[i * stride + j];
+    }
+
+    @Override
+    public double getd(int i, int j) {
+        return getf(i, j);
+    }
+
+    @Override
+    public void set(int i, int j, int a_ij) {
+        set(i, j, (float) a_ij);
+    }
+
+    @Override
+    public void set(int i, int j, long a_ij) {
+        set(i, j, (float) a_ij);
+    }
+
+    @Override
+    public void set(int i, int j, float a_ij) {
+        if (i < 0 || i >= rows || j < 0 || j >= columns) {
+            throw new IndexOutOfBoundsException("Index (" + i + ", " + j + ") is out of bounds for MatNf " + rows + "x" + columns);
+        }
+        data[i * stride + j] = a_ij;
+    }
+
+    @Override
+    public void set(int i, int j, double a_ij) {
+        set(i, j, (float) a_ij);
+    }
+
+    @Override
+    public int[] getDimensions() {
+        return new int[]{rows, columns};
+    }
+
+    @Override
+    public MatNf copy() {
+        return new MatNf(this);
+    }
+
+    @Override
+    public Vec convert(int i) {
+        if (i < 0 || i >= columns) {
+            throw new IndexOutOfBoundsException("Index " + i + " is out of bounds for MatNf with " + columns + " columns");
+        }
+
+        float[] column = new float[rows];
+        for (int k = 0; k < rows; k++) {
+            column[k] = data[k * stride + i];
+        }
+        return new Vec(column, ITensor.TYPE_FLOAT);
+    }
+
+    @Override
+    public MatNf getTranspose() {
+        MatNf result = new MatNf(columns, rows);
+        float[] out = result.data;
+        for (int i = 0; i < rows; i++) {
+            int row = i * stride;
+            for (int j = 0; j < columns; j++) {
+                out[j * rows + i] = data[row + j];
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int deti() {
+        return (int) detd();
+    }
+
+    @Override
+    public long detl() {
+        return (long) detd();
+    }
+
+    @Override
+    public float detf() {
+        return (float) detd();
+    }
+
+    /**
+     * Computes the determinant by LU decomposition, carried out in double precision.
+     *
+     * @return the determinant
+     */
+    @Override
+    public double detd() {
+        assert rows == columns : "MatNf:detd: matrix is not square";
+
+        double[] lu = toCompact();
+        int sign = LUDecomposition.factor(lu, rows, null);
+        return LUDecomposition.determinant(lu, rows, sign);
+    }
+
+    /**
+     * Computes the LU decomposition with partial pivoting of this square matrix.
+     * The factorization is carried out in double precision.
+     *
+     * @return a new LUDecomposition
+     */
+    public LUDecomposition lu() {
+        assert rows == columns : "MatNf:lu: matrix is not square";
+
+        return new LUDecomposition(toCompact(), rows);
+    }
+
+    @Override
+    public MatNf add(IMatrix other) {
+        assert other.getDimensions()[0] == rows : "MatNf:add: row dimensions do not match";
+        assert other.getDimensions()[1] == columns : "MatNf:add: column dimensions do not match";
+
+        MatNf result = new MatNf(rows, columns);
+        float[] out = result.data;
+        if (other instanceof MatNf) {
+            MatNf mat = (MatNf) other;
+            for (int i = 0; i < rows; i++) {
+                int row = i * stride, otherRow = i * mat.stride, outRow = i * columns;
+                for (int j = 0; j < columns; j++) {
+                    out[outRow + j] = data[row + j] + mat.data[otherRow + j];
+                }
+            }
+            return result;
+        }
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                out[i * columns + j] = data[i * stride + j] + other.getf(i, j);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MatNf subtract(IMatrix other) {
+        assert other.getDimensions()[0] == rows : "MatNf:subtract: row dimensions do not match";
+        assert other.getDimensions()[1] == columns : "MatNf:subtract: column dimensions do not match";
+
+        MatNf result = new MatNf(rows, columns);
+        float[] out = result.data;
+        if (other instanceof MatNf) {
+            MatNf mat = (MatNf) other;
+            for (int i = 0; i < rows; i++) {
+                int row = i * stride, otherRow = i * mat.stride, outRow = i * columns;
+                for (int j = 0; j < columns; j++) {
+                    out[outRow + j] = data[row + j] - mat.data[otherRow + j];
+                }
+            }
+            return result;
+        }
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                out[i * columns + j] = data[i * stride + j] - other.getf(i, j);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MatNf multiply(int scalar) {
+        return multiply((float) scalar);
+    }
+
+    @Override
+    public MatNf multiply(long scalar) {
+        return multiply((float) scalar);
+    }
+
+    @Override
+    public MatNf multiply(double scalar) {
+        return multiply((float) scalar);
+    }
+
+    @Override
+    public MatNf multiply(float scalar) {
+        MatNf result = new MatNf(rows, columns);
+        float[] out = result.data;
+        for (int i = 0; i < rows; i++) {
+            int row = i * stride, outRow = i * columns;
+            for (int j = 0; j < columns; j++) {
+                out[outRow + j] = data[row + j] * scalar;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MatNf multiply(IMatrix other) {
+        assert other != null : "MatNf:multiply: other == null";
+        assert columns == other.getDimensions()[0] : "MatNf:multiply: column dimensions do not match";
+
+        MatNf mat = other instanceof MatNf ? (MatNf) other : new MatNf(other);
+        int n = mat.columns;
+        MatNf result = new MatNf(rows, n);
+        float[] out = result.data;
+
+        // i-k-j order: the inner loop walks a row of the result and a row of other, both contiguous
+        for (int i = 0; i < rows; i++) {
+            int row = i * stride, outRow = i * n;
+            for (int k = 0; k < columns; k++) {
+                float a = data[row + k];
+                int otherRow = k * mat.stride;
+                for (int j = 0; j < n; j++) {
+                    out[outRow + j] += a * mat.data[otherRow + j];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies the elements into a new row-major double array with stride == columns.
+     */
+    private double[] toCompact() {
+        double[] result = new double[rows * columns];
+        for (int i = 0; i < rows; i++) {
+            int row = i * stride, outRow = i * columns;
+            for (int j = 0; j < columns; j++) {
+                result[outRow + j] = data[row + j];
+            }
+        }
+        return result;
+    }
+}
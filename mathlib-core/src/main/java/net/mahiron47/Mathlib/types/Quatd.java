@@ -0,0 +1,388 @@
+package net.mahiron47.mathlib.types;
+
+import net.mahiron47.mathlib.types.interfaces.IMatrix;
+import net.mahiron47.mathlib.types.interfaces.IVector;
+
+/**
+ * Represents a rotation as a double quaternion.
+ *
+ * <pre>
+ * The quaternion is represented as:
+ * q = w + x*i + y*j + z*k
+ * </pre>
+ *
+ * Rotations are only well defined for unit quaternions. The factory methods return unit
+ * quaternions; after many compositions call {@link #normalizeLocal()} to remove drift.
+ */
+public class Quatd {
+    private double x;
+    private double y;
+    private double z;
+    private double w;
+
+    public Quatd(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * Creates the identity rotation.
+     *
+     * @return a new Quatd (0, 0, 0, 1)
+     */
+    public static Quatd identity() {
+        return new Quatd(0, 0, 0, 1);
+    }
+
+    /**
+     * Creates a rotation around an axis, counter-clockwise when looking against the axis.
+     *
+     * @param axis the rotation axis, of dimension 3 and not necessarily normalized
+     * @param angle the angle in radians
+     * @return a new unit Quatd
+     */
+    public static Quatd fromAxisAngle(IVector axis, double angle) {
+        assert axis != null : "Quatd:fromAxisAngle: Axis cannot be null";
+        assert axis.getDimension() == 3 : "Quatd:fromAxisAngle: Axis must be of dimension 3";
+
+        return fromAxisAngle(axis.getd(0), axis.getd(1), axis.getd(2), angle);
+    }
+
+    public static Quatd fromAxisAngle(double axisX, double axisY, double axisZ, double angle) {
+        double length = Math.sqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+
+        assert length != 0 : "Quatd:fromAxisAngle: Axis cannot be a zero-length vector";
+
+        double half = angle * 0.5;
+        double s = Math.sin(half) / length;
+        return new Quatd(axisX * s, axisY * s, axisZ * s, Math.cos(half));
+    }
+
+    /**
+     * Creates the rotation of the upper-left 3x3 block of a matrix, e.g. a Mat3d or Mat4d.
+     * The block must be a rotation matrix, i.e. orthonormal without scale or shear.
+     *
+     * @param matrix a matrix with at least 3 rows and 3 columns
+     * @return a new unit Quatd
+     */
+    public static Quatd fromMatrix(IMatrix matrix) {
+        assert matrix != null : "Quatd:fromMatrix: Matrix cannot be null";
+        assert matrix.getDimensions()[0] >= 3 && matrix.getDimensions()[1] >= 3 : "Quatd:fromMatrix: Matrix must be at least 3x3";
+
+        double m11 = matrix.getd(0, 0), m12 = matrix.getd(0, 1), m13 = matrix.getd(0, 2);
+        double m21 = matrix.getd(1, 0), m22 = matrix.getd(1, 1), m23 = matrix.getd(1, 2);
+        double m31 = matrix.getd(2, 0), m32 = matrix.getd(2, 1), m33 = matrix.getd(2, 2);
+
+        // Shepperd's method: divide by the largest of the four candidates to stay accurate
+        double trace = m11 + m22 + m33;
+        Quatd q;
+        if (trace > 0) {
+            double s = Math.sqrt(trace + 1.0) * 2.0;
+            q = new Quatd((m32 - m23) / s, (m13 - m31) / s, (m21 - m12) / s, 0.25 * s);
+        } else if (m11 > m22 && m11 > m33) {
+            double s = Math.sqrt(1.0 + m11 - m22 - m33) * 2.0;
+            q = new Quatd(0.25 * s, (m12 + m21) / s, (m13 + m31) / s, (m32 - m23) / s);
+        } else if (m22 > m33) {
+            double s = Math.sqrt(1.0 + m22 - m11 - m33) * 2.0;
+            q = new Quatd((m12 + m21) / s, 0.25 * s, (m23 + m32) / s, (m13 - m31) / s);
+        } else {
+            double s = Math.sqrt(1.0 + m33 - m11 - m22) * 2.0;
+            q = new Quatd((m13 + m31) / s, (m23 + m32) / s, 0.25 * s, (m21 - m12) / s);
+        }
+        return q.normalizeLocal();
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getZ() {
+        return z;
+    }
+
+    public double getW() {
+        return w;
+    }
+
+    public void set(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Quatd)) return false;
+
+        Quatd quat = (Quatd) obj;
+
+        return quat.x == this.x && quat.y == this.y && quat.z == this.z && quat.w == this.w;
+    }
+
+    @Override
+    public int hashCode() {
+        int result;
+        long temp;
+        temp = Double.doubleToLongBits(x);
+        result = (int) (temp ^ (temp >>> 32));
+        temp = Double.doubleToLongBits(y);
+        result = 31 * result + (int) (temp ^ (temp >>> 32));
+        temp = Double.doubleToLongBits(z);
+        result = 31 * result + (int) (temp ^ (temp >>> 32));
+        temp = Double.doubleToLongBits(w);
+        result = 31 * result + (int) (temp ^ (temp >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Quatd{" +
+                "x=" + x +
+                ", y=" + y +
+                ", z=" + z +
+                ", w=" + w +
+                '}';
+    }
+
+    public Quatd copy() {
+        return new Quatd(x, y, z, w);
+    }
+
+    public double getLength() {
+        return Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    public double dot(Quatd other) {
+        assert other != null : "Quatd:dot: Other quaternion cannot be null";
+
+        return x * other.x + y * other.y + z * other.z + w * other.w;
+    }
+
+    /**
+     * Creates the conjugate, which is the inverse rotation for a unit quaternion.
+     *
+     * @return a new Quatd (-x, -y, -z, w)
+     */
+    public Quatd conjugate() {
+        return new Quatd(-x, -y, -z, w);
+    }
+
+    public Quatd getNormal() {
+        return copy().normalizeLocal();
+    }
+
+    public Quatd normalizeLocal() {
+        double length = getLength();
+
+        assert length != 0 : "Quatd:normalizeLocal: Cannot normalize a zero-length quaternion";
+
+        x = x / length;
+        y = y / length;
+        z = z / length;
+        w = w / length;
+        return this;
+    }
+
+    /**
+     * Composes two rotations: the result rotates by {@code other} first and then by this quaternion.
+     *
+     * @param other the quaternion to multiply by on the right
+     * @return a new Quatd holding this * other
+     */
+    public Quatd multiply(Quatd other) {
+        return multiply(other, new Quatd(0, 0, 0, 0));
+    }
+
+    /**
+     * Computes this * other into {@code dest}. {@code dest} may be this quaternion or {@code other}.
+     *
+     * @param other the quaternion to multiply by on the right
+     * @param dest the quaternion receiving the result
+     * @return {@code dest}
+     */
+    public Quatd multiply(Quatd other, Quatd dest) {
+        assert other != null : "Quatd:multiply: Other quaternion cannot be null";
+        assert dest != null : "Quatd:multiply: Destination quaternion cannot be null";
+
+        double rx = w * other.x + x * other.w + y * other.z - z * other.y;
+        double ry = w * other.y - x * other.z + y * other.w + z * other.x;
+        double rz = w * other.z + x * other.y - y * other.x + z * other.w;
+        double rw = w * other.w - x * other.x - y * other.y - z * other.z;
+        dest.x = rx; dest.y = ry; dest.z = rz; dest.w = rw;
+        return dest;
+    }
+
+    /**
+     * Interpolates linearly towards another rotation along the shorter arc and normalizes the result.
+     * Cheaper than {@link #slerp(Quatd, double)} but does not move at constant angular speed.
+     *
+     * @param other the rotation at t = 1
+     * @param t the interpolation parameter in [0, 1]
+     * @return a new unit Quatd
+     */
+    public Quatd nlerp(Quatd other, double t) {
+        return nlerp(other, t, new Quatd(0, 0, 0, 0));
+    }
+
+    public Quatd nlerp(Quatd other, double t, Quatd dest) {
+        assert other != null : "Quatd:nlerp: Other quaternion cannot be null";
+        assert dest != null : "Quatd:nlerp: Destination quaternion cannot be null";
+
+        double s = 1.0 - t;
+        double u = dot(other) < 0 ? -t : t;
+        dest.set(s * x + u * other.x, s * y + u * other.y, s * z + u * other.z, s * w + u * other.w);
+        return dest.normalizeLocal();
+    }
+
+    /**
+     * Interpolates towards another rotation along the shorter arc at constant angular speed.
+     *
+     * @param other the rotation at t = 1
+     * @param t the interpolation parameter in [0, 1]
+     * @return a new unit Quatd
+     */
+    public Quatd slerp(Quatd other, double t) {
+        return slerp(other, t, new Quatd(0, 0, 0, 0));
+    }
+
+    public Quatd slerp(Quatd other, double t, Quatd dest) {
+        assert other != null : "Quatd:slerp: Other quaternion cannot be null";
+        assert dest != null : "Quatd:slerp: Destination quaternion cannot be null";
+
+        double cos = dot(other);
+        double sign = 1.0;
+        if (cos < 0) {
+            cos = -cos;
+            sign = -1.0;
+        }
+        // Nearly parallel rotations: sin(theta) vanishes, fall back to nlerp
+        if (cos > 0.9995) {
+            return nlerp(other, t, dest);
+        }
+
+        double theta = Math.acos(cos);
+        double sin = Math.sin(theta);
+        double s = Math.sin((1.0 - t) * theta) / sin;
+        double u = sign * Math.sin(t * theta) / sin;
+        dest.set(
+            s * x + u * other.x,
+            s * y + u * other.y,
+            s * z + u * other.z,
+            s * w + u * other.w
+        );
+        return dest;
+    }
+
+    public Mat3d toMat3d() {
+        double xx = x * x, yy = y * y, zz = z * z;
+        double xy = x * y, xz = x * z, yz = y * z;
+        double wx = w * x, wy = w * y, wz = w * z;
+
+        return new Mat3d(
+            1.0 - 2.0 * (yy + zz), 2.0 * (xy - wz), 2.0 * (xz + wy),
+            2.0 * (xy + wz), 1.0 - 2.0 * (xx + zz), 2.0 * (yz - wx),
+            2.0 * (xz - wy), 2.0 * (yz + wx), 1.0 - 2.0 * (xx + yy)
+        );
+    }
+
+    public Mat4d toMat4d() {
+        double xx = x * x, yy = y * y, zz = z * z;
+        double xy = x * y, xz = x * z, yz = y * z;
+        double wx = w * x, wy = w * y, wz = w * z;
+
+        return new Mat4d(
+            1.0 - 2.0 * (yy + zz), 2.0 * (xy - wz), 2.0 * (xz + wy), 0.0,
+            2.0 * (xy + wz), 1.0 - 2.0 * (xx + zz), 2.0 * (yz - wx), 0.0,
+            2.0 * (xz - wy), 2.0 * (yz + wx), 1.0 - 2.0 * (xx + yy), 0.0,
+            0.0, 0.0, 0.0, 1.0
+        );
+    }
+
+    /**
+     * Rotates a vector by this unit quaternion.
+     *
+     * @param vector the vector to rotate, of dimension 3
+     * @return a new Vec3d
+     */
+    public Vec3d rotate(IVector vector) {
+        return rotate(vector, new Vec3d(0, 0, 0));
+    }
+
+    /**
+     * Rotates a vector by this unit quaternion into {@code dest}, which may be the input vector.
+     * Uses v' = v + w*t + q x t with t = 2 * (q x v), which needs fewer multiplications than
+     * the sandwich product q * v * q^-1 or building the rotation matrix.
+     *
+     * @param vector the vector to rotate, of dimension 3
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec3d rotate(IVector vector, Vec3d dest) {
+        assert vector != null : "Quatd:rotate: Vector cannot be null";
+        assert vector.getDimension() == 3 : "Quatd:rotate: Vector must be of dimension 3";
+        assert dest != null : "Quatd:rotate: Destination vector cannot be null";
+
+        double vx = vector.getd(0), vy = vector.getd(1), vz = vector.getd(2);
+        double tx = 2.0 * (y * vz - z * vy);
+        double ty = 2.0 * (z * vx - x * vz);
+        double tz = 2.0 * (x * vy - y * vx);
+        dest.x = vx + w * tx + (y * tz - z * ty);
+        dest.y = vy + w * ty + (z * tx - x * tz);
+        dest.z = vz + w * tz + (x * ty - y * tx);
+        return dest;
+    }
+
+    /**
+     * Rotates interleaved xyz vectors in place by this unit quaternion.
+     *
+     * @param xyz the coordinates, three doubles per vector
+     * @param offset the index of the x coordinate of the first vector
+     * @param count the number of vectors
+     */
+    public void rotate(double[] xyz, int offset, int count) {
+        assert xyz != null : "Quatd:rotate: Array cannot be null";
+        assert count >= 0 && offset >= 0 && offset <= xyz.length - count * 3 : "Quatd:rotate: Range out of bounds";
+
+        double qx = x, qy = y, qz = z, qw = w;
+        for (int i = offset; i < offset + count * 3; i += 3) {
+            double vx = xyz[i], vy = xyz[i + 1], vz = xyz[i + 2];
+            double tx = 2.0 * (qy * vz - qz * vy);
+            double ty = 2.0 * (qz * vx - qx * vz);
+            double tz = 2.0 * (qx * vy - qy * vx);
+            xyz[i] = vx + qw * tx + (qy * tz - qz * ty);
+            xyz[i + 1] = vy + qw * ty + (qz * tx - qx * tz);
+            xyz[i + 2] = vz + qw * tz + (qx * ty - qy * tx);
+        }
+    }
+
+    /**
+     * Rotates every vector of a batch in place by this unit quaternion.
+     *
+     * @param batch the vectors to rotate
+     * @return {@code batch}
+     */
+    public Vec3dArray rotate(Vec3dArray batch) {
+        assert batch != null : "Quatd:rotate: Batch cannot be null";
+
+        double[] bx = batch.getX(), by = batch.getY(), bz = batch.getZ();
+        double qx = x, qy = y, qz = z, qw = w;
+        for (int i = 0; i < batch.size(); i++) {
+            double vx = bx[i], vy = by[i], vz = bz[i];
+            double tx = 2.0 * (qy * vz - qz * vy);
+            double ty = 2.0 * (qz * vx - qx * vz);
+            double tz = 2.0 * (qx * vy - qy * vx);
+            bx[i] = vx + qw * tx + (qy * tz - qz * ty);
+            by[i] = vy + qw * ty + (qz * tx - qx * tz);
+            bz[i] = vz + qw * tz + (qx * ty - qy * tx);
+        }
+        return batch;
+    }
+}
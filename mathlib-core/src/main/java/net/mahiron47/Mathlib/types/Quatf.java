@@ -0,0 +1,382 @@
+package net.mahiron47.mathlib.types;
+
+import net.mahiron47.mathlib.types.interfaces.IMatrix;
+import net.mahiron47.mathlib.types.interfaces.IVector;
+
+/**
+ * Represents a rotation as a float quaternion.
+ *
+ * <pre>
+ * The quaternion is represented as:
+ * q = w + x*i + y*j + z*k
+ * </pre>
+ *
+ * Rotations are only well defined for unit quaternions. The factory methods return unit
+ * quaternions; after many compositions call {@link #normalizeLocal()} to remove drift.
+ */
+public class Quatf {
+    private float x;
+    private float y;
+    private float z;
+    private float w;
+
+    public Quatf(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * Creates the identity rotation.
+     *
+     * @return a new Quatf (0, 0, 0, 1)
+     */
+    public static Quatf identity() {
+        return new Quatf(0, 0, 0, 1);
+    }
+
+    /**
+     * Creates a rotation around an axis, counter-clockwise when looking against the axis.
+     *
+     * @param axis the rotation axis, of dimension 3 and not necessarily normalized
+     * @param angle the angle in radians
+     * @return a new unit Quatf
+     */
+    public static Quatf fromAxisAngle(IVector axis, float angle) {
+        assert axis != null : "Quatf:fromAxisAngle: Axis cannot be null";
+        assert axis.getDimension() == 3 : "Quatf:fromAxisAngle: Axis must be of dimension 3";
+
+        return fromAxisAngle(axis.getf(0), axis.getf(1), axis.getf(2), angle);
+    }
+
+    public static Quatf fromAxisAngle(float axisX, float axisY, float axisZ, float angle) {
+        double length = Math.sqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+
+        assert length != 0 : "Quatf:fromAxisAngle: Axis cannot be a zero-length vector";
+
+        double half = angle * 0.5;
+        double s = Math.sin(half) / length;
+        return new Quatf((float) (axisX * s), (float) (axisY * s), (float) (axisZ * s), (float) Math.cos(half));
+    }
+
+    /**
+     * Creates the rotation of the upper-left 3x3 block of a matrix, e.g. a Mat3f or Mat4f.
+     * The block must be a rotation matrix, i.e. orthonormal without scale or shear.
+     *
+     * @param matrix a matrix with at least 3 rows and 3 columns
+     * @return a new unit Quatf
+     */
+    public static Quatf fromMatrix(IMatrix matrix) {
+        assert matrix != null : "Quatf:fromMatrix: Matrix cannot be null";
+        assert matrix.getDimensions()[0] >= 3 && matrix.getDimensions()[1] >= 3 : "Quatf:fromMatrix: Matrix must be at least 3x3";
+
+        float m11 = matrix.getf(0, 0), m12 = matrix.getf(0, 1), m13 = matrix.getf(0, 2);
+        float m21 = matrix.getf(1, 0), m22 = matrix.getf(1, 1), m23 = matrix.getf(1, 2);
+        float m31 = matrix.getf(2, 0), m32 = matrix.getf(2, 1), m33 = matrix.getf(2, 2);
+
+        // Shepperd's method: divide by the largest of the four candidates to stay accurate
+        float trace = m11 + m22 + m33;
+        Quatf q;
+        if (trace > 0) {
+            float s = (float) Math.sqrt(trace + 1.0f) * 2.0f;
+            q = new Quatf((m32 - m23) / s, (m13 - m31) / s, (m21 - m12) / s, 0.25f * s);
+        } else if (m11 > m22 && m11 > m33) {
+            float s = (float) Math.sqrt(1.0f + m11 - m22 - m33) * 2.0f;
+            q = new Quatf(0.25f * s, (m12 + m21) / s, (m13 + m31) / s, (m32 - m23) / s);
+        } else if (m22 > m33) {
+            float s = (float) Math.sqrt(1.0f + m22 - m11 - m33) * 2.0f;
+            q = new Quatf((m12 + m21) / s, 0.25f * s, (m23 + m32) / s, (m13 - m31) / s);
+        } else {
+            float s = (float) Math.sqrt(1.0f + m33 - m11 - m22) * 2.0f;
+            q = new Quatf((m13 + m31) / s, (m23 + m32) / s, 0.25f * s, (m21 - m12) / s);
+        }
+        return q.normalizeLocal();
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getZ() {
+        return z;
+    }
+
+    public float getW() {
+        return w;
+    }
+
+    public void set(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Quatf)) return false;
+
+        Quatf quat = (Quatf) obj;
+
+        return quat.x == this.x && quat.y == this.y && quat.z == this.z && quat.w == this.w;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Float.floatToIntBits(x);
+        result = 31 * result + Float.floatToIntBits(y);
+        result = 31 * result + Float.floatToIntBits(z);
+        result = 31 * result + Float.floatToIntBits(w);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Quatf{" +
+                "x=" + x +
+                ", y=" + y +
+                ", z=" + z +
+                ", w=" + w +
+                '}';
+    }
+
+    public Quatf copy() {
+        return new Quatf(x, y, z, w);
+    }
+
+    public double getLength() {
+        return Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    public float dot(Quatf other) {
+        assert other != null : "Quatf:dot: Other quaternion cannot be null";
+
+        return x * other.x + y * other.y + z * other.z + w * other.w;
+    }
+
+    /**
+     * Creates the conjugate, which is the inverse rotation for a unit quaternion.
+     *
+     * @return a new Quatf (-x, -y, -z, w)
+     */
+    public Quatf conjugate() {
+        return new Quatf(-x, -y, -z, w);
+    }
+
+    public Quatf getNormal() {
+        return copy().normalizeLocal();
+    }
+
+    public Quatf normalizeLocal() {
+        double length = getLength();
+
+        assert length != 0 : "Quatf:normalizeLocal: Cannot normalize a zero-length quaternion";
+
+        x = (float) (x / length);
+        y = (float) (y / length);
+        z = (float) (z / length);
+        w = (float) (w / length);
+        return this;
+    }
+
+    /**
+     * Composes two rotations: the result rotates by {@code other} first and then by this quaternion.
+     *
+     * @param other the quaternion to multiply by on the right
+     * @return a new Quatf holding this * other
+     */
+    public Quatf multiply(Quatf other) {
+        return multiply(other, new Quatf(0, 0, 0, 0));
+    }
+
+    /**
+     * Computes this * other into {@code dest}. {@code dest} may be this quaternion or {@code other}.
+     *
+     * @param other the quaternion to multiply by on the right
+     * @param dest the quaternion receiving the result
+     * @return {@code dest}
+     */
+    public Quatf multiply(Quatf other, Quatf dest) {
+        assert other != null : "Quatf:multiply: Other quaternion cannot be null";
+        assert dest != null : "Quatf:multiply: Destination quaternion cannot be null";
+
+        float rx = w * other.x + x * other.w + y * other.z - z * other.y;
+        float ry = w * other.y - x * other.z + y * other.w + z * other.x;
+        float rz = w * other.z + x * other.y - y * other.x + z * other.w;
+        float rw = w * other.w - x * other.x - y * other.y - z * other.z;
+        dest.x = rx; dest.y = ry; dest.z = rz; dest.w = rw;
+        return dest;
+    }
+
+    /**
+     * Interpolates linearly towards another rotation along the shorter arc and normalizes the result.
+     * Cheaper than {@link #slerp(Quatf, float)} but does not move at constant angular speed.
+     *
+     * @param other the rotation at t = 1
+     * @param t the interpolation parameter in [0, 1]
+     * @return a new unit Quatf
+     */
+    public Quatf nlerp(Quatf other, float t) {
+        return nlerp(other, t, new Quatf(0, 0, 0, 0));
+    }
+
+    public Quatf nlerp(Quatf other, float t, Quatf dest) {
+        assert other != null : "Quatf:nlerp: Other quaternion cannot be null";
+        assert dest != null : "Quatf:nlerp: Destination quaternion cannot be null";
+
+        float s = 1.0f - t;
+        float u = dot(other) < 0 ? -t : t;
+        dest.set(s * x + u * other.x, s * y + u * other.y, s * z + u * other.z, s * w + u * other.w);
+        return dest.normalizeLocal();
+    }
+
+    /**
+     * Interpolates towards another rotation along the shorter arc at constant angular speed.
+     *
+     * @param other the rotation at t = 1
+     * @param t the interpolation parameter in [0, 1]
+     * @return a new unit Quatf
+     */
+    public Quatf slerp(Quatf other, float t) {
+        return slerp(other, t, new Quatf(0, 0, 0, 0));
+    }
+
+    public Quatf slerp(Quatf other, float t, Quatf dest) {
+        assert other != null : "Quatf:slerp: Other quaternion cannot be null";
+        assert dest != null : "Quatf:slerp: Destination quaternion cannot be null";
+
+        double cos = dot(other);
+        double sign = 1.0;
+        if (cos < 0) {
+            cos = -cos;
+            sign = -1.0;
+        }
+        // Nearly parallel rotations: sin(theta) vanishes, fall back to nlerp
+        if (cos > 0.9995) {
+            return nlerp(other, t, dest);
+        }
+
+        double theta = Math.acos(cos);
+        double sin = Math.sin(theta);
+        double s = Math.sin((1.0 - t) * theta) / sin;
+        double u = sign * Math.sin(t * theta) / sin;
+        dest.set(
+            (float) (s * x + u * other.x),
+            (float) (s * y + u * other.y),
+            (float) (s * z + u * other.z),
+            (float) (s * w + u * other.w)
+        );
+        return dest;
+    }
+
+    public Mat3f toMat3f() {
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float wx = w * x, wy = w * y, wz = w * z;
+
+        return new Mat3f(
+            1.0f - 2.0f * (yy + zz), 2.0f * (xy - wz), 2.0f * (xz + wy),
+            2.0f * (xy + wz), 1.0f - 2.0f * (xx + zz), 2.0f * (yz - wx),
+            2.0f * (xz - wy), 2.0f * (yz + wx), 1.0f - 2.0f * (xx + yy)
+        );
+    }
+
+    public Mat4f toMat4f() {
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float wx = w * x, wy = w * y, wz = w * z;
+
+        return new Mat4f(
+            1.0f - 2.0f * (yy + zz), 2.0f * (xy - wz), 2.0f * (xz + wy), 0.0f,
+            2.0f * (xy + wz), 1.0f - 2.0f * (xx + zz), 2.0f * (yz - wx), 0.0f,
+            2.0f * (xz - wy), 2.0f * (yz + wx), 1.0f - 2.0f * (xx + yy), 0.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        );
+    }
+
+    /**
+     * Rotates a vector by this unit quaternion.
+     *
+     * @param vector the vector to rotate, of dimension 3
+     * @return a new Vec3f
+     */
+    public Vec3f rotate(IVector vector) {
+        return rotate(vector, new Vec3f(0, 0, 0));
+    }
+
+    /**
+     * Rotates a vector by this unit quaternion into {@code dest}, which may be the input vector.
+     * Uses v' = v + w*t + q x t with t = 2 * (q x v), which needs fewer multiplications than
+     * the sandwich product q * v * q^-1 or building the rotation matrix.
+     *
+     * @param vector the vector to rotate, of dimension 3
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec3f rotate(IVector vector, Vec3f dest) {
+        assert vector != null : "Quatf:rotate: Vector cannot be null";
+        assert vector.getDimension() == 3 : "Quatf:rotate: Vector must be of dimension 3";
+        assert dest != null : "Quatf:rotate: Destination vector cannot be null";
+
+        float vx = vector.getf(0), vy = vector.getf(1), vz = vector.getf(2);
+        float tx = 2.0f * (y * vz - z * vy);
+        float ty = 2.0f * (z * vx - x * vz);
+        float tz = 2.0f * (x * vy - y * vx);
+        dest.x = vx + w * tx + (y * tz - z * ty);
+        dest.y = vy + w * ty + (z * tx - x * tz);
+        dest.z = vz + w * tz + (x * ty - y * tx);
+        return dest;
+    }
+
+    /**
+     * Rotates interleaved xyz vectors in place by this unit quaternion.
+     *
+     * @param xyz the coordinates, three floats per vector
+     * @param offset the index of the x coordinate of the first vector
+     * @param count the number of vectors
+     */
+    public void rotate(float[] xyz, int offset, int count) {
+        assert xyz != null : "Quatf:rotate: Array cannot be null";
+        assert count >= 0 && offset >= 0 && offset <= xyz.length - count * 3 : "Quatf:rotate: Range out of bounds";
+
+        float qx = x, qy = y, qz = z, qw = w;
+        for (int i = offset; i < offset + count * 3; i += 3) {
+            float vx = xyz[i], vy = xyz[i + 1], vz = xyz[i + 2];
+            float tx = 2.0f * (qy * vz - qz * vy);
+            float ty = 2.0f * (qz * vx - qx * vz);
+            float tz = 2.0f * (qx * vy - qy * vx);
+            xyz[i] = vx + qw * tx + (qy * tz - qz * ty);
+            xyz[i + 1] = vy + qw * ty + (qz * tx - qx * tz);
+            xyz[i + 2] = vz + qw * tz + (qx * ty - qy * tx);
+        }
+    }
+
+    /**
+     * Rotates every vector of a batch in place by this unit quaternion.
+     *
+     * @param batch the vectors to rotate
+     * @return {@code batch}
+     */
+    public Vec3fArray rotate(Vec3fArray batch) {
+        assert batch != null : "Quatf:rotate: Batch cannot be null";
+
+        float[] bx = batch.getX(), by = batch.getY(), bz = batch.getZ();
+        float qx = x, qy = y, qz = z, qw = w;
+        for (int i = 0; i < batch.size(); i++) {
+            float vx = bx[i], vy = by[i], vz = bz[i];
+            float tx = 2.0f * (qy * vz - qz * vy);
+            float ty = 2.0f * (qz * vx - qx * vz);
+            float tz = 2.0f * (qx * vy - qy * vx);
+            bx[i] = vx + qw * tx + (qy * tz - qz * ty);
+            by[i] = vy + qw * ty + (qz * tx - qx * tz);
+            bz[i] = vz + qw * tz + (qx * ty - qy * tx);
+        }
+        return batch;
+    }
+}
@@ -2,6 +2,7 @@ package net.mahiron47.mathlib.types;
 
 import net.mahiron47.mathlib.types.interfaces.ITensor;
 import net.mahiron47.mathlib.types.interfaces.IVector;
+import net.mahiron47.mathlib.utils.Intrinsics;
 
 public class Vec2d implements IVector {
     private double x;
@@ -152,11 +153,21 @@ public class Vec2d implements IVector {
 
     @Override
     public Vec2d add(IVector other) {
+        if (other instanceof Vec2d) {
+            Vec2d vec = (Vec2d) other;
+            return new Vec2d(this.x + vec.x, this.y + vec.y);
+        }
+
         return new Vec2d(this.x + other.getd(0), this.y + other.getd(1));
     }
 
     @Override
     public Vec2d subtract(IVector other) {
+        if (other instanceof Vec2d) {
+            Vec2d vec = (Vec2d) other;
+            return new Vec2d(this.x - vec.x, this.y - vec.y);
+        }
+
         return new Vec2d(this.x - other.getd(0), this.y - other.getd(1));
     }
 
@@ -192,12 +203,17 @@ public class Vec2d implements IVector {
 
     @Override
     public float dotf(IVector other) {
-        return (float) (this.x * other.getf(0) + this.y * other.getf(1));
+        return (float) Intrinsics.fma(this.y, other.getf(1), this.x * other.getf(0));
     }
 
     @Override
     public double dotd(IVector other) {
-        return this.x * other.getd(0) + this.y * other.getd(1);
+        if (other instanceof Vec2d) {
+            Vec2d vec = (Vec2d) other;
+            return Intrinsics.fma(this.y, vec.y, this.x * vec.x);
+        }
+
+        return Intrinsics.fma(this.y, other.getd(1), this.x * other.getd(0));
     }
 
     @Override
@@ -228,4 +244,134 @@ public class Vec2d implements IVector {
                 throw new IllegalArgumentException("Vec2d:cross: Other vector must be of dimension 2 or 3");
         }
     }
+
+    /**
+     * Computes the sum of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to add
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec2d add(IVector other, Vec2d dest) {
+        assert other != null : "Vec2d:add: Other vector cannot be null";
+        assert other.getDimension() == 2 : "Vec2d:add: Other vector must be of dimension 2";
+        assert dest != null : "Vec2d:add: Destination vector cannot be null";
+
+        if (other instanceof Vec2d) {
+            Vec2d vec = (Vec2d) other;
+
+            dest.x = this.x + vec.x;
+            dest.y = this.y + vec.y;
+
+            return dest;
+        }
+
+        dest.x = this.x + other.getd(0);
+        dest.y = this.y + other.getd(1);
+
+        return dest;
+    }
+
+    /**
+     * Computes the difference of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to subtract
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec2d subtract(IVector other, Vec2d dest) {
+        assert other != null : "Vec2d:subtract: Other vector cannot be null";
+        assert other.getDimension() == 2 : "Vec2d:subtract: Other vector must be of dimension 2";
+        assert dest != null : "Vec2d:subtract: Destination vector cannot be null";
+
+        if (other instanceof Vec2d) {
+            Vec2d vec = (Vec2d) other;
+
+            dest.x = this.x - vec.x;
+            dest.y = this.y - vec.y;
+
+            return dest;
+        }
+
+        dest.x = this.x - other.getd(0);
+        dest.y = this.y - other.getd(1);
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a double scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec2d multiply(double scalar, Vec2d dest) {
+        assert dest != null : "Vec2d:multiply: Destination vector cannot be null";
+
+        dest.x = this.x * scalar;
+        dest.y = this.y * scalar;
+
+        return dest;
+    }
+
+    /**
+     * Normalizes this vector into {@code dest}.
+     *
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec2d getNormal(Vec2d dest) {
+        assert dest != null : "Vec2d:getNormal: Destination vector cannot be null";
+
+        double length = getLength();
+
+        assert length != 0 : "Vec2d:getNormal: Cannot normalize a zero-length vector";
+
+        dest.x = this.x / length;
+        dest.y = this.y / length;
+
+        return dest;
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param other the vector to add
+     * @return this vector
+     */
+    public Vec2d addLocal(IVector other) {
+        return add(other, this);
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param other the vector to subtract
+     * @return this vector
+     */
+    public Vec2d subLocal(IVector other) {
+        return subtract(other, this);
+    }
+
+    /**
+     * Multiplies this vector by a double scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec2d scaleLocal(double scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @return this vector
+     */
+    public Vec2d normalizeLocal() {
+        return getNormal(this);
+    }
 }
@@ -2,6 +2,7 @@ package net.mahiron47.mathlib.types;
 
 import net.mahiron47.mathlib.types.interfaces.ITensor;
 import net.mahiron47.mathlib.types.interfaces.IVector;
+import net.mahiron47.mathlib.utils.Intrinsics;
 
 public class Vec2f implements IVector {
     private float x;
@@ -149,11 +150,21 @@ public class Vec2f implements IVector {
 
     @Override
     public Vec2f add(IVector other) {
+        if (other instanceof Vec2f) {
+            Vec2f vec = (Vec2f) other;
+            return new Vec2f(this.x + vec.x, this.y + vec.y);
+        }
+
         return new Vec2f(this.x + other.getf(0), this.y + other.getf(1));
     }
 
     @Override
     public Vec2f subtract(IVector other) {
+        if (other instanceof Vec2f) {
+            Vec2f vec = (Vec2f) other;
+            return new Vec2f(this.x - vec.x, this.y - vec.y);
+        }
+
         return new Vec2f(this.x - other.getf(0), this.y - other.getf(1));
     }
 
@@ -189,12 +200,17 @@ public class Vec2f implements IVector {
 
     @Override
     public float dotf(IVector other) {
-        return this.x * other.getf(0) + this.y * other.getf(1);
+        if (other instanceof Vec2f) {
+            Vec2f vec = (Vec2f) other;
+            return Intrinsics.fma(this.y, vec.y, this.x * vec.x);
+        }
+
+        return Intrinsics.fma(this.y, other.getf(1), this.x * other.getf(0));
     }
 
     @Override
     public double dotd(IVector other) {
-        return this.x * other.getd(0) + this.y * other.getd(1);
+        return Intrinsics.fma(this.y, other.getd(1), this.x * other.getd(0));
     }
 
     @Override
@@ -225,4 +241,160 @@ public class Vec2f implements IVector {
                 throw new IllegalArgumentException("Vec2f:cross: Other vector must be of dimension 2 or 3");
         }
     }
+
+    /**
+     * Computes the sum of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to add
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec2f add(IVector other, Vec2f dest) {
+        assert other != null : "Vec2f:add: Other vector cannot be null";
+        assert other.getDimension() == 2 : "Vec2f:add: Other vector must be of dimension 2";
+        assert dest != null : "Vec2f:add: Destination vector cannot be null";
+
+        if (other instanceof Vec2f) {
+            Vec2f vec = (Vec2f) other;
+
+            dest.x = this.x + vec.x;
+            dest.y = this.y + vec.y;
+
+            return dest;
+        }
+
+        dest.x = this.x + other.getf(0);
+        dest.y = this.y + other.getf(1);
+
+        return dest;
+    }
+
+    /**
+     * Computes the difference of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to subtract
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec2f subtract(IVector other, Vec2f dest) {
+        assert other != null : "Vec2f:subtract: Other vector cannot be null";
+        assert other.getDimension() == 2 : "Vec2f:subtract: Other vector must be of dimension 2";
+        assert dest != null : "Vec2f:subtract: Destination vector cannot be null";
+
+        if (other instanceof Vec2f) {
+            Vec2f vec = (Vec2f) other;
+
+            dest.x = this.x - vec.x;
+            dest.y = this.y - vec.y;
+
+            return dest;
+        }
+
+        dest.x = this.x - other.getf(0);
+        dest.y = this.y - other.getf(1);
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a float scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec2f multiply(float scalar, Vec2f dest) {
+        assert dest != null : "Vec2f:multiply: Destination vector cannot be null";
+
+        dest.x = this.x * scalar;
+        dest.y = this.y * scalar;
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a double scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec2f multiply(double scalar, Vec2f dest) {
+        assert dest != null : "Vec2f:multiply: Destination vector cannot be null";
+
+        dest.x = (float) (this.x * scalar);
+        dest.y = (float) (this.y * scalar);
+
+        return dest;
+    }
+
+    /**
+     * Normalizes this vector into {@code dest}.
+     *
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec2f getNormal(Vec2f dest) {
+        assert dest != null : "Vec2f:getNormal: Destination vector cannot be null";
+
+        double length = getLength();
+
+        assert length != 0 : "Vec2f:getNormal: Cannot normalize a zero-length vector";
+
+        dest.x = (float) (this.x / length);
+        dest.y = (float) (this.y / length);
+
+        return dest;
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param other the vector to add
+     * @return this vector
+     */
+    public Vec2f addLocal(IVector other) {
+        return add(other, this);
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param other the vector to subtract
+     * @return this vector
+     */
+    public Vec2f subLocal(IVector other) {
+        return subtract(other, this);
+    }
+
+    /**
+     * Multiplies this vector by a float scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec2f scaleLocal(float scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Multiplies this vector by a double scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec2f scaleLocal(double scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @return this vector
+     */
+    public Vec2f normalizeLocal() {
+        return getNormal(this);
+    }
 }
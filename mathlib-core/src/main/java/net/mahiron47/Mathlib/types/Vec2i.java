@@ -148,11 +148,21 @@ public class Vec2i implements IVector {
 
 	@Override
 	public Vec2i add(IVector other) {
+		if (other instanceof Vec2i) {
+			Vec2i vec = (Vec2i) other;
+			return new Vec2i(this.x + vec.x, this.y + vec.y);
+		}
+
 		return new Vec2i(this.x + other.geti(0), this.y + other.geti(1));
 	}
 
 	@Override
 	public Vec2i subtract(IVector other) {
+		if (other instanceof Vec2i) {
+			Vec2i vec = (Vec2i) other;
+			return new Vec2i(this.x - vec.x, this.y - vec.y);
+		}
+
 		return new Vec2i(this.x - other.geti(0), this.y - other.geti(1));
 	}
 
@@ -178,6 +188,11 @@ public class Vec2i implements IVector {
 
 	@Override
 	public int doti(IVector other) {
+		if (other instanceof Vec2i) {
+			Vec2i vec = (Vec2i) other;
+			return this.x * vec.x + this.y * vec.y;
+		}
+
 		return this.x * other.geti(0) + this.y * other.geti(1);
 	}
 
@@ -224,4 +239,199 @@ public class Vec2i implements IVector {
                 throw new IllegalArgumentException("Vec2i:cross: Other vector must be of dimension 2 or 3");
         }
     }
+
+	/**
+	 * Computes the sum of this vector and another vector into {@code dest}.
+	 * {@code dest} may be this vector or {@code other}.
+	 *
+	 * @param other the vector to add
+	 * @param dest the vector receiving the result
+	 * @return {@code dest}
+	 */
+	public Vec2i add(IVector other, Vec2i dest) {
+		assert other != null : "Vec2i:add: Other vector cannot be null";
+		assert other.getDimension() == 2 : "Vec2i:add: Other vector must be of dimension 2";
+		assert dest != null : "Vec2i:add: Destination vector cannot be null";
+
+		if (other instanceof Vec2i) {
+			Vec2i vec = (Vec2i) other;
+
+			dest.x = this.x + vec.x;
+			dest.y = this.y + vec.y;
+
+			return dest;
+		}
+
+		dest.x = this.x + other.geti(0);
+		dest.y = this.y + other.geti(1);
+
+		return dest;
+	}
+
+	/**
+	 * Computes the difference of this vector and another vector into {@code dest}.
+	 * {@code dest} may be this vector or {@code other}.
+	 *
+	 * @param other the vector to subtract
+	 * @param dest the vector receiving the result
+	 * @return {@code dest}
+	 */
+	public Vec2i subtract(IVector other, Vec2i dest) {
+		assert other != null : "Vec2i:subtract: Other vector cannot be null";
+		assert other.getDimension() == 2 : "Vec2i:subtract: Other vector must be of dimension 2";
+		assert dest != null : "Vec2i:subtract: Destination vector cannot be null";
+
+		if (other instanceof Vec2i) {
+			Vec2i vec = (Vec2i) other;
+
+			dest.x = this.x - vec.x;
+			dest.y = this.y - vec.y;
+
+			return dest;
+		}
+
+		dest.x = this.x - other.geti(0);
+		dest.y = this.y - other.geti(1);
+
+		return dest;
+	}
+
+	/**
+	 * Multiplies this vector by a int scalar into {@code dest}.
+	 *
+	 * @param scalar the scalar to multiply by
+	 * @param dest the vector receiving the result, may be this vector
+	 * @return {@code dest}
+	 */
+	public Vec2i multiply(int scalar, Vec2i dest) {
+		assert dest != null : "Vec2i:multiply: Destination vector cannot be null";
+
+		dest.x = this.x * scalar;
+		dest.y = this.y * scalar;
+
+		return dest;
+	}
+
+	/**
+	 * Multiplies this vector by a double scalar into {@code dest}.
+	 *
+	 * @param scalar the scalar to multiply by
+	 * @param dest the vector receiving the result, may be this vector
+	 * @return {@code dest}
+	 */
+	public Vec2i multiply(double scalar, Vec2i dest) {
+		assert dest != null : "Vec2i:multiply: Destination vector cannot be null";
+
+		dest.x = (int) (this.x * scalar);
+		dest.y = (int) (this.y * scalar);
+
+		return dest;
+	}
+
+	/**
+	 * Normalizes this vector into {@code dest}.
+	 *
+	 * @param dest the vector receiving the result, may be this vector
+	 * @return {@code dest}
+	 */
+	public Vec2i getNormal(Vec2i dest) {
+		assert dest != null : "Vec2i:getNormal: Destination vector cannot be null";
+
+		double length = getLength();
+
+		assert length != 0 : "Vec2i:getNormal: Cannot normalize a zero-length vector";
+
+		dest.x = (int) (this.x / length);
+		dest.y = (int) (this.y / length);
+
+		return dest;
+	}
+
+	/**
+	 * Adds another vector to this vector in place.
+	 *
+	 * @param other the vector to add
+	 * @return this vector
+	 */
+	public Vec2i addLocal(IVector other) {
+		return add(other, this);
+	}
+
+	/**
+	 * Subtracts another vector from this vector in place.
+	 *
+	 * @param other the vector to subtract
+	 * @return this vector
+	 */
+	public Vec2i subLocal(IVector other) {
+		return subtract(other, this);
+	}
+
+	/**
+	 * Multiplies this vector by a int scalar in place.
+	 *
+	 * @param scalar the scalar to multiply by
+	 * @return this vector
+	 */
+	public Vec2i scaleLocal(int scalar) {
+		return multiply(scalar, this);
+	}
+
+	/**
+	 * Multiplies this vector by a double scalar in place.
+	 *
+	 * @param scalar the scalar to multiply by
+	 * @return this vector
+	 */
+	public Vec2i scaleLocal(double scalar) {
+		return multiply(scalar, this);
+	}
+
+	/**
+	 * Normalizes this vector in place.
+	 *
+	 * @return this vector
+	 */
+	public Vec2i normalizeLocal() {
+		return getNormal(this);
+	}
+
+	/**
+	 * Packs this vector into a long, see {@link #pack(int, int)}.
+	 *
+	 * @return the packed coordinates
+	 */
+	public long pack() {
+		return pack(x, y);
+	}
+
+	/**
+	 * Packs two coordinates losslessly into a long, x in the low and y in the high 32 bits.
+	 * This is the layout of Minecraft's {@code ChunkPos.asLong(x, z)}.
+	 *
+	 * @param x the x coordinate
+	 * @param y the y coordinate
+	 * @return the packed coordinates
+	 */
+	public static long pack(int x, int y) {
+		return (x & 0xFFFFFFFFL) | (long) y << 32;
+	}
+
+	/**
+	 * Unpacks coordinates written by {@link #pack(int, int)}.
+	 *
+	 * @param packed the packed coordinates
+	 * @return a new Vec2i
+	 */
+	public static Vec2i unpack(long packed) {
+		return new Vec2i(unpackX(packed), unpackY(packed));
+	}
+
+	public static int unpackX(long packed) {
+		return (int) packed;
+	}
+
+	public static int unpackY(long packed) {
+		return (int) (packed >> 32);
+	}
 }
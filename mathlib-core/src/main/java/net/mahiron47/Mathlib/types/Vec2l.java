@@ -133,11 +133,21 @@ public class Vec2l implements IVector {
 
     @Override
     public Vec2l add(IVector other) {
+        if (other instanceof Vec2l) {
+            Vec2l vec = (Vec2l) other;
+            return new Vec2l(this.x + vec.x, this.y + vec.y);
+        }
+
         return new Vec2l(this.x + other.getl(0), this.y + other.getl(1));
     }
 
     @Override
     public Vec2l subtract(IVector other) {
+        if (other instanceof Vec2l) {
+            Vec2l vec = (Vec2l) other;
+            return new Vec2l(this.x - vec.x, this.y - vec.y);
+        }
+
         return new Vec2l(this.x - other.getl(0), this.y - other.getl(1));
     }
 
@@ -168,6 +178,11 @@ public class Vec2l implements IVector {
 
     @Override
     public long dotl(IVector other) {
+        if (other instanceof Vec2l) {
+            Vec2l vec = (Vec2l) other;
+            return this.x * vec.x + this.y * vec.y;
+        }
+
         return this.x * other.getl(0) + this.y * other.getl(1);
     }
 
@@ -209,4 +224,160 @@ public class Vec2l implements IVector {
                 throw new IllegalArgumentException("Vec2l:cross: Other vector must be of dimension 2 or 3");
         }
     }
+
+    /**
+     * Computes the sum of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to add
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec2l add(IVector other, Vec2l dest) {
+        assert other != null : "Vec2l:add: Other vector cannot be null";
+        assert other.getDimension() == 2 : "Vec2l:add: Other vector must be of dimension 2";
+        assert dest != null : "Vec2l:add: Destination vector cannot be null";
+
+        if (other instanceof Vec2l) {
+            Vec2l vec = (Vec2l) other;
+
+            dest.x = this.x + vec.x;
+            dest.y = this.y + vec.y;
+
+            return dest;
+        }
+
+        dest.x = this.x + other.getl(0);
+        dest.y = this.y + other.getl(1);
+
+        return dest;
+    }
+
+    /**
+     * Computes the difference of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to subtract
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec2l subtract(IVector other, Vec2l dest) {
+        assert other != null : "Vec2l:subtract: Other vector cannot be null";
+        assert other.getDimension() == 2 : "Vec2l:subtract: Other vector must be of dimension 2";
+        assert dest != null : "Vec2l:subtract: Destination vector cannot be null";
+
+        if (other instanceof Vec2l) {
+            Vec2l vec = (Vec2l) other;
+
+            dest.x = this.x - vec.x;
+            dest.y = this.y - vec.y;
+
+            return dest;
+        }
+
+        dest.x = this.x - other.getl(0);
+        dest.y = this.y - other.getl(1);
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a long scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec2l multiply(long scalar, Vec2l dest) {
+        assert dest != null : "Vec2l:multiply: Destination vector cannot be null";
+
+        dest.x = this.x * scalar;
+        dest.y = this.y * scalar;
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a double scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec2l multiply(double scalar, Vec2l dest) {
+        assert dest != null : "Vec2l:multiply: Destination vector cannot be null";
+
+        dest.x = (long) (this.x * scalar);
+        dest.y = (long) (this.y * scalar);
+
+        return dest;
+    }
+
+    /**
+     * Normalizes this vector into {@code dest}.
+     *
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec2l getNormal(Vec2l dest) {
+        assert dest != null : "Vec2l:getNormal: Destination vector cannot be null";
+
+        double length = getLength();
+
+        assert length != 0 : "Vec2l:getNormal: Cannot normalize a zero-length vector";
+
+        dest.x = (long) (this.x / length);
+        dest.y = (long) (this.y / length);
+
+        return dest;
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param other the vector to add
+     * @return this vector
+     */
+    public Vec2l addLocal(IVector other) {
+        return add(other, this);
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param other the vector to subtract
+     * @return this vector
+     */
+    public Vec2l subLocal(IVector other) {
+        return subtract(other, this);
+    }
+
+    /**
+     * Multiplies this vector by a long scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec2l scaleLocal(long scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Multiplies this vector by a double scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec2l scaleLocal(double scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @return this vector
+     */
+    public Vec2l normalizeLocal() {
+        return getNormal(this);
+    }
 }
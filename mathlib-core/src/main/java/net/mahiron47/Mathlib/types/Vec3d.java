@@ -2,11 +2,12 @@ package net.mahiron47.mathlib.types;
 
 import net.mahiron47.mathlib.types.interfaces.ITensor;
 import net.mahiron47.mathlib.types.interfaces.IVector;
+import net.mahiron47.mathlib.utils.Intrinsics;
 
 public class Vec3d implements IVector {
-    private double x;
-    private double y;
-    private double z;
+    double x;
+    double y;
+    double z;
 
     public Vec3d(double x, double y, double z) {
         this.x = x;
@@ -171,6 +172,15 @@ public class Vec3d implements IVector {
         assert other != null : "Vec3d:add: Other vector cannot be null";
         assert other.getDimension() == 3 : "Vec3d:add: Other vector must be of dimension 3";
         
+        if (other instanceof Vec3d) {
+            Vec3d vec = (Vec3d) other;
+            return new Vec3d(
+                this.x + vec.x,
+                this.y + vec.y,
+                this.z + vec.z
+            );
+        }
+
         return new Vec3d(
             this.x + other.getd(0),
             this.y + other.getd(1),
@@ -183,6 +193,15 @@ public class Vec3d implements IVector {
         assert other != null : "Vec3d:subtract: Other vector cannot be null";
         assert other.getDimension() == 3 : "Vec3d:subtract: Other vector must be of dimension 3";
         
+        if (other instanceof Vec3d) {
+            Vec3d vec = (Vec3d) other;
+            return new Vec3d(
+                this.x - vec.x,
+                this.y - vec.y,
+                this.z - vec.z
+            );
+        }
+
         return new Vec3d(
             this.x - other.getd(0),
             this.y - other.getd(1),
@@ -247,7 +266,7 @@ public class Vec3d implements IVector {
         assert other != null : "Vec3d:dotf: Other vector cannot be null";
         assert other.getDimension() == 3 : "Vec3d:dotf: Other vector must be of dimension 3";
 
-        return (float) (this.x * other.getf(0) + this.y * other.getf(1) + this.z * other.getf(2));
+        return (float) Intrinsics.fma(this.z, other.getf(2), Intrinsics.fma(this.y, other.getf(1), this.x * other.getf(0)));
     }
 
     @Override
@@ -255,13 +274,27 @@ public class Vec3d implements IVector {
         assert other != null : "Vec3d:dotd: Other vector cannot be null";
         assert other.getDimension() == 3 : "Vec3d:dotd: Other vector must be of dimension 3";
 
-        return this.x * other.getd(0) + this.y * other.getd(1) + this.z * other.getd(2);
+        if (other instanceof Vec3d) {
+            Vec3d vec = (Vec3d) other;
+            return Intrinsics.fma(this.z, vec.z, Intrinsics.fma(this.y, vec.y, this.x * vec.x));
+        }
+
+        return Intrinsics.fma(this.z, other.getd(2), Intrinsics.fma(this.y, other.getd(1), this.x * other.getd(0)));
     }
 
     @Override
     public IVector cross(IVector other) {
         assert other != null : "Vec3d:cross: Other vector cannot be null";
 
+        if (other instanceof Vec3d) {
+            Vec3d vec = (Vec3d) other;
+            return new Vec3d(
+                this.y * vec.z - this.z * vec.y,
+                this.z * vec.x - this.x * vec.z,
+                this.x * vec.y - this.y * vec.x
+            );
+        }
+
         switch (other.getDimension()) {
             case 2:
                 return new Vec3d(
@@ -286,4 +319,191 @@ public class Vec3d implements IVector {
                 throw new IllegalArgumentException("Vec3d:cross: Other vector must be of dimension 2 or 3");
         }
     }
+
+    /**
+     * Computes the sum of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to add
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec3d add(IVector other, Vec3d dest) {
+        assert other != null : "Vec3d:add: Other vector cannot be null";
+        assert other.getDimension() == 3 : "Vec3d:add: Other vector must be of dimension 3";
+        assert dest != null : "Vec3d:add: Destination vector cannot be null";
+
+        if (other instanceof Vec3d) {
+            Vec3d vec = (Vec3d) other;
+
+            dest.x = this.x + vec.x;
+            dest.y = this.y + vec.y;
+            dest.z = this.z + vec.z;
+
+            return dest;
+        }
+
+        dest.x = this.x + other.getd(0);
+        dest.y = this.y + other.getd(1);
+        dest.z = this.z + other.getd(2);
+
+        return dest;
+    }
+
+    /**
+     * Computes the difference of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to subtract
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec3d subtract(IVector other, Vec3d dest) {
+        assert other != null : "Vec3d:subtract: Other vector cannot be null";
+        assert other.getDimension() == 3 : "Vec3d:subtract: Other vector must be of dimension 3";
+        assert dest != null : "Vec3d:subtract: Destination vector cannot be null";
+
+        if (other instanceof Vec3d) {
+            Vec3d vec = (Vec3d) other;
+
+            dest.x = this.x - vec.x;
+            dest.y = this.y - vec.y;
+            dest.z = this.z - vec.z;
+
+            return dest;
+        }
+
+        dest.x = this.x - other.getd(0);
+        dest.y = this.y - other.getd(1);
+        dest.z = this.z - other.getd(2);
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a double scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec3d multiply(double scalar, Vec3d dest) {
+        assert dest != null : "Vec3d:multiply: Destination vector cannot be null";
+
+        dest.x = this.x * scalar;
+        dest.y = this.y * scalar;
+        dest.z = this.z * scalar;
+
+        return dest;
+    }
+
+    /**
+     * Normalizes this vector into {@code dest}.
+     *
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec3d getNormal(Vec3d dest) {
+        assert dest != null : "Vec3d:getNormal: Destination vector cannot be null";
+
+        double length = getLength();
+
+        assert length != 0 : "Vec3d:getNormal: Cannot normalize a zero-length vector";
+
+        dest.x = this.x / length;
+        dest.y = this.y / length;
+        dest.z = this.z / length;
+
+        return dest;
+    }
+
+    /**
+     * Computes the cross product of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to compute cross product with
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec3d cross(IVector other, Vec3d dest) {
+        assert other != null : "Vec3d:cross: Other vector cannot be null";
+        assert dest != null : "Vec3d:cross: Destination vector cannot be null";
+
+        if (other instanceof Vec3d) {
+            Vec3d vec = (Vec3d) other;
+            double cx = this.y * vec.z - this.z * vec.y;
+            double cy = this.z * vec.x - this.x * vec.z;
+            double cz = this.x * vec.y - this.y * vec.x;
+            dest.x = cx; dest.y = cy; dest.z = cz;
+            return dest;
+        }
+
+        switch (other.getDimension()) {
+            case 2: {
+                double cx = -this.z * other.getd(1);
+                double cy = this.z * other.getd(0);
+                double cz = this.x * other.getd(1) - this.y * other.getd(0);
+                dest.x = cx; dest.y = cy; dest.z = cz;
+                return dest;
+            }
+            case 3: {
+                double cx = this.y * other.getd(2) - this.z * other.getd(1);
+                double cy = this.z * other.getd(0) - this.x * other.getd(2);
+                double cz = this.x * other.getd(1) - this.y * other.getd(0);
+                dest.x = cx; dest.y = cy; dest.z = cz;
+                return dest;
+            }
+            default:
+                throw new IllegalArgumentException("Vec3d:cross: Other vector must be of dimension 2 or 3");
+        }
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param other the vector to add
+     * @return this vector
+     */
+    public Vec3d addLocal(IVector other) {
+        return add(other, this);
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param other the vector to subtract
+     * @return this vector
+     */
+    public Vec3d subLocal(IVector other) {
+        return subtract(other, this);
+    }
+
+    /**
+     * Multiplies this vector by a double scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec3d scaleLocal(double scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @return this vector
+     */
+    public Vec3d normalizeLocal() {
+        return getNormal(this);
+    }
+
+    /**
+     * Replaces this vector with its cross product with another vector.
+     *
+     * @param other the vector to compute cross product with
+     * @return this vector
+     */
+    public Vec3d crossLocal(IVector other) {
+        return cross(other, this);
+    }
 }
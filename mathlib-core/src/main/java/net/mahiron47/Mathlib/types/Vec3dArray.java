@@ -0,0 +1,312 @@
+package net.mahiron47.mathlib.types;
+
+import net.mahiron47.mathlib.types.interfaces.IVector;
+
+/**
+ * A fixed-size batch of 3-dimensional double vectors stored as three coordinate arrays.
+ *
+ * <pre>
+ * Vector i is represented as:
+ * | x[i]  y[i]  z[i] |
+ * </pre>
+ *
+ * Bulk operations modify the batch in place and return it, so they can be chained.
+ */
+public class Vec3dArray {
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+    private final int size;
+
+    public Vec3dArray(int size) {
+        assert size >= 0 : "Vec3dArray:constructor: size < 0";
+
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+        this.size = size;
+    }
+
+    /**
+     * Wraps existing coordinate arrays without copying them.
+     *
+     * @param x the x coordinates
+     * @param y the y coordinates
+     * @param z the z coordinates
+     */
+    public Vec3dArray(double[] x, double[] y, double[] z) {
+        assert x != null && y != null && z != null : "Vec3dArray:constructor2: Coordinate arrays cannot be null";
+        assert x.length == y.length && y.length == z.length : "Vec3dArray:constructor2: Coordinate arrays must have the same length";
+
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.size = x.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double[] getX() {
+        return x;
+    }
+
+    public double[] getY() {
+        return y;
+    }
+
+    public double[] getZ() {
+        return z;
+    }
+
+    /**
+     * Copies vector i into {@code dest}.
+     *
+     * @param i the index of the vector
+     * @param dest the vector receiving the coordinates
+     * @return {@code dest}
+     */
+    public Vec3d get(int i, Vec3d dest) {
+        assert dest != null : "Vec3dArray:get: Destination vector cannot be null";
+
+        dest.x = x[i];
+        dest.y = y[i];
+        dest.z = z[i];
+        return dest;
+    }
+
+    public void set(int i, double x, double y, double z) {
+        this.x[i] = x;
+        this.y[i] = y;
+        this.z[i] = z;
+    }
+
+    public void set(int i, IVector vector) {
+        assert vector != null : "Vec3dArray:set: Vector cannot be null";
+        assert vector.getDimension() == 3 : "Vec3dArray:set: Vector must be of dimension 3";
+
+        this.x[i] = vector.getd(0);
+        this.y[i] = vector.getd(1);
+        this.z[i] = vector.getd(2);
+    }
+
+    public Vec3dArray copy() {
+        return new Vec3dArray(x.clone(), y.clone(), z.clone());
+    }
+
+    /**
+     * Adds the vectors of another batch element-wise.
+     *
+     * @param other the batch to add, of the same size
+     * @return this batch
+     */
+    public Vec3dArray add(Vec3dArray other) {
+        assert other != null : "Vec3dArray:add: Other batch cannot be null";
+        assert other.size == size : "Vec3dArray:add: Other batch must have the same size";
+
+        double[] ox = other.x, oy = other.y, oz = other.z;
+        for (int i = 0; i < size; i++) {
+            x[i] += ox[i];
+            y[i] += oy[i];
+            z[i] += oz[i];
+        }
+        return this;
+    }
+
+    /**
+     * Adds the same vector to every vector of the batch.
+     *
+     * @param other the vector to add
+     * @return this batch
+     */
+    public Vec3dArray add(IVector other) {
+        assert other != null : "Vec3dArray:add: Other vector cannot be null";
+        assert other.getDimension() == 3 : "Vec3dArray:add: Other vector must be of dimension 3";
+
+        double ox = other.getd(0), oy = other.getd(1), oz = other.getd(2);
+        for (int i = 0; i < size; i++) {
+            x[i] += ox;
+            y[i] += oy;
+            z[i] += oz;
+        }
+        return this;
+    }
+
+    public Vec3dArray subtract(Vec3dArray other) {
+        assert other != null : "Vec3dArray:subtract: Other batch cannot be null";
+        assert other.size == size : "Vec3dArray:subtract: Other batch must have the same size";
+
+        double[] ox = other.x, oy = other.y, oz = other.z;
+        for (int i = 0; i < size; i++) {
+            x[i] -= ox[i];
+            y[i] -= oy[i];
+            z[i] -= oz[i];
+        }
+        return this;
+    }
+
+    public Vec3dArray scale(double scalar) {
+        for (int i = 0; i < size; i++) {
+            x[i] *= scalar;
+            y[i] *= scalar;
+            z[i] *= scalar;
+        }
+        return this;
+    }
+
+    /**
+     * Computes the dot product of each vector with the matching vector of another batch.
+     *
+     * @param other the other batch, of the same size
+     * @param out receives the dot products, at least {@link #size()} long
+     * @return {@code out}
+     */
+    public double[] dot(Vec3dArray other, double[] out) {
+        assert other != null : "Vec3dArray:dot: Other batch cannot be null";
+        assert other.size == size : "Vec3dArray:dot: Other batch must have the same size";
+        assert out != null && out.length >= size : "Vec3dArray:dot: Output array is too short";
+
+        double[] ox = other.x, oy = other.y, oz = other.z;
+        for (int i = 0; i < size; i++) {
+            out[i] = x[i] * ox[i] + y[i] * oy[i] + z[i] * oz[i];
+        }
+        return out;
+    }
+
+    /**
+     * Computes the dot product of each vector with the same vector.
+     *
+     * @param other the vector to compute dot products with
+     * @param out receives the dot products, at least {@link #size()} long
+     * @return {@code out}
+     */
+    public double[] dot(IVector other, double[] out) {
+        assert other != null : "Vec3dArray:dot: Other vector cannot be null";
+        assert other.getDimension() == 3 : "Vec3dArray:dot: Other vector must be of dimension 3";
+        assert out != null && out.length >= size : "Vec3dArray:dot: Output array is too short";
+
+        double ox = other.getd(0), oy = other.getd(1), oz = other.getd(2);
+        for (int i = 0; i < size; i++) {
+            out[i] = x[i] * ox + y[i] * oy + z[i] * oz;
+        }
+        return out;
+    }
+
+    /**
+     * Replaces each vector with its cross product with the matching vector of another batch.
+     *
+     * @param other the other batch, of the same size
+     * @return this batch
+     */
+    public Vec3dArray cross(Vec3dArray other) {
+        assert other != null : "Vec3dArray:cross: Other batch cannot be null";
+        assert other.size == size : "Vec3dArray:cross: Other batch must have the same size";
+
+        double[] ox = other.x, oy = other.y, oz = other.z;
+        for (int i = 0; i < size; i++) {
+            double ax = x[i], ay = y[i], az = z[i];
+            double bx = ox[i], by = oy[i], bz = oz[i];
+            x[i] = ay * bz - az * by;
+            y[i] = az * bx - ax * bz;
+            z[i] = ax * by - ay * bx;
+        }
+        return this;
+    }
+
+    /**
+     * Replaces each vector with its cross product with the same vector.
+     *
+     * @param other the vector to compute cross products with
+     * @return this batch
+     */
+    public Vec3dArray cross(IVector other) {
+        assert other != null : "Vec3dArray:cross: Other vector cannot be null";
+        assert other.getDimension() == 3 : "Vec3dArray:cross: Other vector must be of dimension 3";
+
+        double bx = other.getd(0), by = other.getd(1), bz = other.getd(2);
+        for (int i = 0; i < size; i++) {
+            double ax = x[i], ay = y[i], az = z[i];
+            x[i] = ay * bz - az * by;
+            y[i] = az * bx - ax * bz;
+            z[i] = ax * by - ay * bx;
+        }
+        return this;
+    }
+
+    /**
+     * Computes the length of each vector.
+     *
+     * @param out receives the lengths, at least {@link #size()} long
+     * @return {@code out}
+     */
+    public double[] length(double[] out) {
+        assert out != null && out.length >= size : "Vec3dArray:length: Output array is too short";
+
+        for (int i = 0; i < size; i++) {
+            out[i] = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+        }
+        return out;
+    }
+
+    /**
+     * Normalizes every vector, giving the same result as {@link Vec3d#getNormal()}.
+     * Zero-length vectors are left unchanged.
+     *
+     * @return this batch
+     */
+    public Vec3dArray normalize() {
+        for (int i = 0; i < size; i++) {
+            double length = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+            if (length != 0) {
+                x[i] = x[i] / length;
+                y[i] = y[i] / length;
+                z[i] = z[i] / length;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies every vector by a 3x3 matrix, as column vectors.
+     *
+     * @param matrix the transform
+     * @return this batch
+     */
+    public Vec3dArray transform(Mat3d matrix) {
+        assert matrix != null : "Vec3dArray:transform: Matrix cannot be null";
+
+        double m11 = matrix.getd(0, 0), m12 = matrix.getd(0, 1), m13 = matrix.getd(0, 2);
+        double m21 = matrix.getd(1, 0), m22 = matrix.getd(1, 1), m23 = matrix.getd(1, 2);
+        double m31 = matrix.getd(2, 0), m32 = matrix.getd(2, 1), m33 = matrix.getd(2, 2);
+        for (int i = 0; i < size; i++) {
+            double px = x[i], py = y[i], pz = z[i];
+            x[i] = m11 * px + m12 * py + m13 * pz;
+            y[i] = m21 * px + m22 * py + m23 * pz;
+            z[i] = m31 * px + m32 * py + m33 * pz;
+        }
+        return this;
+    }
+
+    /**
+     * Transforms every vector as a point (w = 1) by an affine 4x4 matrix.
+     * The bottom row of the matrix is ignored.
+     *
+     * @param matrix the transform
+     * @return this batch
+     */
+    public Vec3dArray transform(Mat4d matrix) {
+        assert matrix != null : "Vec3dArray:transform: Matrix cannot be null";
+
+        double m11 = matrix.getd(0, 0), m12 = matrix.getd(0, 1), m13 = matrix.getd(0, 2), m14 = matrix.getd(0, 3);
+        double m21 = matrix.getd(1, 0), m22 = matrix.getd(1, 1), m23 = matrix.getd(1, 2), m24 = matrix.getd(1, 3);
+        double m31 = matrix.getd(2, 0), m32 = matrix.getd(2, 1), m33 = matrix.getd(2, 2), m34 = matrix.getd(2, 3);
+        for (int i = 0; i < size; i++) {
+            double px = x[i], py = y[i], pz = z[i];
+            x[i] = m11 * px + m12 * py + m13 * pz + m14;
+            y[i] = m21 * px + m22 * py + m23 * pz + m24;
+            z[i] = m31 * px + m32 * py + m33 * pz + m34;
+        }
+        return this;
+    }
+}
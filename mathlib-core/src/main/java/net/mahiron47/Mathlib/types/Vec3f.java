@@ -2,11 +2,12 @@ package net.mahiron47.mathlib.types;
 
 import net.mahiron47.mathlib.types.interfaces.ITensor;
 import net.mahiron47.mathlib.types.interfaces.IVector;
+import net.mahiron47.mathlib.utils.Intrinsics;
 
 public class Vec3f implements IVector {
-    private float x;
-    private float y;
-    private float z;
+    float x;
+    float y;
+    float z;
 
     public Vec3f(float x, float y, float z) {
         this.x = x;
@@ -167,6 +168,15 @@ public class Vec3f implements IVector {
         assert other != null : "Vec3f:add: Other vector cannot be null";
         assert other.getDimension() == 3 : "Vec3f:add: Other vector must be of dimension 3";
         
+        if (other instanceof Vec3f) {
+            Vec3f vec = (Vec3f) other;
+            return new Vec3f(
+                this.x + vec.x,
+                this.y + vec.y,
+                this.z + vec.z
+            );
+        }
+
         return new Vec3f(
             this.x + other.getf(0),
             this.y + other.getf(1),
@@ -179,6 +189,15 @@ public class Vec3f implements IVector {
         assert other != null : "Vec3f:subtract: Other vector cannot be null";
         assert other.getDimension() == 3 : "Vec3f:subtract: Other vector must be of dimension 3";
         
+        if (other instanceof Vec3f) {
+            Vec3f vec = (Vec3f) other;
+            return new Vec3f(
+                this.x - vec.x,
+                this.y - vec.y,
+                this.z - vec.z
+            );
+        }
+
         return new Vec3f(
             this.x - other.getf(0),
             this.y - other.getf(1),
@@ -243,7 +262,12 @@ public class Vec3f implements IVector {
         assert other != null : "Vec3f:dotf: Other vector cannot be null";
         assert other.getDimension() == 3 : "Vec3f:dotf: Other vector must be of dimension 3";
 
-        return this.x * other.getf(0) + this.y * other.getf(1) + this.z * other.getf(2);
+        if (other instanceof Vec3f) {
+            Vec3f vec = (Vec3f) other;
+            return Intrinsics.fma(this.z, vec.z, Intrinsics.fma(this.y, vec.y, this.x * vec.x));
+        }
+
+        return Intrinsics.fma(this.z, other.getf(2), Intrinsics.fma(this.y, other.getf(1), this.x * other.getf(0)));
     }
 
     @Override
@@ -251,13 +275,22 @@ public class Vec3f implements IVector {
         assert other != null : "Vec3f:dotd: Other vector cannot be null";
         assert other.getDimension() == 3 : "Vec3f:dotd: Other vector must be of dimension 3";
 
-        return (double) (this.x * other.getd(0) + this.y * other.getd(1) + this.z * other.getd(2));
+        return (double) Intrinsics.fma(this.z, other.getd(2), Intrinsics.fma(this.y, other.getd(1), this.x * other.getd(0)));
     }
 
     @Override
     public IVector cross(IVector other) {
         assert other != null : "Vec3f:cross: Other vector cannot be null";
 
+        if (other instanceof Vec3f) {
+            Vec3f vec = (Vec3f) other;
+            return new Vec3f(
+                this.y * vec.z - this.z * vec.y,
+                this.z * vec.x - this.x * vec.z,
+                this.x * vec.y - this.y * vec.x
+            );
+        }
+
         switch (other.getDimension()) {
             case 2:
                 return new Vec3f(
@@ -282,4 +315,218 @@ public class Vec3f implements IVector {
                 throw new IllegalArgumentException("Vec3f:cross: Other vector must be of dimension 2 or 3");
         }
     }
+
+    /**
+     * Computes the sum of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to add
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec3f add(IVector other, Vec3f dest) {
+        assert other != null : "Vec3f:add: Other vector cannot be null";
+        assert other.getDimension() == 3 : "Vec3f:add: Other vector must be of dimension 3";
+        assert dest != null : "Vec3f:add: Destination vector cannot be null";
+
+        if (other instanceof Vec3f) {
+            Vec3f vec = (Vec3f) other;
+
+            dest.x = this.x + vec.x;
+            dest.y = this.y + vec.y;
+            dest.z = this.z + vec.z;
+
+            return dest;
+        }
+
+        dest.x = this.x + other.getf(0);
+        dest.y = this.y + other.getf(1);
+        dest.z = this.z + other.getf(2);
+
+        return dest;
+    }
+
+    /**
+     * Computes the difference of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to subtract
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec3f subtract(IVector other, Vec3f dest) {
+        assert other != null : "Vec3f:subtract: Other vector cannot be null";
+        assert other.getDimension() == 3 : "Vec3f:subtract: Other vector must be of dimension 3";
+        assert dest != null : "Vec3f:subtract: Destination vector cannot be null";
+
+        if (other instanceof Vec3f) {
+            Vec3f vec = (Vec3f) other;
+
+            dest.x = this.x - vec.x;
+            dest.y = this.y - vec.y;
+            dest.z = this.z - vec.z;
+
+            return dest;
+        }
+
+        dest.x = this.x - other.getf(0);
+        dest.y = this.y - other.getf(1);
+        dest.z = this.z - other.getf(2);
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a float scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec3f multiply(float scalar, Vec3f dest) {
+        assert dest != null : "Vec3f:multiply: Destination vector cannot be null";
+
+        dest.x = this.x * scalar;
+        dest.y = this.y * scalar;
+        dest.z = this.z * scalar;
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a double scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec3f multiply(double scalar, Vec3f dest) {
+        assert dest != null : "Vec3f:multiply: Destination vector cannot be null";
+
+        dest.x = (float) (this.x * scalar);
+        dest.y = (float) (this.y * scalar);
+        dest.z = (float) (this.z * scalar);
+
+        return dest;
+    }
+
+    /**
+     * Normalizes this vector into {@code dest}.
+     *
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec3f getNormal(Vec3f dest) {
+        assert dest != null : "Vec3f:getNormal: Destination vector cannot be null";
+
+        double length = getLength();
+
+        assert length != 0 : "Vec3f:getNormal: Cannot normalize a zero-length vector";
+
+        dest.x = (float) (this.x / length);
+        dest.y = (float) (this.y / length);
+        dest.z = (float) (this.z / length);
+
+        return dest;
+    }
+
+    /**
+     * Computes the cross product of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to compute cross product with
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec3f cross(IVector other, Vec3f dest) {
+        assert other != null : "Vec3f:cross: Other vector cannot be null";
+        assert dest != null : "Vec3f:cross: Destination vector cannot be null";
+
+        if (other instanceof Vec3f) {
+            Vec3f vec = (Vec3f) other;
+            float cx = this.y * vec.z - this.z * vec.y;
+            float cy = this.z * vec.x - this.x * vec.z;
+            float cz = this.x * vec.y - this.y * vec.x;
+            dest.x = cx; dest.y = cy; dest.z = cz;
+            return dest;
+        }
+
+        switch (other.getDimension()) {
+            case 2: {
+                float cx = -this.z * other.getf(1);
+                float cy = this.z * other.getf(0);
+                float cz = this.x * other.getf(1) - this.y * other.getf(0);
+                dest.x = cx; dest.y = cy; dest.z = cz;
+                return dest;
+            }
+            case 3: {
+                float cx = this.y * other.getf(2) - this.z * other.getf(1);
+                float cy = this.z * other.getf(0) - this.x * other.getf(2);
+                float cz = this.x * other.getf(1) - this.y * other.getf(0);
+                dest.x = cx; dest.y = cy; dest.z = cz;
+                return dest;
+            }
+            default:
+                throw new IllegalArgumentException("Vec3f:cross: Other vector must be of dimension 2 or 3");
+        }
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param other the vector to add
+     * @return this vector
+     */
+    public Vec3f addLocal(IVector other) {
+        return add(other, this);
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param other the vector to subtract
+     * @return this vector
+     */
+    public Vec3f subLocal(IVector other) {
+        return subtract(other, this);
+    }
+
+    /**
+     * Multiplies this vector by a float scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec3f scaleLocal(float scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Multiplies this vector by a double scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec3f scaleLocal(double scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @return this vector
+     */
+    public Vec3f normalizeLocal() {
+        return getNormal(this);
+    }
+
+    /**
+     * Replaces this vector with its cross product with another vector.
+     *
+     * @param other the vector to compute cross product with
+     * @return this vector
+     */
+    public Vec3f crossLocal(IVector other) {
+        return cross(other, this);
+    }
 }
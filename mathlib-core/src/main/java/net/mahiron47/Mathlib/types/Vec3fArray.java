@@ -0,0 +1,306 @@
+package net.mahiron47.mathlib.types;
+
+import net.mahiron47.mathlib.types.interfaces.IVector;
+import net.mahiron47.mathlib.utils.Bulk;
+
+/**
+ * A fixed-size batch of 3-dimensional float vectors stored as three coordinate arrays.
+ *
+ * <pre>
+ * Vector i is represented as:
+ * | x[i]  y[i]  z[i] |
+ * </pre>
+ *
+ * Bulk operations modify the batch in place and return it, so they can be chained.
+ */
+public class Vec3fArray {
+    private final float[] x;
+    private final float[] y;
+    private final float[] z;
+    private final int size;
+
+    public Vec3fArray(int size) {
+        assert size >= 0 : "Vec3fArray:constructor: size < 0";
+
+        this.x = new float[size];
+        this.y = new float[size];
+        this.z = new float[size];
+        this.size = size;
+    }
+
+    /**
+     * Wraps existing coordinate arrays without copying them.
+     *
+     * @param x the x coordinates
+     * @param y the y coordinates
+     * @param z the z coordinates
+     */
+    public Vec3fArray(float[] x, float[] y, float[] z) {
+        assert x != null && y != null && z != null : "Vec3fArray:constructor2: Coordinate arrays cannot be null";
+        assert x.length == y.length && y.length == z.length : "Vec3fArray:constructor2: Coordinate arrays must have the same length";
+
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.size = x.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public float[] getX() {
+        return x;
+    }
+
+    public float[] getY() {
+        return y;
+    }
+
+    public float[] getZ() {
+        return z;
+    }
+
+    /**
+     * Copies vector i into {@code dest}.
+     *
+     * @param i the index of the vector
+     * @param dest the vector receiving the coordinates
+     * @return {@code dest}
+     */
+    public Vec3f get(int i, Vec3f dest) {
+        assert dest != null : "Vec3fArray:get: Destination vector cannot be null";
+
+        dest.x = x[i];
+        dest.y = y[i];
+        dest.z = z[i];
+        return dest;
+    }
+
+    public void set(int i, float x, float y, float z) {
+        this.x[i] = x;
+        this.y[i] = y;
+        this.z[i] = z;
+    }
+
+    public void set(int i, IVector vector) {
+        assert vector != null : "Vec3fArray:set: Vector cannot be null";
+        assert vector.getDimension() == 3 : "Vec3fArray:set: Vector must be of dimension 3";
+
+        this.x[i] = vector.getf(0);
+        this.y[i] = vector.getf(1);
+        this.z[i] = vector.getf(2);
+    }
+
+    public Vec3fArray copy() {
+        return new Vec3fArray(x.clone(), y.clone(), z.clone());
+    }
+
+    /**
+     * Adds the vectors of another batch element-wise.
+     *
+     * @param other the batch to add, of the same size
+     * @return this batch
+     */
+    public Vec3fArray add(Vec3fArray other) {
+        assert other != null : "Vec3fArray:add: Other batch cannot be null";
+        assert other.size == size : "Vec3fArray:add: Other batch must have the same size";
+
+        float[] ox = other.x, oy = other.y, oz = other.z;
+        for (int i = 0; i < size; i++) {
+            x[i] += ox[i];
+            y[i] += oy[i];
+            z[i] += oz[i];
+        }
+        return this;
+    }
+
+    /**
+     * Adds the same vector to every vector of the batch.
+     *
+     * @param other the vector to add
+     * @return this batch
+     */
+    public Vec3fArray add(IVector other) {
+        assert other != null : "Vec3fArray:add: Other vector cannot be null";
+        assert other.getDimension() == 3 : "Vec3fArray:add: Other vector must be of dimension 3";
+
+        float ox = other.getf(0), oy = other.getf(1), oz = other.getf(2);
+        for (int i = 0; i < size; i++) {
+            x[i] += ox;
+            y[i] += oy;
+            z[i] += oz;
+        }
+        return this;
+    }
+
+    public Vec3fArray subtract(Vec3fArray other) {
+        assert other != null : "Vec3fArray:subtract: Other batch cannot be null";
+        assert other.size == size : "Vec3fArray:subtract: Other batch must have the same size";
+
+        float[] ox = other.x, oy = other.y, oz = other.z;
+        for (int i = 0; i < size; i++) {
+            x[i] -= ox[i];
+            y[i] -= oy[i];
+            z[i] -= oz[i];
+        }
+        return this;
+    }
+
+    public Vec3fArray scale(float scalar) {
+        for (int i = 0; i < size; i++) {
+            x[i] *= scalar;
+            y[i] *= scalar;
+            z[i] *= scalar;
+        }
+        return this;
+    }
+
+    /**
+     * Computes the dot product of each vector with the matching vector of another batch.
+     *
+     * @param other the other batch, of the same size
+     * @param out receives the dot products, at least {@link #size()} long
+     * @return {@code out}
+     */
+    public float[] dot(Vec3fArray other, float[] out) {
+        assert other != null : "Vec3fArray:dot: Other batch cannot be null";
+        assert other.size == size : "Vec3fArray:dot: Other batch must have the same size";
+        assert out != null && out.length >= size : "Vec3fArray:dot: Output array is too short";
+
+        float[] ox = other.x, oy = other.y, oz = other.z;
+        for (int i = 0; i < size; i++) {
+            out[i] = x[i] * ox[i] + y[i] * oy[i] + z[i] * oz[i];
+        }
+        return out;
+    }
+
+    /**
+     * Computes the dot product of each vector with the same vector.
+     *
+     * @param other the vector to compute dot products with
+     * @param out receives the dot products, at least {@link #size()} long
+     * @return {@code out}
+     */
+    public float[] dot(IVector other, float[] out) {
+        assert other != null : "Vec3fArray:dot: Other vector cannot be null";
+        assert other.getDimension() == 3 : "Vec3fArray:dot: Other vector must be of dimension 3";
+        assert out != null && out.length >= size : "Vec3fArray:dot: Output array is too short";
+
+        float ox = other.getf(0), oy = other.getf(1), oz = other.getf(2);
+        for (int i = 0; i < size; i++) {
+            out[i] = x[i] * ox + y[i] * oy + z[i] * oz;
+        }
+        return out;
+    }
+
+    /**
+     * Replaces each vector with its cross product with the matching vector of another batch.
+     *
+     * @param other the other batch, of the same size
+     * @return this batch
+     */
+    public Vec3fArray cross(Vec3fArray other) {
+        assert other != null : "Vec3fArray:cross: Other batch cannot be null";
+        assert other.size == size : "Vec3fArray:cross: Other batch must have the same size";
+
+        float[] ox = other.x, oy = other.y, oz = other.z;
+        for (int i = 0; i < size; i++) {
+            float ax = x[i], ay = y[i], az = z[i];
+            float bx = ox[i], by = oy[i], bz = oz[i];
+            x[i] = ay * bz - az * by;
+            y[i] = az * bx - ax * bz;
+            z[i] = ax * by - ay * bx;
+        }
+        return this;
+    }
+
+    /**
+     * Replaces each vector with its cross product with the same vector.
+     *
+     * @param other the vector to compute cross products with
+     * @return this batch
+     */
+    public Vec3fArray cross(IVector other) {
+        assert other != null : "Vec3fArray:cross: Other vector cannot be null";
+        assert other.getDimension() == 3 : "Vec3fArray:cross: Other vector must be of dimension 3";
+
+        float bx = other.getf(0), by = other.getf(1), bz = other.getf(2);
+        for (int i = 0; i < size; i++) {
+            float ax = x[i], ay = y[i], az = z[i];
+            x[i] = ay * bz - az * by;
+            y[i] = az * bx - ax * bz;
+            z[i] = ax * by - ay * bx;
+        }
+        return this;
+    }
+
+    /**
+     * Computes the length of each vector.
+     *
+     * @param out receives the lengths, at least {@link #size()} long
+     * @return {@code out}
+     */
+    public float[] length(float[] out) {
+        assert out != null && out.length >= size : "Vec3fArray:length: Output array is too short";
+
+        for (int i = 0; i < size; i++) {
+            out[i] = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+        }
+        return out;
+    }
+
+    /**
+     * Normalizes every vector, giving the same result as {@link Vec3f#getNormal()}.
+     * Zero-length vectors are left unchanged.
+     *
+     * @return this batch
+     */
+    public Vec3fArray normalize() {
+        for (int i = 0; i < size; i++) {
+            double length = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+            if (length != 0) {
+                x[i] = (float) (x[i] / length);
+                y[i] = (float) (y[i] / length);
+                z[i] = (float) (z[i] / length);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies every vector by a 3x3 matrix, as column vectors.
+     *
+     * @param matrix the transform
+     * @return this batch
+     */
+    public Vec3fArray transform(Mat3f matrix) {
+        assert matrix != null : "Vec3fArray:transform: Matrix cannot be null";
+
+        float m11 = matrix.getf(0, 0), m12 = matrix.getf(0, 1), m13 = matrix.getf(0, 2);
+        float m21 = matrix.getf(1, 0), m22 = matrix.getf(1, 1), m23 = matrix.getf(1, 2);
+        float m31 = matrix.getf(2, 0), m32 = matrix.getf(2, 1), m33 = matrix.getf(2, 2);
+        for (int i = 0; i < size; i++) {
+            float px = x[i], py = y[i], pz = z[i];
+            x[i] = m11 * px + m12 * py + m13 * pz;
+            y[i] = m21 * px + m22 * py + m23 * pz;
+            z[i] = m31 * px + m32 * py + m33 * pz;
+        }
+        return this;
+    }
+
+    /**
+     * Transforms every vector as a point (w = 1) by an affine 4x4 matrix.
+     * The bottom row of the matrix is ignored.
+     *
+     * @param matrix the transform
+     * @return this batch
+     * @see Bulk#transformPoints(Mat4f, float[], float[], float[], int, int)
+     */
+    public Vec3fArray transform(Mat4f matrix) {
+        assert matrix != null : "Vec3fArray:transform: Matrix cannot be null";
+
+        Bulk.transformPoints(matrix, x, y, z, 0, size);
+        return this;
+    }
+}
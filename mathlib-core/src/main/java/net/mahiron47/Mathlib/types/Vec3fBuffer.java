@@ -0,0 +1,136 @@
+package net.mahiron47.mathlib.types;
+
+import java.nio.FloatBuffer;
+
+import net.mahiron47.mathlib.types.interfaces.IVector;
+import net.mahiron47.mathlib.utils.Buffers;
+import net.mahiron47.mathlib.utils.Intrinsics;
+
+/**
+ * A fixed-size batch of 3-dimensional float vectors stored off-heap as interleaved xyz triples.
+ *
+ * <pre>
+ * Vector i occupies the floats:
+ * | 3*i  3*i + 1  3*i + 2 |
+ * </pre>
+ *
+ * The backing buffer has the layout of a tightly packed vertex position attribute and can be
+ * uploaded to OpenGL as-is.
+ */
+public class Vec3fBuffer {
+    private final FloatBuffer buffer;
+    private final int size;
+
+    public Vec3fBuffer(int size) {
+        assert size >= 0 : "Vec3fBuffer:constructor: size < 0";
+
+        this.buffer = Buffers.createFloatBuffer(size * 3);
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the backing direct buffer. Its position and limit are never changed by this class.
+     *
+     * @return the backing buffer
+     */
+    public FloatBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Copies vector i into {@code dest}.
+     *
+     * @param i the index of the vector
+     * @param dest the vector receiving the coordinates
+     * @return {@code dest}
+     */
+    public Vec3f get(int i, Vec3f dest) {
+        assert i >= 0 && i < size : "Vec3fBuffer:get: Index out of bounds";
+        assert dest != null : "Vec3fBuffer:get: Destination vector cannot be null";
+
+        dest.x = buffer.get(i * 3);
+        dest.y = buffer.get(i * 3 + 1);
+        dest.z = buffer.get(i * 3 + 2);
+        return dest;
+    }
+
+    public void set(int i, float x, float y, float z) {
+        assert i >= 0 && i < size : "Vec3fBuffer:set: Index out of bounds";
+
+        buffer.put(i * 3, x);
+        buffer.put(i * 3 + 1, y);
+        buffer.put(i * 3 + 2, z);
+    }
+
+    public void set(int i, IVector vector) {
+        assert vector != null : "Vec3fBuffer:set: Vector cannot be null";
+        assert vector.getDimension() == 3 : "Vec3fBuffer:set: Vector must be of dimension 3";
+
+        set(i, vector.getf(0), vector.getf(1), vector.getf(2));
+    }
+
+    /**
+     * Copies the first {@link #size()} vectors of a structure-of-arrays batch into this buffer.
+     *
+     * @param src the batch to copy from, at least as large as this buffer
+     * @return this buffer
+     */
+    public Vec3fBuffer set(Vec3fArray src) {
+        assert src != null : "Vec3fBuffer:set: Source batch cannot be null";
+        assert src.size() >= size : "Vec3fBuffer:set: Source batch is smaller than this buffer";
+
+        float[] x = src.getX(), y = src.getY(), z = src.getZ();
+        for (int i = 0, j = 0; i < size; i++, j += 3) {
+            buffer.put(j, x[i]);
+            buffer.put(j + 1, y[i]);
+            buffer.put(j + 2, z[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Copies the vectors of this buffer into a structure-of-arrays batch.
+     *
+     * @param dest the batch receiving the vectors, at least as large as this buffer
+     * @return {@code dest}
+     */
+    public Vec3fArray get(Vec3fArray dest) {
+        assert dest != null : "Vec3fBuffer:get: Destination batch cannot be null";
+        assert dest.size() >= size : "Vec3fBuffer:get: Destination batch is smaller than this buffer";
+
+        float[] x = dest.getX(), y = dest.getY(), z = dest.getZ();
+        for (int i = 0, j = 0; i < size; i++, j += 3) {
+            x[i] = buffer.get(j);
+            y[i] = buffer.get(j + 1);
+            z[i] = buffer.get(j + 2);
+        }
+        return dest;
+    }
+
+    /**
+     * Transforms every vector as a point (w = 1) by an affine 4x4 matrix, in place.
+     * The bottom row of the matrix is ignored. Gives the same results as
+     * {@link net.mahiron47.mathlib.utils.Bulk#transformPoints(Mat4f, float[], int, int)}.
+     *
+     * @param matrix the transform
+     * @return this buffer
+     */
+    public Vec3fBuffer transform(Mat4f matrix) {
+        assert matrix != null : "Vec3fBuffer:transform: Matrix cannot be null";
+
+        float m11 = matrix.getf(0, 0), m12 = matrix.getf(0, 1), m13 = matrix.getf(0, 2), m14 = matrix.getf(0, 3);
+        float m21 = matrix.getf(1, 0), m22 = matrix.getf(1, 1), m23 = matrix.getf(1, 2), m24 = matrix.getf(1, 3);
+        float m31 = matrix.getf(2, 0), m32 = matrix.getf(2, 1), m33 = matrix.getf(2, 2), m34 = matrix.getf(2, 3);
+        for (int j = 0; j < size * 3; j += 3) {
+            float px = buffer.get(j), py = buffer.get(j + 1), pz = buffer.get(j + 2);
+            buffer.put(j, Intrinsics.fma(m13, pz, Intrinsics.fma(m12, py, Intrinsics.fma(m11, px, m14))));
+            buffer.put(j + 1, Intrinsics.fma(m23, pz, Intrinsics.fma(m22, py, Intrinsics.fma(m21, px, m24))));
+            buffer.put(j + 2, Intrinsics.fma(m33, pz, Intrinsics.fma(m32, py, Intrinsics.fma(m31, px, m34))));
+        }
+        return this;
+    }
+}
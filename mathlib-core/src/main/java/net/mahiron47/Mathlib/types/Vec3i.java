@@ -0,0 +1,582 @@
+package net.mahiron47.mathlib.types;
+
+import net.mahiron47.mathlib.types.interfaces.ITensor;
+import net.mahiron47.mathlib.types.interfaces.IVector;
+
+public class Vec3i implements IVector {
+	private static final int  PACKED_XZ_BITS = 26;
+	private static final int  PACKED_Y_BITS  = 12;
+	private static final int  PACKED_X_SHIFT = PACKED_Y_BITS + PACKED_XZ_BITS;
+	private static final int  PACKED_Y_SHIFT = PACKED_XZ_BITS;
+	private static final long PACKED_XZ_MASK = (1L << PACKED_XZ_BITS) - 1;
+	private static final long PACKED_Y_MASK  = (1L << PACKED_Y_BITS) - 1;
+
+	private int x;
+	private int y;
+	private int z;
+
+	public Vec3i(int x, int y, int z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+	}
+
+	@Override
+	public byte getType() {
+		return ITensor.TYPE_INT;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof IVector)) return false;
+
+		IVector other = (IVector) obj;
+		
+		return this.x == other.geti(0) && this.y == other.geti(1) && this.z == other.geti(2);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = Integer.hashCode(x);
+		result = 31 * result + Integer.hashCode(y);
+		result = 31 * result + Integer.hashCode(z);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "Vec3i{" +
+				"x=" + x +
+				", y=" + y +
+				", z=" + z +
+				'}';
+	}
+
+	@Override
+	public int geti(int i) {
+		switch (i) {
+			case 0: return x;
+			case 1: return y;
+			case 2: return z;
+			default: throw new IndexOutOfBoundsException("Index " + i + " is out of bounds for Vec3i");
+		}
+	}
+
+	@Override
+	public long getl(int i) {
+		switch (i) {
+			case 0: return x;
+			case 1: return y;
+			case 2: return z;
+			default: throw new IndexOutOfBoundsException("Index " + i + " is out of bounds for Vec3i");
+		}
+	}
+
+	@Override
+	public float getf(int i) {
+		switch (i) {
+			case 0: return x;
+			case 1: return y;
+			case 2: return z;
+			default: throw new IndexOutOfBoundsException("Index " + i + " is out of bounds for Vec3i");
+		}
+	}
+
+	@Override
+	public double getd(int i) {
+		switch (i) {
+			case 0: return x;
+			case 1: return y;
+			case 2: return z;
+			default: throw new IndexOutOfBoundsException("Index " + i + " is out of bounds for Vec3i");
+		}
+	}
+
+	@Override
+	public void set(int i, int a_i) {
+		switch (i) {
+			case 0: x = a_i; break;
+			case 1: y = a_i; break;
+			case 2: z = a_i; break;
+			default: throw new IndexOutOfBoundsException("Index " + i + " is out of bounds for Vec3i");
+		}
+	}
+
+	@Override
+	public void set(int i, long a_i) {
+		switch (i) {
+			case 0: x = (int) a_i; break;
+			case 1: y = (int) a_i; break;
+			case 2: z = (int) a_i; break;
+			default: throw new IndexOutOfBoundsException("Index " + i + " is out of bounds for Vec3i");
+		}
+	}
+
+	@Override
+	public void set(int i, float a_i) {
+		switch (i) {
+			case 0: x = (int) a_i; break;
+			case 1: y = (int) a_i; break;
+			case 2: z = (int) a_i; break;
+			default: throw new IndexOutOfBoundsException("Index " + i + " is out of bounds for Vec3i");
+		}
+	}
+
+	@Override
+	public void set(int i, double a_i) {
+		switch (i) {
+			case 0: x = (int) a_i; break;
+			case 1: y = (int) a_i; break;
+			case 2: z = (int) a_i; break;
+			default: throw new IndexOutOfBoundsException("Index " + i + " is out of bounds for Vec3i");
+		}
+	}
+
+	@Override
+	public int getDimension() {
+		return 3; 
+	}
+
+	@Override
+	public Vec3i copy() {
+		return new Vec3i(x, y, z);
+	}
+
+	@Override
+	public Mat convert() {
+		int[][] matrixData = {
+			{x},
+			{y},
+			{z}
+		};
+
+		return new Mat(matrixData, ITensor.TYPE_INT);
+	}
+
+	@Override
+	public double getLength() {
+		return Math.sqrt(this.x * this.x + this.y * this.y + this.z * this.z);
+	}
+
+	@Override
+	public Vec3i getNormal() {
+		double length = getLength();
+		
+		assert length != 0 : "Vec3i:getNormal: Cannot normalize a zero-length vector";
+		
+		return new Vec3i((int)(x / length), (int)(y / length), (int)(z / length));
+	}
+
+	@Override
+	public Vec3i add(IVector other) {
+		assert other != null : "Vec3i:add: Other vector cannot be null";
+		assert other.getDimension() == 3 : "Vec3i:add: Other vector must be of dimension 3";
+		
+		if (other instanceof Vec3i) {
+			Vec3i vec = (Vec3i) other;
+			return new Vec3i(
+				this.x + vec.x,
+				this.y + vec.y,
+				this.z + vec.z
+			);
+		}
+
+		return new Vec3i(
+			this.x + other.geti(0),
+			this.y + other.geti(1),
+			this.z + other.geti(2)
+		);
+	}
+
+	@Override
+	public Vec3i subtract(IVector other) {
+		assert other != null : "Vec3i:subtract: Other vector cannot be null";
+		assert other.getDimension() == 3 : "Vec3i:subtract: Other vector must be of dimension 3";
+		
+		if (other instanceof Vec3i) {
+			Vec3i vec = (Vec3i) other;
+			return new Vec3i(
+				this.x - vec.x,
+				this.y - vec.y,
+				this.z - vec.z
+			);
+		}
+
+		return new Vec3i(
+			this.x - other.geti(0),
+			this.y - other.geti(1),
+			this.z - other.geti(2)
+		);
+	}
+
+	@Override
+	public Vec3i multiply(int scalar) {
+		return new Vec3i(
+			this.x * scalar,
+			this.y * scalar,
+			this.z * scalar
+		);
+	}
+
+	@Override
+	public Vec3i multiply(long scalar) {
+		return new Vec3i(
+			this.x * (int) scalar,
+			this.y * (int) scalar,
+			this.z * (int) scalar
+		);
+	}
+
+	@Override
+	public Vec3i multiply(float scalar) {
+		return new Vec3i(
+			(int) (this.x * scalar),
+			(int) (this.y * scalar),
+			(int) (this.z * scalar)
+		);
+	}
+
+	@Override
+	public Vec3i multiply(double scalar) {
+		return new Vec3i(
+			(int) (this.x * scalar),
+			(int) (this.y * scalar),
+			(int) (this.z * scalar)
+		);
+	}
+
+	@Override
+	public int doti(IVector other) {
+		assert other != null : "Vec3i:doti: Other vector cannot be null";
+		assert other.getDimension() == 3 : "Vec3i:doti: Other vector must be of dimension 3";
+
+		if (other instanceof Vec3i) {
+			Vec3i vec = (Vec3i) other;
+			return this.x * vec.x + this.y * vec.y + this.z * vec.z;
+		}
+
+		return this.x * other.geti(0) + this.y * other.geti(1) + this.z * other.geti(2);
+	}
+
+	@Override
+	public long dotl(IVector other) {
+		assert other != null : "Vec3i:dotl: Other vector cannot be null";
+		assert other.getDimension() == 3 : "Vec3i:dotl: Other vector must be of dimension 3";
+
+		return (long) this.x * other.getl(0) + (long) this.y * other.getl(1) + (long) this.z * other.getl(2);
+	}
+
+	@Override
+	public float dotf(IVector other) {
+		assert other != null : "Vec3i:dotf: Other vector cannot be null";
+		assert other.getDimension() == 3 : "Vec3i:dotf: Other vector must be of dimension 3";
+
+		return (float) (this.x * other.getf(0) + this.y * other.getf(1) + this.z * other.getf(2));
+	}
+
+	@Override
+	public double dotd(IVector other) {
+		assert other != null : "Vec3i:dotd: Other vector cannot be null";
+		assert other.getDimension() == 3 : "Vec3i:dotd: Other vector must be of dimension 3";
+
+		return (double) (this.x * other.getd(0) + this.y * other.getd(1) + this.z * other.getd(2));
+	}
+
+	@Override
+	public IVector cross(IVector other) {
+        assert other != null : "Vec3i:cross: Other vector cannot be null";
+
+        if (other instanceof Vec3i) {
+            Vec3i vec = (Vec3i) other;
+            return new Vec3i(
+                this.y * vec.z - this.z * vec.y,
+                this.z * vec.x - this.x * vec.z,
+                this.x * vec.y - this.y * vec.x
+            );
+        }
+
+        switch (other.getDimension()) {
+            case 2:
+                return new Vec3i(
+                    -this.z * other.geti(1),
+                    this.z * other.geti(0),
+                    this.x * other.geti(1) - this.y * other.geti(0)
+                );
+            case 3:
+                return new Vec3i(
+                    this.y * other.geti(2) - this.z * other.geti(1),
+                    this.z * other.geti(0) - this.x * other.geti(2),
+                    this.x * other.geti(1) - this.y * other.geti(0)
+                );
+            case 4:
+                return new Vec4i(
+                    this.y * other.geti(2) - this.z * other.geti(1),
+                    this.z * other.geti(0) - this.x * other.geti(2),
+                    this.x * other.geti(1) - this.y * other.geti(0),
+                    other.geti(3)
+                );
+            default:
+                throw new IllegalArgumentException("Vec3i:cross: Other vector must be of dimension 2 or 3");
+        }
+    }
+
+	/**
+	 * Computes the sum of this vector and another vector into {@code dest}.
+	 * {@code dest} may be this vector or {@code other}.
+	 *
+	 * @param other the vector to add
+	 * @param dest the vector receiving the result
+	 * @return {@code dest}
+	 */
+	public Vec3i add(IVector other, Vec3i dest) {
+		assert other != null : "Vec3i:add: Other vector cannot be null";
+		assert other.getDimension() == 3 : "Vec3i:add: Other vector must be of dimension 3";
+		assert dest != null : "Vec3i:add: Destination vector cannot be null";
+
+		if (other instanceof Vec3i) {
+			Vec3i vec = (Vec3i) other;
+
+			dest.x = this.x + vec.x;
+			dest.y = this.y + vec.y;
+			dest.z = this.z + vec.z;
+
+			return dest;
+		}
+
+		dest.x = this.x + other.geti(0);
+		dest.y = this.y + other.geti(1);
+		dest.z = this.z + other.geti(2);
+
+		return dest;
+	}
+
+	/**
+	 * Computes the difference of this vector and another vector into {@code dest}.
+	 * {@code dest} may be this vector or {@code other}.
+	 *
+	 * @param other the vector to subtract
+	 * @param dest the vector receiving the result
+	 * @return {@code dest}
+	 */
+	public Vec3i subtract(IVector other, Vec3i dest) {
+		assert other != null : "Vec3i:subtract: Other vector cannot be null";
+		assert other.getDimension() == 3 : "Vec3i:subtract: Other vector must be of dimension 3";
+		assert dest != null : "Vec3i:subtract: Destination vector cannot be null";
+
+		if (other instanceof Vec3i) {
+			Vec3i vec = (Vec3i) other;
+
+			dest.x = this.x - vec.x;
+			dest.y = this.y - vec.y;
+			dest.z = this.z - vec.z;
+
+			return dest;
+		}
+
+		dest.x = this.x - other.geti(0);
+		dest.y = this.y - other.geti(1);
+		dest.z = this.z - other.geti(2);
+
+		return dest;
+	}
+
+	/**
+	 * Multiplies this vector by a int scalar into {@code dest}.
+	 *
+	 * @param scalar the scalar to multiply by
+	 * @param dest the vector receiving the result, may be this vector
+	 * @return {@code dest}
+	 */
+	public Vec3i multiply(int scalar, Vec3i dest) {
+		assert dest != null : "Vec3i:multiply: Destination vector cannot be null";
+
+		dest.x = this.x * scalar;
+		dest.y = this.y * scalar;
+		dest.z = this.z * scalar;
+
+		return dest;
+	}
+
+	/**
+	 * Multiplies this vector by a double scalar into {@code dest}.
+	 *
+	 * @param scalar the scalar to multiply by
+	 * @param dest the vector receiving the result, may be this vector
+	 * @return {@code dest}
+	 */
+	public Vec3i multiply(double scalar, Vec3i dest) {
+		assert dest != null : "Vec3i:multiply: Destination vector cannot be null";
+
+		dest.x = (int) (this.x * scalar);
+		dest.y = (int) (this.y * scalar);
+		dest.z = (int) (this.z * scalar);
+
+		return dest;
+	}
+
+	/**
+	 * Normalizes this vector into {@code dest}.
+	 *
+	 * @param dest the vector receiving the result, may be this vector
+	 * @return {@code dest}
+	 */
+	public Vec3i getNormal(Vec3i dest) {
+		assert dest != null : "Vec3i:getNormal: Destination vector cannot be null";
+
+		double length = getLength();
+
+		assert length != 0 : "Vec3i:getNormal: Cannot normalize a zero-length vector";
+
+		dest.x = (int) (this.x / length);
+		dest.y = (int) (this.y / length);
+		dest.z = (int) (this.z / length);
+
+		return dest;
+	}
+
+	/**
+	 * Computes the cross product of this vector and another vector into {@code dest}.
+	 * {@code dest} may be this vector or {@code other}.
+	 *
+	 * @param other the vector to compute cross product with
+	 * @param dest the vector receiving the result
+	 * @return {@code dest}
+	 */
+	public Vec3i cross(IVector other, Vec3i dest) {
+		assert other != null : "Vec3i:cross: Other vector cannot be null";
+		assert dest != null : "Vec3i:cross: Destination vector cannot be null";
+
+		if (other instanceof Vec3i) {
+			Vec3i vec = (Vec3i) other;
+			int cx = this.y * vec.z - this.z * vec.y;
+			int cy = this.z * vec.x - this.x * vec.z;
+			int cz = this.x * vec.y - this.y * vec.x;
+			dest.x = cx; dest.y = cy; dest.z = cz;
+			return dest;
+		}
+
+		switch (other.getDimension()) {
+			case 2: {
+				int cx = -this.z * other.geti(1);
+				int cy = this.z * other.geti(0);
+				int cz = this.x * other.geti(1) - this.y * other.geti(0);
+				dest.x = cx; dest.y = cy; dest.z = cz;
+				return dest;
+			}
+			case 3: {
+				int cx = this.y * other.geti(2) - this.z * other.geti(1);
+				int cy = this.z * other.geti(0) - this.x * other.geti(2);
+				int cz = this.x * other.geti(1) - this.y * other.geti(0);
+				dest.x = cx; dest.y = cy; dest.z = cz;
+				return dest;
+			}
+			default:
+				throw new IllegalArgumentException("Vec3i:cross: Other vector must be of dimension 2 or 3");
+		}
+	}
+
+	/**
+	 * Adds another vector to this vector in place.
+	 *
+	 * @param other the vector to add
+	 * @return this vector
+	 */
+	public Vec3i addLocal(IVector other) {
+		return add(other, this);
+	}
+
+	/**
+	 * Subtracts another vector from this vector in place.
+	 *
+	 * @param other the vector to subtract
+	 * @return this vector
+	 */
+	public Vec3i subLocal(IVector other) {
+		return subtract(other, this);
+	}
+
+	/**
+	 * Multiplies this vector by a int scalar in place.
+	 *
+	 * @param scalar the scalar to multiply by
+	 * @return this vector
+	 */
+	public Vec3i scaleLocal(int scalar) {
+		return multiply(scalar, this);
+	}
+
+	/**
+	 * Multiplies this vector by a double scalar in place.
+	 *
+	 * @param scalar the scalar to multiply by
+	 * @return this vector
+	 */
+	public Vec3i scaleLocal(double scalar) {
+		return multiply(scalar, this);
+	}
+
+	/**
+	 * Normalizes this vector in place.
+	 *
+	 * @return this vector
+	 */
+	public Vec3i normalizeLocal() {
+		return getNormal(this);
+	}
+
+	/**
+	 * Replaces this vector with its cross product with another vector.
+	 *
+	 * @param other the vector to compute cross product with
+	 * @return this vector
+	 */
+	public Vec3i crossLocal(IVector other) {
+		return cross(other, this);
+	}
+
+	/**
+	 * Packs this vector into a long, see {@link #pack(int, int, int)}.
+	 *
+	 * @return the packed coordinates
+	 */
+	public long pack() {
+		return pack(x, y, z);
+	}
+
+	/**
+	 * Packs block coordinates into a long with 26 bits for x, 12 bits for y and 26 bits for z,
+	 * the layout of Minecraft's {@code BlockPos.toLong()}. x and z must lie in [-2^25, 2^25) and
+	 * y in [-2048, 2048); other values wrap around.
+	 *
+	 * @param x the x coordinate
+	 * @param y the y coordinate
+	 * @param z the z coordinate
+	 * @return the packed coordinates
+	 */
+	public static long pack(int x, int y, int z) {
+		return (x & PACKED_XZ_MASK) << PACKED_X_SHIFT | (y & PACKED_Y_MASK) << PACKED_Y_SHIFT | (z & PACKED_XZ_MASK);
+	}
+
+	/**
+	 * Unpacks coordinates written by {@link #pack(int, int, int)}.
+	 *
+	 * @param packed the packed coordinates
+	 * @return a new Vec3i
+	 */
+	public static Vec3i unpack(long packed) {
+		return new Vec3i(unpackX(packed), unpackY(packed), unpackZ(packed));
+	}
+
+	public static int unpackX(long packed) {
+		return (int) (packed >> PACKED_X_SHIFT);
+	}
+
+	public static int unpackY(long packed) {
+		return (int) (packed << (64 - PACKED_X_SHIFT) >> (64 - PACKED_Y_BITS));
+	}
+
+	public static int unpackZ(long packed) {
+		return (int) (packed << (64 - PACKED_XZ_BITS) >> (64 - PACKED_XZ_BITS));
+	}
+}
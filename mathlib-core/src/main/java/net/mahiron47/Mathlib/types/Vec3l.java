@@ -166,6 +166,15 @@ public class Vec3l implements IVector {
         assert other != null : "Vec3l:add: Other vector cannot be null";
         assert other.getDimension() == 3 : "Vec3l:add: Other vector must be of dimension 3";
         
+        if (other instanceof Vec3l) {
+            Vec3l vec = (Vec3l) other;
+            return new Vec3l(
+                this.x + vec.x,
+                this.y + vec.y,
+                this.z + vec.z
+            );
+        }
+
         return new Vec3l(
             this.x + other.getl(0),
             this.y + other.getl(1),
@@ -178,6 +187,15 @@ public class Vec3l implements IVector {
         assert other != null : "Vec3l:subtract: Other vector cannot be null";
         assert other.getDimension() == 3 : "Vec3l:subtract: Other vector must be of dimension 3";
         
+        if (other instanceof Vec3l) {
+            Vec3l vec = (Vec3l) other;
+            return new Vec3l(
+                this.x - vec.x,
+                this.y - vec.y,
+                this.z - vec.z
+            );
+        }
+
         return new Vec3l(
             this.x - other.getl(0),
             this.y - other.getl(1),
@@ -234,6 +252,11 @@ public class Vec3l implements IVector {
         assert other != null : "Vec3l:dotl: Other vector cannot be null";
         assert other.getDimension() == 3 : "Vec3l:dotl: Other vector must be of dimension 3";
 
+        if (other instanceof Vec3l) {
+            Vec3l vec = (Vec3l) other;
+            return this.x * vec.x + this.y * vec.y + this.z * vec.z;
+        }
+
         return this.x * other.getl(0) + this.y * other.getl(1) + this.z * other.getl(2);
     }
 
@@ -257,6 +280,15 @@ public class Vec3l implements IVector {
     public IVector cross(IVector other) {
         assert other != null : "Vec3l:cross: Other vector cannot be null";
 
+        if (other instanceof Vec3l) {
+            Vec3l vec = (Vec3l) other;
+            return new Vec3l(
+                this.y * vec.z - this.z * vec.y,
+                this.z * vec.x - this.x * vec.z,
+                this.x * vec.y - this.y * vec.x
+            );
+        }
+
         switch (other.getDimension()) {
             case 2:
                 return new Vec3l(
@@ -281,4 +313,218 @@ public class Vec3l implements IVector {
                 throw new IllegalArgumentException("Vec3l:cross: Other vector must be of dimension 2 or 3");
         }
     }
+
+    /**
+     * Computes the sum of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to add
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec3l add(IVector other, Vec3l dest) {
+        assert other != null : "Vec3l:add: Other vector cannot be null";
+        assert other.getDimension() == 3 : "Vec3l:add: Other vector must be of dimension 3";
+        assert dest != null : "Vec3l:add: Destination vector cannot be null";
+
+        if (other instanceof Vec3l) {
+            Vec3l vec = (Vec3l) other;
+
+            dest.x = this.x + vec.x;
+            dest.y = this.y + vec.y;
+            dest.z = this.z + vec.z;
+
+            return dest;
+        }
+
+        dest.x = this.x + other.getl(0);
+        dest.y = this.y + other.getl(1);
+        dest.z = this.z + other.getl(2);
+
+        return dest;
+    }
+
+    /**
+     * Computes the difference of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to subtract
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec3l subtract(IVector other, Vec3l dest) {
+        assert other != null : "Vec3l:subtract: Other vector cannot be null";
+        assert other.getDimension() == 3 : "Vec3l:subtract: Other vector must be of dimension 3";
+        assert dest != null : "Vec3l:subtract: Destination vector cannot be null";
+
+        if (other instanceof Vec3l) {
+            Vec3l vec = (Vec3l) other;
+
+            dest.x = this.x - vec.x;
+            dest.y = this.y - vec.y;
+            dest.z = this.z - vec.z;
+
+            return dest;
+        }
+
+        dest.x = this.x - other.getl(0);
+        dest.y = this.y - other.getl(1);
+        dest.z = this.z - other.getl(2);
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a long scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec3l multiply(long scalar, Vec3l dest) {
+        assert dest != null : "Vec3l:multiply: Destination vector cannot be null";
+
+        dest.x = this.x * scalar;
+        dest.y = this.y * scalar;
+        dest.z = this.z * scalar;
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a double scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec3l multiply(double scalar, Vec3l dest) {
+        assert dest != null : "Vec3l:multiply: Destination vector cannot be null";
+
+        dest.x = (long) (this.x * scalar);
+        dest.y = (long) (this.y * scalar);
+        dest.z = (long) (this.z * scalar);
+
+        return dest;
+    }
+
+    /**
+     * Normalizes this vector into {@code dest}.
+     *
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec3l getNormal(Vec3l dest) {
+        assert dest != null : "Vec3l:getNormal: Destination vector cannot be null";
+
+        double length = getLength();
+
+        assert length != 0 : "Vec3l:getNormal: Cannot normalize a zero-length vector";
+
+        dest.x = (long) (this.x / length);
+        dest.y = (long) (this.y / length);
+        dest.z = (long) (this.z / length);
+
+        return dest;
+    }
+
+    /**
+     * Computes the cross product of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to compute cross product with
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec3l cross(IVector other, Vec3l dest) {
+        assert other != null : "Vec3l:cross: Other vector cannot be null";
+        assert dest != null : "Vec3l:cross: Destination vector cannot be null";
+
+        if (other instanceof Vec3l) {
+            Vec3l vec = (Vec3l) other;
+            long cx = this.y * vec.z - this.z * vec.y;
+            long cy = this.z * vec.x - this.x * vec.z;
+            long cz = this.x * vec.y - this.y * vec.x;
+            dest.x = cx; dest.y = cy; dest.z = cz;
+            return dest;
+        }
+
+        switch (other.getDimension()) {
+            case 2: {
+                long cx = -this.z * other.getl(1);
+                long cy = this.z * other.getl(0);
+                long cz = this.x * other.getl(1) - this.y * other.getl(0);
+                dest.x = cx; dest.y = cy; dest.z = cz;
+                return dest;
+            }
+            case 3: {
+                long cx = this.y * other.getl(2) - this.z * other.getl(1);
+                long cy = this.z * other.getl(0) - this.x * other.getl(2);
+                long cz = this.x * other.getl(1) - this.y * other.getl(0);
+                dest.x = cx; dest.y = cy; dest.z = cz;
+                return dest;
+            }
+            default:
+                throw new IllegalArgumentException("Vec3l:cross: Other vector must be of dimension 2 or 3");
+        }
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param other the vector to add
+     * @return this vector
+     */
+    public Vec3l addLocal(IVector other) {
+        return add(other, this);
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param other the vector to subtract
+     * @return this vector
+     */
+    public Vec3l subLocal(IVector other) {
+        return subtract(other, this);
+    }
+
+    /**
+     * Multiplies this vector by a long scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec3l scaleLocal(long scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Multiplies this vector by a double scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec3l scaleLocal(double scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @return this vector
+     */
+    public Vec3l normalizeLocal() {
+        return getNormal(this);
+    }
+
+    /**
+     * Replaces this vector with its cross product with another vector.
+     *
+     * @param other the vector to compute cross product with
+     * @return this vector
+     */
+    public Vec3l crossLocal(IVector other) {
+        return cross(other, this);
+    }
 }
@@ -2,6 +2,7 @@ package net.mahiron47.mathlib.types;
 
 import net.mahiron47.mathlib.types.interfaces.ITensor;
 import net.mahiron47.mathlib.types.interfaces.IVector;
+import net.mahiron47.mathlib.utils.Intrinsics;
 
 public class Vec4d implements IVector {
     private double x;
@@ -186,6 +187,16 @@ public class Vec4d implements IVector {
         assert other != null : "Vec4d:add: Other vector cannot be null";
         assert other.getDimension() == 4 : "Vec4d:add: Other vector must be of dimension 4";
         
+        if (other instanceof Vec4d) {
+            Vec4d vec = (Vec4d) other;
+            return new Vec4d(
+                this.x + vec.x,
+                this.y + vec.y,
+                this.z + vec.z,
+                this.w + vec.w
+            );
+        }
+
         return new Vec4d(
             this.x + other.getd(0),
             this.y + other.getd(1),
@@ -199,6 +210,16 @@ public class Vec4d implements IVector {
         assert other != null : "Vec4d:subtract: Other vector cannot be null";
         assert other.getDimension() == 4 : "Vec4d:subtract: Other vector must be of dimension 4";
         
+        if (other instanceof Vec4d) {
+            Vec4d vec = (Vec4d) other;
+            return new Vec4d(
+                this.x - vec.x,
+                this.y - vec.y,
+                this.z - vec.z,
+                this.w - vec.w
+            );
+        }
+
         return new Vec4d(
             this.x - other.getd(0),
             this.y - other.getd(1),
@@ -270,8 +291,7 @@ public class Vec4d implements IVector {
         assert other != null : "Vec4d:dotf: Other vector cannot be null";
         assert other.getDimension() == 4 : "Vec4d:dotf: Other vector must be of dimension 4";
 
-        return (float) (this.x * other.getf(0) + this.y * other.getf(1) + 
-                        this.z * other.getf(2) + this.w * other.getf(3));
+        return (float) Intrinsics.fma(this.w, other.getf(3), Intrinsics.fma(this.z, other.getf(2), Intrinsics.fma(this.y, other.getf(1), this.x * other.getf(0))));
     }
 
     @Override
@@ -279,14 +299,28 @@ public class Vec4d implements IVector {
         assert other != null : "Vec4d:dotd: Other vector cannot be null";
         assert other.getDimension() == 4 : "Vec4d:dotd: Other vector must be of dimension 4";
 
-        return this.x * other.getd(0) + this.y * other.getd(1) + 
-               this.z * other.getd(2) + this.w * other.getd(3);
+        if (other instanceof Vec4d) {
+            Vec4d vec = (Vec4d) other;
+            return Intrinsics.fma(this.w, vec.w, Intrinsics.fma(this.z, vec.z, Intrinsics.fma(this.y, vec.y, this.x * vec.x)));
+        }
+
+        return Intrinsics.fma(this.w, other.getd(3), Intrinsics.fma(this.z, other.getd(2), Intrinsics.fma(this.y, other.getd(1), this.x * other.getd(0))));
     }
 
     @Override
     public Vec4d cross(IVector other) {
         assert other != null : "Vec4d:cross: Other vector cannot be null";
 
+        if (other instanceof Vec4d) {
+            Vec4d vec = (Vec4d) other;
+            return new Vec4d(
+                this.y * vec.z - this.z * vec.y,
+                this.z * vec.x - this.x * vec.z,
+                this.x * vec.y - this.y * vec.x,
+                this.w * vec.w
+            );
+        }
+
         switch (other.getDimension()) {
             case 2:
                 return new Vec4d(
@@ -313,4 +347,208 @@ public class Vec4d implements IVector {
                 throw new IllegalArgumentException("Vec4d:cross: Other vector must be of dimension 3 or 4");
         }
     }
+
+    /**
+     * Computes the sum of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to add
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec4d add(IVector other, Vec4d dest) {
+        assert other != null : "Vec4d:add: Other vector cannot be null";
+        assert other.getDimension() == 4 : "Vec4d:add: Other vector must be of dimension 4";
+        assert dest != null : "Vec4d:add: Destination vector cannot be null";
+
+        if (other instanceof Vec4d) {
+            Vec4d vec = (Vec4d) other;
+
+            dest.x = this.x + vec.x;
+            dest.y = this.y + vec.y;
+            dest.z = this.z + vec.z;
+            dest.w = this.w + vec.w;
+
+            return dest;
+        }
+
+        dest.x = this.x + other.getd(0);
+        dest.y = this.y + other.getd(1);
+        dest.z = this.z + other.getd(2);
+        dest.w = this.w + other.getd(3);
+
+        return dest;
+    }
+
+    /**
+     * Computes the difference of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to subtract
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec4d subtract(IVector other, Vec4d dest) {
+        assert other != null : "Vec4d:subtract: Other vector cannot be null";
+        assert other.getDimension() == 4 : "Vec4d:subtract: Other vector must be of dimension 4";
+        assert dest != null : "Vec4d:subtract: Destination vector cannot be null";
+
+        if (other instanceof Vec4d) {
+            Vec4d vec = (Vec4d) other;
+
+            dest.x = this.x - vec.x;
+            dest.y = this.y - vec.y;
+            dest.z = this.z - vec.z;
+            dest.w = this.w - vec.w;
+
+            return dest;
+        }
+
+        dest.x = this.x - other.getd(0);
+        dest.y = this.y - other.getd(1);
+        dest.z = this.z - other.getd(2);
+        dest.w = this.w - other.getd(3);
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a double scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec4d multiply(double scalar, Vec4d dest) {
+        assert dest != null : "Vec4d:multiply: Destination vector cannot be null";
+
+        dest.x = this.x * scalar;
+        dest.y = this.y * scalar;
+        dest.z = this.z * scalar;
+        dest.w = this.w * scalar;
+
+        return dest;
+    }
+
+    /**
+     * Normalizes this vector into {@code dest}.
+     *
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec4d getNormal(Vec4d dest) {
+        assert dest != null : "Vec4d:getNormal: Destination vector cannot be null";
+
+        double length = getLength();
+
+        assert length != 0 : "Vec4d:getNormal: Cannot normalize a zero-length vector";
+
+        dest.x = this.x / length;
+        dest.y = this.y / length;
+        dest.z = this.z / length;
+        dest.w = this.w / length;
+
+        return dest;
+    }
+
+    /**
+     * Computes the cross product of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to compute cross product with
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec4d cross(IVector other, Vec4d dest) {
+        assert other != null : "Vec4d:cross: Other vector cannot be null";
+        assert dest != null : "Vec4d:cross: Destination vector cannot be null";
+
+        if (other instanceof Vec4d) {
+            Vec4d vec = (Vec4d) other;
+            double cx = this.y * vec.z - this.z * vec.y;
+            double cy = this.z * vec.x - this.x * vec.z;
+            double cz = this.x * vec.y - this.y * vec.x;
+            double cw = this.w * vec.w;
+            dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+            return dest;
+        }
+
+        switch (other.getDimension()) {
+            case 2: {
+                double cx = -this.z * other.getd(1);
+                double cy = this.z * other.getd(0);
+                double cz = this.x * other.getd(1) - this.y * other.getd(0);
+                double cw = this.w;
+                dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+                return dest;
+            }
+            case 3: {
+                double cx = this.y * other.getd(2) - this.z * other.getd(1);
+                double cy = this.z * other.getd(0) - this.x * other.getd(2);
+                double cz = this.x * other.getd(1) - this.y * other.getd(0);
+                double cw = this.w;
+                dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+                return dest;
+            }
+            case 4: {
+                double cx = this.y * other.getd(2) - this.z * other.getd(1);
+                double cy = this.z * other.getd(0) - this.x * other.getd(2);
+                double cz = this.x * other.getd(1) - this.y * other.getd(0);
+                double cw = this.w * other.getd(3);
+                dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+                return dest;
+            }
+            default:
+                throw new IllegalArgumentException("Vec4d:cross: Other vector must be of dimension 3 or 4");
+        }
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param other the vector to add
+     * @return this vector
+     */
+    public Vec4d addLocal(IVector other) {
+        return add(other, this);
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param other the vector to subtract
+     * @return this vector
+     */
+    public Vec4d subLocal(IVector other) {
+        return subtract(other, this);
+    }
+
+    /**
+     * Multiplies this vector by a double scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec4d scaleLocal(double scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @return this vector
+     */
+    public Vec4d normalizeLocal() {
+        return getNormal(this);
+    }
+
+    /**
+     * Replaces this vector with its cross product with another vector.
+     *
+     * @param other the vector to compute cross product with
+     * @return this vector
+     */
+    public Vec4d crossLocal(IVector other) {
+        return cross(other, this);
+    }
 }
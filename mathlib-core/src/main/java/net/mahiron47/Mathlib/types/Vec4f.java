@@ -2,12 +2,13 @@ package net.mahiron47.mathlib.types;
 
 import net.mahiron47.mathlib.types.interfaces.ITensor;
 import net.mahiron47.mathlib.types.interfaces.IVector;
+import net.mahiron47.mathlib.utils.Intrinsics;
 
 public class Vec4f implements IVector {
-    private float x;
-    private float y;
-    private float z;
-    private float w;
+    float x;
+    float y;
+    float z;
+    float w;
 
     public Vec4f(float x, float y, float z, float w) {
         this.x = x;
@@ -181,6 +182,16 @@ public class Vec4f implements IVector {
         assert other != null : "Vec4f:add: Other vector cannot be null";
         assert other.getDimension() == 4 : "Vec4f:add: Other vector must be of dimension 4";
         
+        if (other instanceof Vec4f) {
+            Vec4f vec = (Vec4f) other;
+            return new Vec4f(
+                this.x + vec.x,
+                this.y + vec.y,
+                this.z + vec.z,
+                this.w + vec.w
+            );
+        }
+
         return new Vec4f(
             this.x + other.getf(0),
             this.y + other.getf(1),
@@ -194,6 +205,16 @@ public class Vec4f implements IVector {
         assert other != null : "Vec4f:subtract: Other vector cannot be null";
         assert other.getDimension() == 4 : "Vec4f:subtract: Other vector must be of dimension 4";
         
+        if (other instanceof Vec4f) {
+            Vec4f vec = (Vec4f) other;
+            return new Vec4f(
+                this.x - vec.x,
+                this.y - vec.y,
+                this.z - vec.z,
+                this.w - vec.w
+            );
+        }
+
         return new Vec4f(
             this.x - other.getf(0),
             this.y - other.getf(1),
@@ -265,8 +286,12 @@ public class Vec4f implements IVector {
         assert other != null : "Vec4f:dotf: Other vector cannot be null";
         assert other.getDimension() == 4 : "Vec4f:dotf: Other vector must be of dimension 4";
 
-        return this.x * other.getf(0) + this.y * other.getf(1) + 
-               this.z * other.getf(2) + this.w * other.getf(3);
+        if (other instanceof Vec4f) {
+            Vec4f vec = (Vec4f) other;
+            return Intrinsics.fma(this.w, vec.w, Intrinsics.fma(this.z, vec.z, Intrinsics.fma(this.y, vec.y, this.x * vec.x)));
+        }
+
+        return Intrinsics.fma(this.w, other.getf(3), Intrinsics.fma(this.z, other.getf(2), Intrinsics.fma(this.y, other.getf(1), this.x * other.getf(0))));
     }
 
     @Override
@@ -274,14 +299,23 @@ public class Vec4f implements IVector {
         assert other != null : "Vec4f:dotd: Other vector cannot be null";
         assert other.getDimension() == 4 : "Vec4f:dotd: Other vector must be of dimension 4";
 
-        return (double) (this.x * other.getd(0) + this.y * other.getd(1) + 
-                         this.z * other.getd(2) + this.w * other.getd(3));
+        return (double) Intrinsics.fma(this.w, other.getd(3), Intrinsics.fma(this.z, other.getd(2), Intrinsics.fma(this.y, other.getd(1), this.x * other.getd(0))));
     }
 
     @Override
     public Vec4f cross(IVector other) {
         assert other != null : "Vec4f:cross: Other vector cannot be null";
 
+        if (other instanceof Vec4f) {
+            Vec4f vec = (Vec4f) other;
+            return new Vec4f(
+                this.y * vec.z - this.z * vec.y,
+                this.z * vec.x - this.x * vec.z,
+                this.x * vec.y - this.y * vec.x,
+                this.w * vec.w
+            );
+        }
+
         switch (other.getDimension()) {
             case 2:
                 return new Vec4f(
@@ -308,4 +342,236 @@ public class Vec4f implements IVector {
                 throw new IllegalArgumentException("Vec4f:cross: Other vector must be of dimension 3 or 4");
         }
     }
+
+    /**
+     * Computes the sum of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to add
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec4f add(IVector other, Vec4f dest) {
+        assert other != null : "Vec4f:add: Other vector cannot be null";
+        assert other.getDimension() == 4 : "Vec4f:add: Other vector must be of dimension 4";
+        assert dest != null : "Vec4f:add: Destination vector cannot be null";
+
+        if (other instanceof Vec4f) {
+            Vec4f vec = (Vec4f) other;
+
+            dest.x = this.x + vec.x;
+            dest.y = this.y + vec.y;
+            dest.z = this.z + vec.z;
+            dest.w = this.w + vec.w;
+
+            return dest;
+        }
+
+        dest.x = this.x + other.getf(0);
+        dest.y = this.y + other.getf(1);
+        dest.z = this.z + other.getf(2);
+        dest.w = this.w + other.getf(3);
+
+        return dest;
+    }
+
+    /**
+     * Computes the difference of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to subtract
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec4f subtract(IVector other, Vec4f dest) {
+        assert other != null : "Vec4f:subtract: Other vector cannot be null";
+        assert other.getDimension() == 4 : "Vec4f:subtract: Other vector must be of dimension 4";
+        assert dest != null : "Vec4f:subtract: Destination vector cannot be null";
+
+        if (other instanceof Vec4f) {
+            Vec4f vec = (Vec4f) other;
+
+            dest.x = this.x - vec.x;
+            dest.y = this.y - vec.y;
+            dest.z = this.z - vec.z;
+            dest.w = this.w - vec.w;
+
+            return dest;
+        }
+
+        dest.x = this.x - other.getf(0);
+        dest.y = this.y - other.getf(1);
+        dest.z = this.z - other.getf(2);
+        dest.w = this.w - other.getf(3);
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a float scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec4f multiply(float scalar, Vec4f dest) {
+        assert dest != null : "Vec4f:multiply: Destination vector cannot be null";
+
+        dest.x = this.x * scalar;
+        dest.y = this.y * scalar;
+        dest.z = this.z * scalar;
+        dest.w = this.w * scalar;
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a double scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec4f multiply(double scalar, Vec4f dest) {
+        assert dest != null : "Vec4f:multiply: Destination vector cannot be null";
+
+        dest.x = (float) (this.x * scalar);
+        dest.y = (float) (this.y * scalar);
+        dest.z = (float) (this.z * scalar);
+        dest.w = (float) (this.w * scalar);
+
+        return dest;
+    }
+
+    /**
+     * Normalizes this vector into {@code dest}.
+     *
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec4f getNormal(Vec4f dest) {
+        assert dest != null : "Vec4f:getNormal: Destination vector cannot be null";
+
+        double length = getLength();
+
+        assert length != 0 : "Vec4f:getNormal: Cannot normalize a zero-length vector";
+
+        dest.x = (float) (this.x / length);
+        dest.y = (float) (this.y / length);
+        dest.z = (float) (this.z / length);
+        dest.w = (float) (this.w / length);
+
+        return dest;
+    }
+
+    /**
+     * Computes the cross product of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to compute cross product with
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec4f cross(IVector other, Vec4f dest) {
+        assert other != null : "Vec4f:cross: Other vector cannot be null";
+        assert dest != null : "Vec4f:cross: Destination vector cannot be null";
+
+        if (other instanceof Vec4f) {
+            Vec4f vec = (Vec4f) other;
+            float cx = this.y * vec.z - this.z * vec.y;
+            float cy = this.z * vec.x - this.x * vec.z;
+            float cz = this.x * vec.y - this.y * vec.x;
+            float cw = this.w * vec.w;
+            dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+            return dest;
+        }
+
+        switch (other.getDimension()) {
+            case 2: {
+                float cx = -this.z * other.getf(1);
+                float cy = this.z * other.getf(0);
+                float cz = this.x * other.getf(1) - this.y * other.getf(0);
+                float cw = this.w;
+                dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+                return dest;
+            }
+            case 3: {
+                float cx = this.y * other.getf(2) - this.z * other.getf(1);
+                float cy = this.z * other.getf(0) - this.x * other.getf(2);
+                float cz = this.x * other.getf(1) - this.y * other.getf(0);
+                float cw = this.w;
+                dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+                return dest;
+            }
+            case 4: {
+                float cx = this.y * other.getf(2) - this.z * other.getf(1);
+                float cy = this.z * other.getf(0) - this.x * other.getf(2);
+                float cz = this.x * other.getf(1) - this.y * other.getf(0);
+                float cw = this.w * other.getf(3);
+                dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+                return dest;
+            }
+            default:
+                throw new IllegalArgumentException("Vec4f:cross: Other vector must be of dimension 3 or 4");
+        }
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param other the vector to add
+     * @return this vector
+     */
+    public Vec4f addLocal(IVector other) {
+        return add(other, this);
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param other the vector to subtract
+     * @return this vector
+     */
+    public Vec4f subLocal(IVector other) {
+        return subtract(other, this);
+    }
+
+    /**
+     * Multiplies this vector by a float scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec4f scaleLocal(float scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Multiplies this vector by a double scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec4f scaleLocal(double scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @return this vector
+     */
+    public Vec4f normalizeLocal() {
+        return getNormal(this);
+    }
+
+    /**
+     * Replaces this vector with its cross product with another vector.
+     *
+     * @param other the vector to compute cross product with
+     * @return this vector
+     */
+    public Vec4f crossLocal(IVector other) {
+        return cross(other, this);
+    }
 }
@@ -180,6 +180,16 @@ public class Vec4i implements IVector {
 		assert other != null : "Vec4i:add: Other vector cannot be null";
 		assert other.getDimension() == 4 : "Vec4i:add: Other vector must be of dimension 4";
 		
+		if (other instanceof Vec4i) {
+			Vec4i vec = (Vec4i) other;
+			return new Vec4i(
+				this.x + vec.x,
+				this.y + vec.y,
+				this.z + vec.z,
+				this.w + vec.w
+			);
+		}
+
 		return new Vec4i(
 			this.x + other.geti(0),
 			this.y + other.geti(1),
@@ -193,6 +203,16 @@ public class Vec4i implements IVector {
 		assert other != null : "Vec4i:subtract: Other vector cannot be null";
 		assert other.getDimension() == 4 : "Vec4i:subtract: Other vector must be of dimension 4";
 		
+		if (other instanceof Vec4i) {
+			Vec4i vec = (Vec4i) other;
+			return new Vec4i(
+				this.x - vec.x,
+				this.y - vec.y,
+				this.z - vec.z,
+				this.w - vec.w
+			);
+		}
+
 		return new Vec4i(
 			this.x - other.geti(0),
 			this.y - other.geti(1),
@@ -246,6 +266,12 @@ public class Vec4i implements IVector {
 		assert other != null : "Vec4i:doti: Other vector cannot be null";
 		assert other.getDimension() == 4 : "Vec4i:doti: Other vector must be of dimension 4";
 
+		if (other instanceof Vec4i) {
+			Vec4i vec = (Vec4i) other;
+			return this.x * vec.x + this.y * vec.y + 
+				   this.z * vec.z + this.w * vec.w;
+		}
+
 		return this.x * other.geti(0) + this.y * other.geti(1) + 
 			   this.z * other.geti(2) + this.w * other.geti(3);
 	}
@@ -281,6 +307,16 @@ public class Vec4i implements IVector {
 	public Vec4i cross(IVector other) {
         assert other != null : "Vec4i:cross: Other vector cannot be null";
 
+        if (other instanceof Vec4i) {
+            Vec4i vec = (Vec4i) other;
+            return new Vec4i(
+                this.y * vec.z - this.z * vec.y,
+                this.z * vec.x - this.x * vec.z,
+                this.x * vec.y - this.y * vec.x,
+                this.w * vec.w
+            );
+        }
+
         switch (other.getDimension()) {
             case 2:
                 return new Vec4i(
@@ -307,4 +343,236 @@ public class Vec4i implements IVector {
                 throw new IllegalArgumentException("Vec4i:cross: Other vector must be of dimension 3 or 4");
         }
     }
+
+	/**
+	 * Computes the sum of this vector and another vector into {@code dest}.
+	 * {@code dest} may be this vector or {@code other}.
+	 *
+	 * @param other the vector to add
+	 * @param dest the vector receiving the result
+	 * @return {@code dest}
+	 */
+	public Vec4i add(IVector other, Vec4i dest) {
+		assert other != null : "Vec4i:add: Other vector cannot be null";
+		assert other.getDimension() == 4 : "Vec4i:add: Other vector must be of dimension 4";
+		assert dest != null : "Vec4i:add: Destination vector cannot be null";
+
+		if (other instanceof Vec4i) {
+			Vec4i vec = (Vec4i) other;
+
+			dest.x = this.x + vec.x;
+			dest.y = this.y + vec.y;
+			dest.z = this.z + vec.z;
+			dest.w = this.w + vec.w;
+
+			return dest;
+		}
+
+		dest.x = this.x + other.geti(0);
+		dest.y = this.y + other.geti(1);
+		dest.z = this.z + other.geti(2);
+		dest.w = this.w + other.geti(3);
+
+		return dest;
+	}
+
+	/**
+	 * Computes the difference of this vector and another vector into {@code dest}.
+	 * {@code dest} may be this vector or {@code other}.
+	 *
+	 * @param other the vector to subtract
+	 * @param dest the vector receiving the result
+	 * @return {@code dest}
+	 */
+	public Vec4i subtract(IVector other, Vec4i dest) {
+		assert other != null : "Vec4i:subtract: Other vector cannot be null";
+		assert other.getDimension() == 4 : "Vec4i:subtract: Other vector must be of dimension 4";
+		assert dest != null : "Vec4i:subtract: Destination vector cannot be null";
+
+		if (other instanceof Vec4i) {
+			Vec4i vec = (Vec4i) other;
+
+			dest.x = this.x - vec.x;
+			dest.y = this.y - vec.y;
+			dest.z = this.z - vec.z;
+			dest.w = this.w - vec.w;
+
+			return dest;
+		}
+
+		dest.x = this.x - other.geti(0);
+		dest.y = this.y - other.geti(1);
+		dest.z = this.z - other.geti(2);
+		dest.w = this.w - other.geti(3);
+
+		return dest;
+	}
+
+	/**
+	 * Multiplies this vector by a int scalar into {@code dest}.
+	 *
+	 * @param scalar the scalar to multiply by
+	 * @param dest the vector receiving the result, may be this vector
+	 * @return {@code dest}
+	 */
+	public Vec4i multiply(int scalar, Vec4i dest) {
+		assert dest != null : "Vec4i:multiply: Destination vector cannot be null";
+
+		dest.x = this.x * scalar;
+		dest.y = this.y * scalar;
+		dest.z = this.z * scalar;
+		dest.w = this.w * scalar;
+
+		return dest;
+	}
+
+	/**
+	 * Multiplies this vector by a double scalar into {@code dest}.
+	 *
+	 * @param scalar the scalar to multiply by
+	 * @param dest the vector receiving the result, may be this vector
+	 * @return {@code dest}
+	 */
+	public Vec4i multiply(double scalar, Vec4i dest) {
+		assert dest != null : "Vec4i:multiply: Destination vector cannot be null";
+
+		dest.x = (int) (this.x * scalar);
+		dest.y = (int) (this.y * scalar);
+		dest.z = (int) (this.z * scalar);
+		dest.w = (int) (this.w * scalar);
+
+		return dest;
+	}
+
+	/**
+	 * Normalizes this vector into {@code dest}.
+	 *
+	 * @param dest the vector receiving the result, may be this vector
+	 * @return {@code dest}
+	 */
+	public Vec4i getNormal(Vec4i dest) {
+		assert dest != null : "Vec4i:getNormal: Destination vector cannot be null";
+
+		double length = getLength();
+
+		assert length != 0 : "Vec4i:getNormal: Cannot normalize a zero-length vector";
+
+		dest.x = (int) (this.x / length);
+		dest.y = (int) (this.y / length);
+		dest.z = (int) (this.z / length);
+		dest.w = (int) (this.w / length);
+
+		return dest;
+	}
+
+	/**
+	 * Computes the cross product of this vector and another vector into {@code dest}.
+	 * {@code dest} may be this vector or {@code other}.
+	 *
+	 * @param other the vector to compute cross product with
+	 * @param dest the vector receiving the result
+	 * @return {@code dest}
+	 */
+	public Vec4i cross(IVector other, Vec4i dest) {
+		assert other != null : "Vec4i:cross: Other vector cannot be null";
+		assert dest != null : "Vec4i:cross: Destination vector cannot be null";
+
+		if (other instanceof Vec4i) {
+			Vec4i vec = (Vec4i) other;
+			int cx = this.y * vec.z - this.z * vec.y;
+			int cy = this.z * vec.x - this.x * vec.z;
+			int cz = this.x * vec.y - this.y * vec.x;
+			int cw = this.w * vec.w;
+			dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+			return dest;
+		}
+
+		switch (other.getDimension()) {
+			case 2: {
+				int cx = -this.z * other.geti(1);
+				int cy = this.z * other.geti(0);
+				int cz = this.x * other.geti(1) - this.y * other.geti(0);
+				int cw = this.w;
+				dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+				return dest;
+			}
+			case 3: {
+				int cx = this.y * other.geti(2) - this.z * other.geti(1);
+				int cy = this.z * other.geti(0) - this.x * other.geti(2);
+				int cz = this.x * other.geti(1) - this.y * other.geti(0);
+				int cw = this.w;
+				dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+				return dest;
+			}
+			case 4: {
+				int cx = this.y * other.geti(2) - this.z * other.geti(1);
+				int cy = this.z * other.geti(0) - this.x * other.geti(2);
+				int cz = this.x * other.geti(1) - this.y * other.geti(0);
+				int cw = this.w * other.geti(3);
+				dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+				return dest;
+			}
+			default:
+				throw new IllegalArgumentException("Vec4i:cross: Other vector must be of dimension 3 or 4");
+		}
+	}
+
+	/**
+	 * Adds another vector to this vector in place.
+	 *
+	 * @param other the vector to add
+	 * @return this vector
+	 */
+	public Vec4i addLocal(IVector other) {
+		return add(other, this);
+	}
+
+	/**
+	 * Subtracts another vector from this vector in place.
+	 *
+	 * @param other the vector to subtract
+	 * @return this vector
+	 */
+	public Vec4i subLocal(IVector other) {
+		return subtract(other, this);
+	}
+
+	/**
+	 * Multiplies this vector by a int scalar in place.
+	 *
+	 * @param scalar the scalar to multiply by
+	 * @return this vector
+	 */
+	public Vec4i scaleLocal(int scalar) {
+		return multiply(scalar, this);
+	}
+
+	/**
+	 * Multiplies this vector by a double scalar in place.
+	 *
+	 * @param scalar the scalar to multiply by
+	 * @return this vector
+	 */
+	public Vec4i scaleLocal(double scalar) {
+		return multiply(scalar, this);
+	}
+
+	/**
+	 * Normalizes this vector in place.
+	 *
+	 * @return this vector
+	 */
+	public Vec4i normalizeLocal() {
+		return getNormal(this);
+	}
+
+	/**
+	 * Replaces this vector with its cross product with another vector.
+	 *
+	 * @param other the vector to compute cross product with
+	 * @return this vector
+	 */
+	public Vec4i crossLocal(IVector other) {
+		return cross(other, this);
+	}
 }
@@ -180,6 +180,16 @@ public class Vec4l implements IVector {
         assert other != null : "Vec4l:add: Other vector cannot be null";
         assert other.getDimension() == 4 : "Vec4l:add: Other vector must be of dimension 4";
         
+        if (other instanceof Vec4l) {
+            Vec4l vec = (Vec4l) other;
+            return new Vec4l(
+                this.x + vec.x,
+                this.y + vec.y,
+                this.z + vec.z,
+                this.w + vec.w
+            );
+        }
+
         return new Vec4l(
             this.x + other.getl(0),
             this.y + other.getl(1),
@@ -193,6 +203,16 @@ public class Vec4l implements IVector {
         assert other != null : "Vec4l:subtract: Other vector cannot be null";
         assert other.getDimension() == 4 : "Vec4l:subtract: Other vector must be of dimension 4";
         
+        if (other instanceof Vec4l) {
+            Vec4l vec = (Vec4l) other;
+            return new Vec4l(
+                this.x - vec.x,
+                this.y - vec.y,
+                this.z - vec.z,
+                this.w - vec.w
+            );
+        }
+
         return new Vec4l(
             this.x - other.getl(0),
             this.y - other.getl(1),
@@ -255,6 +275,12 @@ public class Vec4l implements IVector {
         assert other != null : "Vec4l:dotl: Other vector cannot be null";
         assert other.getDimension() == 4 : "Vec4l:dotl: Other vector must be of dimension 4";
 
+        if (other instanceof Vec4l) {
+            Vec4l vec = (Vec4l) other;
+            return this.x * vec.x + this.y * vec.y + 
+                   this.z * vec.z + this.w * vec.w;
+        }
+
         return this.x * other.getl(0) + this.y * other.getl(1) + 
                this.z * other.getl(2) + this.w * other.getl(3);
     }
@@ -281,6 +307,16 @@ public class Vec4l implements IVector {
     public Vec4l cross(IVector other) {
         assert other != null : "Vec4l:cross: Other vector cannot be null";
 
+        if (other instanceof Vec4l) {
+            Vec4l vec = (Vec4l) other;
+            return new Vec4l(
+                this.y * vec.z - this.z * vec.y,
+                this.z * vec.x - this.x * vec.z,
+                this.x * vec.y - this.y * vec.x,
+                this.w * vec.w
+            );
+        }
+
         switch (other.getDimension()) {
             case 2:
                 return new Vec4l(
@@ -307,4 +343,236 @@ public class Vec4l implements IVector {
                 throw new IllegalArgumentException("Vec4l:cross: Other vector must be of dimension 3 or 4");
         }
     }
+
+    /**
+     * Computes the sum of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to add
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec4l add(IVector other, Vec4l dest) {
+        assert other != null : "Vec4l:add: Other vector cannot be null";
+        assert other.getDimension() == 4 : "Vec4l:add: Other vector must be of dimension 4";
+        assert dest != null : "Vec4l:add: Destination vector cannot be null";
+
+        if (other instanceof Vec4l) {
+            Vec4l vec = (Vec4l) other;
+
+            dest.x = this.x + vec.x;
+            dest.y = this.y + vec.y;
+            dest.z = this.z + vec.z;
+            dest.w = this.w + vec.w;
+
+            return dest;
+        }
+
+        dest.x = this.x + other.getl(0);
+        dest.y = this.y + other.getl(1);
+        dest.z = this.z + other.getl(2);
+        dest.w = this.w + other.getl(3);
+
+        return dest;
+    }
+
+    /**
+     * Computes the difference of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to subtract
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec4l subtract(IVector other, Vec4l dest) {
+        assert other != null : "Vec4l:subtract: Other vector cannot be null";
+        assert other.getDimension() == 4 : "Vec4l:subtract: Other vector must be of dimension 4";
+        assert dest != null : "Vec4l:subtract: Destination vector cannot be null";
+
+        if (other instanceof Vec4l) {
+            Vec4l vec = (Vec4l) other;
+
+            dest.x = this.x - vec.x;
+            dest.y = this.y - vec.y;
+            dest.z = this.z - vec.z;
+            dest.w = this.w - vec.w;
+
+            return dest;
+        }
+
+        dest.x = this.x - other.getl(0);
+        dest.y = this.y - other.getl(1);
+        dest.z = this.z - other.getl(2);
+        dest.w = this.w - other.getl(3);
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a long scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec4l multiply(long scalar, Vec4l dest) {
+        assert dest != null : "Vec4l:multiply: Destination vector cannot be null";
+
+        dest.x = this.x * scalar;
+        dest.y = this.y * scalar;
+        dest.z = this.z * scalar;
+        dest.w = this.w * scalar;
+
+        return dest;
+    }
+
+    /**
+     * Multiplies this vector by a double scalar into {@code dest}.
+     *
+     * @param scalar the scalar to multiply by
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec4l multiply(double scalar, Vec4l dest) {
+        assert dest != null : "Vec4l:multiply: Destination vector cannot be null";
+
+        dest.x = (long) (this.x * scalar);
+        dest.y = (long) (this.y * scalar);
+        dest.z = (long) (this.z * scalar);
+        dest.w = (long) (this.w * scalar);
+
+        return dest;
+    }
+
+    /**
+     * Normalizes this vector into {@code dest}.
+     *
+     * @param dest the vector receiving the result, may be this vector
+     * @return {@code dest}
+     */
+    public Vec4l getNormal(Vec4l dest) {
+        assert dest != null : "Vec4l:getNormal: Destination vector cannot be null";
+
+        double length = getLength();
+
+        assert length != 0 : "Vec4l:getNormal: Cannot normalize a zero-length vector";
+
+        dest.x = (long) (this.x / length);
+        dest.y = (long) (this.y / length);
+        dest.z = (long) (this.z / length);
+        dest.w = (long) (this.w / length);
+
+        return dest;
+    }
+
+    /**
+     * Computes the cross product of this vector and another vector into {@code dest}.
+     * {@code dest} may be this vector or {@code other}.
+     *
+     * @param other the vector to compute cross product with
+     * @param dest the vector receiving the result
+     * @return {@code dest}
+     */
+    public Vec4l cross(IVector other, Vec4l dest) {
+        assert other != null : "Vec4l:cross: Other vector cannot be null";
+        assert dest != null : "Vec4l:cross: Destination vector cannot be null";
+
+        if (other instanceof Vec4l) {
+            Vec4l vec = (Vec4l) other;
+            long cx = this.y * vec.z - this.z * vec.y;
+            long cy = this.z * vec.x - this.x * vec.z;
+            long cz = this.x * vec.y - this.y * vec.x;
+            long cw = this.w * vec.w;
+            dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+            return dest;
+        }
+
+        switch (other.getDimension()) {
+            case 2: {
+                long cx = -this.z * other.getl(1);
+                long cy = this.z * other.getl(0);
+                long cz = this.x * other.getl(1) - this.y * other.getl(0);
+                long cw = this.w;
+                dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+                return dest;
+            }
+            case 3: {
+                long cx = this.y * other.getl(2) - this.z * other.getl(1);
+                long cy = this.z * other.getl(0) - this.x * other.getl(2);
+                long cz = this.x * other.getl(1) - this.y * other.getl(0);
+                long cw = this.w;
+                dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+                return dest;
+            }
+            case 4: {
+                long cx = this.y * other.getl(2) - this.z * other.getl(1);
+                long cy = this.z * other.getl(0) - this.x * other.getl(2);
+                long cz = this.x * other.getl(1) - this.y * other.getl(0);
+                long cw = this.w * other.getl(3);
+                dest.x = cx; dest.y = cy; dest.z = cz; dest.w = cw;
+                return dest;
+            }
+            default:
+                throw new IllegalArgumentException("Vec4l:cross: Other vector must be of dimension 3 or 4");
+        }
+    }
+
+    /**
+     * Adds another vector to this vector in place.
+     *
+     * @param other the vector to add
+     * @return this vector
+     */
+    public Vec4l addLocal(IVector other) {
+        return add(other, this);
+    }
+
+    /**
+     * Subtracts another vector from this vector in place.
+     *
+     * @param other the vector to subtract
+     * @return this vector
+     */
+    public Vec4l subLocal(IVector other) {
+        return subtract(other, this);
+    }
+
+    /**
+     * Multiplies this vector by a long scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec4l scaleLocal(long scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Multiplies this vector by a double scalar in place.
+     *
+     * @param scalar the scalar to multiply by
+     * @return this vector
+     */
+    public Vec4l scaleLocal(double scalar) {
+        return multiply(scalar, this);
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @return this vector
+     */
+    public Vec4l normalizeLocal() {
+        return getNormal(this);
+    }
+
+    /**
+     * Replaces this vector with its cross product with another vector.
+     *
+     * @param other the vector to compute cross product with
+     * @return this vector
+     */
+    public Vec4l crossLocal(IVector other) {
+        return cross(other, this);
+    }
 }
@@ -0,0 +1,24 @@
+package net.mahiron47.mathlib.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Allocation of off-heap buffers that native code such as OpenGL can read directly.
+ */
+public final class Buffers {
+	private Buffers() {
+		// Private constructor to prevent instantiation
+	}
+
+	/**
+	 * Allocates a direct float buffer in native byte order.
+	 * @param capacity The number of floats.
+	 * @return A new buffer with position 0 and limit equal to its capacity.
+	 */
+	public static FloatBuffer createFloatBuffer(int capacity) {
+		assert capacity >= 0 : "Buffers:createFloatBuffer: capacity < 0";
+		return ByteBuffer.allocateDirect(capacity * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+	}
+}
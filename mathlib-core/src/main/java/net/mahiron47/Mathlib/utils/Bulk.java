@@ -0,0 +1,207 @@
+package net.mahiron47.mathlib.utils;
+
+import net.mahiron47.mathlib.types.Mat4f;
+
+/**
+ * Elementwise {@link Math} functions and point transforms over whole arrays.
+ *
+ * <p>On Java 17+ started with {@code --add-modules jdk.incubator.vector} the loops run on the
+ * JDK Vector API and process a full SIMD register (8 floats on AVX2, 16 on AVX-512) per step;
+ * everywhere else they fall back to scalar loops. The backend is chosen once when the class is
+ * loaded and gives the same results as calling the scalar {@link Math} functions one by one.
+ * The system property {@code mathlib.bulk.scalar=true} forces the scalar backend.</p>
+ *
+ * <p>Source and destination ranges may be the same array at the same offset, but must not otherwise overlap.</p>
+ */
+public final class Bulk {
+	private static final BulkKernels KERNELS = loadKernels();
+
+	private Bulk() {
+		// Private constructor to prevent instantiation
+	}
+
+	private static BulkKernels loadKernels() {
+		if (!Boolean.getBoolean("mathlib.bulk.scalar")) {
+			try {
+				// Only resolvable on Java 17+ with the incubator module added to the boot layer
+				Class.forName("jdk.incubator.vector.FloatVector");
+				return (BulkKernels) Class.forName("net.mahiron47.mathlib.utils.VectorBulkKernels").getDeclaredConstructor().newInstance();
+			} catch (Throwable ignored) {
+				// Fall through to the scalar backend
+			}
+		}
+		return new ScalarBulkKernels();
+	}
+
+	/**
+	 * Checks whether the SIMD backend is in use.
+	 * @return True if the loops run on the JDK Vector API.
+	 */
+	public static boolean isVectorized() {
+		return KERNELS.getClass() != ScalarBulkKernels.class;
+	}
+
+	/**
+	 * Computes {@link Math#abs(float)} of every element.
+	 * @param src The source array.
+	 * @param srcOffset The index of the first source element.
+	 * @param dst The destination array.
+	 * @param dstOffset The index of the first destination element.
+	 * @param length The number of elements.
+	 */
+	public static void abs(float[] src, int srcOffset, float[] dst, int dstOffset, int length) {
+		assert inRange(src.length, srcOffset, length) : "Bulk:abs: source range out of bounds";
+		assert inRange(dst.length, dstOffset, length) : "Bulk:abs: destination range out of bounds";
+		KERNELS.abs(src, srcOffset, dst, dstOffset, length);
+	}
+
+	/**
+	 * Computes {@link Math#abs(double)} of every element.
+	 * @param src The source array.
+	 * @param srcOffset The index of the first source element.
+	 * @param dst The destination array.
+	 * @param dstOffset The index of the first destination element.
+	 * @param length The number of elements.
+	 */
+	public static void abs(double[] src, int srcOffset, double[] dst, int dstOffset, int length) {
+		assert inRange(src.length, srcOffset, length) : "Bulk:abs: source range out of bounds";
+		assert inRange(dst.length, dstOffset, length) : "Bulk:abs: destination range out of bounds";
+		KERNELS.abs(src, srcOffset, dst, dstOffset, length);
+	}
+
+	/**
+	 * Computes {@link Math#floor(float)} of every element.
+	 * @param src The source array.
+	 * @param srcOffset The index of the first source element.
+	 * @param dst The destination array.
+	 * @param dstOffset The index of the first destination element.
+	 * @param length The number of elements.
+	 */
+	public static void floor(float[] src, int srcOffset, float[] dst, int dstOffset, int length) {
+		assert inRange(src.length, srcOffset, length) : "Bulk:floor: source range out of bounds";
+		assert inRange(dst.length, dstOffset, length) : "Bulk:floor: destination range out of bounds";
+		KERNELS.floor(src, srcOffset, dst, dstOffset, length);
+	}
+
+	/**
+	 * Computes {@link Math#floor(double)} of every element.
+	 * @param src The source array.
+	 * @param srcOffset The index of the first source element.
+	 * @param dst The destination array.
+	 * @param dstOffset The index of the first destination element.
+	 * @param length The number of elements.
+	 */
+	public static void floor(double[] src, int srcOffset, double[] dst, int dstOffset, int length) {
+		assert inRange(src.length, srcOffset, length) : "Bulk:floor: source range out of bounds";
+		assert inRange(dst.length, dstOffset, length) : "Bulk:floor: destination range out of bounds";
+		KERNELS.floor(src, srcOffset, dst, dstOffset, length);
+	}
+
+	/**
+	 * Computes {@link Math#fract(float)} of every element.
+	 * @param src The source array.
+	 * @param srcOffset The index of the first source element.
+	 * @param dst The destination array.
+	 * @param dstOffset The index of the first destination element.
+	 * @param length The number of elements.
+	 */
+	public static void fract(float[] src, int srcOffset, float[] dst, int dstOffset, int length) {
+		assert inRange(src.length, srcOffset, length) : "Bulk:fract: source range out of bounds";
+		assert inRange(dst.length, dstOffset, length) : "Bulk:fract: destination range out of bounds";
+		KERNELS.fract(src, srcOffset, dst, dstOffset, length);
+	}
+
+	/**
+	 * Computes {@link Math#fract(double)} of every element.
+	 * @param src The source array.
+	 * @param srcOffset The index of the first source element.
+	 * @param dst The destination array.
+	 * @param dstOffset The index of the first destination element.
+	 * @param length The number of elements.
+	 */
+	public static void fract(double[] src, int srcOffset, double[] dst, int dstOffset, int length) {
+		assert inRange(src.length, srcOffset, length) : "Bulk:fract: source range out of bounds";
+		assert inRange(dst.length, dstOffset, length) : "Bulk:fract: destination range out of bounds";
+		KERNELS.fract(src, srcOffset, dst, dstOffset, length);
+	}
+
+	/**
+	 * Computes {@link Math#max(float, float)} of every pair of elements.
+	 * @param a The first source array.
+	 * @param aOffset The index of the first element of a.
+	 * @param b The second source array.
+	 * @param bOffset The index of the first element of b.
+	 * @param dst The destination array.
+	 * @param dstOffset The index of the first destination element.
+	 * @param length The number of elements.
+	 */
+	public static void max(float[] a, int aOffset, float[] b, int bOffset, float[] dst, int dstOffset, int length) {
+		assert inRange(a.length, aOffset, length) : "Bulk:max: range of a out of bounds";
+		assert inRange(b.length, bOffset, length) : "Bulk:max: range of b out of bounds";
+		assert inRange(dst.length, dstOffset, length) : "Bulk:max: destination range out of bounds";
+		KERNELS.max(a, aOffset, b, bOffset, dst, dstOffset, length);
+	}
+
+	/**
+	 * Computes {@link Math#max(double, double)} of every pair of elements.
+	 * @param a The first source array.
+	 * @param aOffset The index of the first element of a.
+	 * @param b The second source array.
+	 * @param bOffset The index of the first element of b.
+	 * @param dst The destination array.
+	 * @param dstOffset The index of the first destination element.
+	 * @param length The number of elements.
+	 */
+	public static void max(double[] a, int aOffset, double[] b, int bOffset, double[] dst, int dstOffset, int length) {
+		assert inRange(a.length, aOffset, length) : "Bulk:max: range of a out of bounds";
+		assert inRange(b.length, bOffset, length) : "Bulk:max: range of b out of bounds";
+		assert inRange(dst.length, dstOffset, length) : "Bulk:max: destination range out of bounds";
+		KERNELS.max(a, aOffset, b, bOffset, dst, dstOffset, length);
+	}
+
+	/**
+	 * Transforms points stored as separate coordinate arrays in place by an affine matrix, i.e. with w = 1.
+	 * The bottom row of the matrix is ignored.
+	 * @param matrix The transform.
+	 * @param x The x coordinates.
+	 * @param y The y coordinates.
+	 * @param z The z coordinates.
+	 * @param offset The index of the first point.
+	 * @param length The number of points.
+	 */
+	public static void transformPoints(Mat4f matrix, float[] x, float[] y, float[] z, int offset, int length) {
+		assert matrix != null : "Bulk:transformPoints: matrix == null";
+		assert inRange(x.length, offset, length) : "Bulk:transformPoints: range of x out of bounds";
+		assert inRange(y.length, offset, length) : "Bulk:transformPoints: range of y out of bounds";
+		assert inRange(z.length, offset, length) : "Bulk:transformPoints: range of z out of bounds";
+		KERNELS.transformPoints(affine(matrix), x, y, z, offset, length);
+	}
+
+	/**
+	 * Transforms interleaved xyz points in place by an affine matrix, i.e. with w = 1.
+	 * The bottom row of the matrix is ignored.
+	 * @param matrix The transform.
+	 * @param xyz The coordinates, three floats per point.
+	 * @param offset The index of the x coordinate of the first point.
+	 * @param count The number of points.
+	 */
+	public static void transformPoints(Mat4f matrix, float[] xyz, int offset, int count) {
+		assert matrix != null : "Bulk:transformPoints: matrix == null";
+		assert inRange(xyz.length, offset, count * 3) : "Bulk:transformPoints: range of xyz out of bounds";
+		KERNELS.transformPoints(affine(matrix), xyz, offset, count);
+	}
+
+	private static float[] affine(Mat4f matrix) {
+		float[] m = new float[12];
+		for (int i = 0; i < 3; i++) {
+			for (int j = 0; j < 4; j++) {
+				m[i * 4 + j] = matrix.getf(i, j);
+			}
+		}
+		return m;
+	}
+
+	private static boolean inRange(int arrayLength, int offset, int length) {
+		return length >= 0 && offset >= 0 && offset <= arrayLength - length;
+	}
+}
@@ -0,0 +1,27 @@
+package net.mahiron47.mathlib.utils;
+
+/**
+ * Backend of {@link Bulk}. Arguments are validated by {@link Bulk}; implementations only loop.
+ * Affine matrices are passed as the 12 coefficients a11..a14, a21..a24, a31..a34 in row-major order.
+ */
+interface BulkKernels {
+	void abs(float[] src, int srcOffset, float[] dst, int dstOffset, int length);
+
+	void abs(double[] src, int srcOffset, double[] dst, int dstOffset, int length);
+
+	void floor(float[] src, int srcOffset, float[] dst, int dstOffset, int length);
+
+	void floor(double[] src, int srcOffset, double[] dst, int dstOffset, int length);
+
+	void fract(float[] src, int srcOffset, float[] dst, int dstOffset, int length);
+
+	void fract(double[] src, int srcOffset, double[] dst, int dstOffset, int length);
+
+	void max(float[] a, int aOffset, float[] b, int bOffset, float[] dst, int dstOffset, int length);
+
+	void max(double[] a, int aOffset, double[] b, int bOffset, double[] dst, int dstOffset, int length);
+
+	void transformPoints(float[] m, float[] x, float[] y, float[] z, int offset, int length);
+
+	void transformPoints(float[] m, float[] xyz, int offset, int count);
+}
@@ -0,0 +1,260 @@
+package net.mahiron47.mathlib.utils;
+
+import net.mahiron47.mathlib.types.Vec2d;
+import net.mahiron47.mathlib.types.Vec2f;
+import net.mahiron47.mathlib.types.Vec3d;
+import net.mahiron47.mathlib.types.Vec3f;
+import net.mahiron47.mathlib.types.interfaces.IScalarField2D;
+import net.mahiron47.mathlib.types.interfaces.IScalarField3D;
+
+/**
+ * Fractal Brownian motion (fBm) sampler stacking several octaves of seeded simplex noise.
+ * Octave i is sampled at frequency lacunarity^i with amplitude gain^i from a generator seeded
+ * with seed + i * seedOffset. Frequencies, amplitudes and the normalization constant are
+ * precomputed, so a sample is a single loop over the octaves with no allocation.
+ * Instances are immutable and can be shared between threads.
+ */
+public class FractalNoise implements IScalarField2D, IScalarField3D {
+	private final int              octaves;
+	private final double           lacunarity;
+	private final double           gain;
+	private final NoiseGenerator[] generators;
+	private final double[]         frequencies;
+	private final double[]         amplitudes;
+	private final float[]          frequenciesf;
+	private final float[]          amplitudesf;
+
+	/**
+	 * Creates a sampler with the usual lacunarity of 2.0, gain of 0.5 and a seed offset of 1.
+	 * @param seed The seed of the first octave.
+	 * @param octaves The number of octaves.
+	 */
+	public FractalNoise(long seed, int octaves) {
+		this(seed, octaves, 2.0, 0.5, 1L);
+	}
+
+	/**
+	 * Creates a sampler.
+	 * @param seed The seed of the first octave.
+	 * @param octaves The number of octaves.
+	 * @param lacunarity The frequency multiplier between consecutive octaves.
+	 * @param gain The amplitude multiplier between consecutive octaves.
+	 * @param seedOffset The seed difference between consecutive octaves.
+	 */
+	public FractalNoise(long seed, int octaves, double lacunarity, double gain, long seedOffset) {
+		assert octaves > 0 : "FractalNoise:constructor: octaves must be positive";
+		assert lacunarity > 0.0 : "FractalNoise:constructor: lacunarity must be positive";
+		assert gain > 0.0 : "FractalNoise:constructor: gain must be positive";
+
+		this.octaves = octaves;
+		this.lacunarity = lacunarity;
+		this.gain = gain;
+		this.generators = new NoiseGenerator[octaves];
+		this.frequencies = new double[octaves];
+		this.amplitudes = new double[octaves];
+		this.frequenciesf = new float[octaves];
+		this.amplitudesf = new float[octaves];
+
+		double frequency = 1.0;
+		double amplitude = 1.0;
+		double amplitude_sum = 0.0;
+		for (int i = 0; i < octaves; i++) {
+			generators[i] = new NoiseGenerator(seed + i * seedOffset);
+			frequencies[i] = frequency;
+			amplitudes[i] = amplitude;
+			amplitude_sum += amplitude;
+			frequency *= lacunarity;
+			amplitude *= gain;
+		}
+
+		// Fold the normalization into the amplitudes so the sum stays within [-1, 1]
+		for (int i = 0; i < octaves; i++) {
+			amplitudes[i] /= amplitude_sum;
+			frequenciesf[i] = (float) frequencies[i];
+			amplitudesf[i] = (float) amplitudes[i];
+		}
+	}
+
+	/**
+	 * Gets the number of octaves.
+	 * @return The number of octaves.
+	 */
+	public int getOctaves() {
+		return octaves;
+	}
+
+	/**
+	 * Gets the frequency multiplier between consecutive octaves.
+	 * @return The frequency multiplier.
+	 */
+	public double getLacunarity() {
+		return lacunarity;
+	}
+
+	/**
+	 * Gets the amplitude multiplier between consecutive octaves.
+	 * @return The amplitude multiplier.
+	 */
+	public double getGain() {
+		return gain;
+	}
+
+	/**
+	 * Samples 2D fBm at the given coordinates.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @return A noise value between -1.0 and 1.0.
+	 */
+	@Override
+	public double sample(double x, double y) {
+		double sum = 0.0;
+		for (int i = 0; i < octaves; i++) {
+			double f = frequencies[i];
+			sum += amplitudes[i] * generators[i].simplexNoise(x * f, y * f);
+		}
+		return sum;
+	}
+
+	/**
+	 * Samples 2D fBm at the given coordinates.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @return A noise value between -1.0 and 1.0.
+	 */
+	public float sample(float x, float y) {
+		float sum = 0.0f;
+		for (int i = 0; i < octaves; i++) {
+			float f = frequenciesf[i];
+			sum += amplitudesf[i] * generators[i].simplexNoise(x * f, y * f);
+		}
+		return sum;
+	}
+
+	/**
+	 * Samples 3D fBm at the given coordinates.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @return A noise value between -1.0 and 1.0.
+	 */
+	@Override
+	public double sample(double x, double y, double z) {
+		double sum = 0.0;
+		for (int i = 0; i < octaves; i++) {
+			double f = frequencies[i];
+			sum += amplitudes[i] * generators[i].simplexNoise(x * f, y * f, z * f);
+		}
+		return sum;
+	}
+
+	/**
+	 * Samples 3D fBm at the given coordinates.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @return A noise value between -1.0 and 1.0.
+	 */
+	public float sample(float x, float y, float z) {
+		float sum = 0.0f;
+		for (int i = 0; i < octaves; i++) {
+			float f = frequenciesf[i];
+			sum += amplitudesf[i] * generators[i].simplexNoise(x * f, y * f, z * f);
+		}
+		return sum;
+	}
+
+	/**
+	 * Samples 2D fBm at the given vector.
+	 * @param p The input Vec2d.
+	 * @return A noise value between -1.0 and 1.0.
+	 */
+	public double sample(Vec2d p) {
+		return sample(p.getd(0), p.getd(1));
+	}
+
+	/**
+	 * Samples 2D fBm at the given vector.
+	 * @param p The input Vec2f.
+	 * @return A noise value between -1.0 and 1.0.
+	 */
+	public float sample(Vec2f p) {
+		return sample(p.getf(0), p.getf(1));
+	}
+
+	/**
+	 * Samples 3D fBm at the given vector.
+	 * @param p The input Vec3d.
+	 * @return A noise value between -1.0 and 1.0.
+	 */
+	public double sample(Vec3d p) {
+		return sample(p.getd(0), p.getd(1), p.getd(2));
+	}
+
+	/**
+	 * Samples 3D fBm at the given vector.
+	 * @param p The input Vec3f.
+	 * @return A noise value between -1.0 and 1.0.
+	 */
+	public float sample(Vec3f p) {
+		return sample(p.getf(0), p.getf(1), p.getf(2));
+	}
+
+	/**
+	 * Fills a 2D grid of fBm values into a caller-supplied array.
+	 * Values are stored at {@code out[z * width + x]}, the same layout as {@link Noise#fillSimplex2D}.
+	 *
+	 * @param out The output array, at least width * depth long.
+	 * @param originX The x coordinate of the first sample.
+	 * @param originZ The z coordinate of the first sample.
+	 * @param width The number of samples along x.
+	 * @param depth The number of samples along z.
+	 * @param frequency The base frequency applied to the block coordinates.
+	 */
+	public void fill2D(float[] out, int originX, int originZ, int width, int depth, double frequency) {
+		assert out != null : "FractalNoise:fill2D: out == null";
+		assert width > 0 && depth > 0 : "FractalNoise:fill2D: width and depth must be positive";
+		assert out.length >= width * depth : "FractalNoise:fill2D: out is too small for the requested grid";
+
+		for (int z = 0; z < depth; z++) {
+			double sz = (originZ + z) * frequency;
+			int row = z * width;
+			for (int x = 0; x < width; x++) {
+				out[row + x] = (float) sample((originX + x) * frequency, sz);
+			}
+		}
+	}
+
+	/**
+	 * Fills a 3D box of fBm values into a caller-supplied array.
+	 * Values are stored at {@code out[(y * depth + z) * width + x]}, the same layout as {@link Noise#fillSimplex3D}.
+	 *
+	 * @param out The output array, at least width * height * depth long.
+	 * @param originX The x coordinate of the first sample.
+	 * @param originY The y coordinate of the first sample.
+	 * @param originZ The z coordinate of the first sample.
+	 * @param width The number of samples along x.
+	 * @param height The number of samples along y.
+	 * @param depth The number of samples along z.
+	 * @param frequency The base frequency applied to the block coordinates.
+	 */
+	public void fill3D(float[] out, int originX, int originY, int originZ, int width, int height, int depth, double frequency) {
+		assert out != null : "FractalNoise:fill3D: out == null";
+		assert width > 0 && height > 0 && depth > 0 : "FractalNoise:fill3D: width, height and depth must be positive";
+		assert out.length >= width * height * depth : "FractalNoise:fill3D: out is too small for the requested box";
+
+		for (int y = 0; y < height; y++) {
+			double sy = (originY + y) * frequency;
+			for (int z = 0; z < depth; z++) {
+				double sz = (originZ + z) * frequency;
+				int row = (y * depth + z) * width;
+				for (int x = 0; x < width; x++) {
+					out[row + x] = (float) sample((originX + x) * frequency, sy, sz);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,236 @@
+package net.mahiron47.mathlib.utils;
+
+import net.mahiron47.mathlib.types.Vec2d;
+import net.mahiron47.mathlib.types.Vec3d;
+import net.mahiron47.mathlib.types.Vec4d;
+import net.mahiron47.mathlib.types.Mat2d;
+import net.mahiron47.mathlib.types.Mat4d;
+import net.mahiron47.mathlib.types.interfaces.IScalarField3D;
+
+/**
+ * The Interpolation class provides static methods for interpolation:
+ * linear, bilinear, trilinear, cubic, bicubic, and tricubic.
+ */
+public class Interpolation {
+	private Interpolation() {
+		// Private constructor to prevent instantiation
+	}
+
+	/**
+	 * Performs linear interpolation between two points.
+	 * @param vertexes A Vec2d containing two points (a, b)
+	 * @param t Interpolation parameter (0..1)
+	 * @return Interpolated value
+	 */
+	public static double linearI(Vec2d vertexes, double t) {
+		return vertexes.getd(0) + (vertexes.getd(1) - vertexes.getd(0)) * t; // a * (1 - t) + b * t
+	}
+
+	/**
+	 * Performs bilinear interpolation using four points.
+	 * @param vertexes A 2x2 matrix of vertices
+	 * @param t A Vec2d of interpolation parameters (x, y)
+	 * @return Interpolated value
+	 */
+	public static double bilinearI(Mat2d vertexes, Vec2d t) {
+		double first_linear_interpolation = vertexes.getd(0, 0) + (vertexes.getd(0, 1) - vertexes.getd(0, 0)) * t.getd(0);
+		double second_linear_interpolation = vertexes.getd(1, 0) + (vertexes.getd(1, 1) - vertexes.getd(1, 0)) * t.getd(0);
+
+		return first_linear_interpolation + (second_linear_interpolation - first_linear_interpolation) * t.getd(1);
+	}
+
+	/**
+	 * Performs trilinear interpolation using eight points.
+	 * @param up_vertexes Upper 2x2 matrix
+	 * @param down_vertexes Lower 2x2 matrix
+	 * @param t A Vec3d of interpolation parameters (x, y, z)
+	 * @return Interpolated value
+	 */
+	public static double trilinearI(Mat2d up_vertexes, Mat2d down_vertexes, Vec3d t) {
+		double bilinear_interpolation_up = bilinearI(up_vertexes, new Vec2d(t.getd(0), t.getd(1)));
+		double bilinear_interpolation_down = bilinearI(down_vertexes, new Vec2d(t.getd(0), t.getd(1)));
+
+		return bilinear_interpolation_up + (bilinear_interpolation_down - bilinear_interpolation_up) * t.getd(2);
+	}
+
+	/**
+	 * Performs cubic interpolation using four points (Catmull-Rom).
+	 * @param vertexes A Vec4d containing four points
+	 * @param t Interpolation parameter (0..1)
+	 * @return Interpolated value
+	 */
+	public static double cubicI(Vec4d vertexes, double t) {
+		double a = vertexes.getd(0);
+		double b = vertexes.getd(1);
+		double c = vertexes.getd(2);
+		double d = vertexes.getd(3);
+
+		return b + 0.5 * (c - a + (2.0 * a - 5.0 * b + 4.0 * c - d + (3.0 * (b - c) + (d - a)) * t) * t) * t;
+	}
+
+	/**
+	 * Performs bicubic interpolation using sixteen points.
+	 * @param vertexes A 4x4 matrix of vertices
+	 * @param t A Vec2d of interpolation parameters (x, y)
+	 * @return Interpolated value
+	 */
+	public static double bicubicI(Mat4d vertexes, Vec2d t) {
+		Vec4d cubics = new Vec4d(0.0, 0.0, 0.0, 0.0);
+		for (int i = 0; i < 4; i++) {
+			cubics.set(i, cubicI(new Vec4d(
+				vertexes.getd(i, 0),
+				vertexes.getd(i, 1),
+				vertexes.getd(i, 2),
+				vertexes.getd(i, 3)
+			), t.getd(0)));
+		}
+
+		return cubicI(cubics, t.getd(1));
+	}
+
+	/**
+	 * Performs tricubic interpolation using sixty-four points.
+	 * @param up_vertexes Upper 4x4 matrix
+	 * @param up_center_vertexes Upper center 4x4 matrix
+	 * @param down_center_vertexes Lower center 4x4 matrix
+	 * @param down_vertexes Lower 4x4 matrix
+	 * @param t A Vec3d of interpolation parameters (x, y, z)
+	 * @return Interpolated value
+	 */
+	public static double tricubicI(Mat4d up_vertexes, Mat4d up_center_vertexes, Mat4d down_center_vertexes, Mat4d down_vertexes, Vec3d t) {
+		Vec4d bicubics = new Vec4d(0.0, 0.0, 0.0, 0.0);
+		for (int i = 0; i < 4; i++) {
+			bicubics.set(i, bicubicI(new Mat4d(
+				up_vertexes.getd(i, 0), up_vertexes.getd(i, 1), up_vertexes.getd(i, 2), up_vertexes.getd(i, 3),
+				up_center_vertexes.getd(i, 0), up_center_vertexes.getd(i, 1), up_center_vertexes.getd(i, 2), up_center_vertexes.getd(i, 3),
+				down_center_vertexes.getd(i, 0), down_center_vertexes.getd(i, 1), down_center_vertexes.getd(i, 2), down_center_vertexes.getd(i, 3),
+				down_vertexes.getd(i, 0), down_vertexes.getd(i, 1), down_vertexes.getd(i, 2), down_vertexes.getd(i, 3)
+			), new Vec2d(t.getd(0), t.getd(2))));
+		}
+
+		return cubicI(bicubics, t.getd(1));
+	}
+
+	/**
+	 * Samples a field on a coarse lattice and trilinearly upsamples it to every block of a box.
+	 * Lattice points lie every cellWidth x cellHeight x cellDepth blocks, including the far faces of the box,
+	 * so a 16x256x16 column with 4x8x4 cells needs 5x33x5 field evaluations instead of 65536.
+	 * Samples are stored at {@code out[(y * depth + z) * width + x]}, the layout of {@link Noise#fillSimplex3D}.
+	 *
+	 * @param field The field to sample.
+	 * @param out The output array, at least width * height * depth long.
+	 * @param originX The x coordinate of the first block.
+	 * @param originY The y coordinate of the first block.
+	 * @param originZ The z coordinate of the first block.
+	 * @param width The number of blocks along x, a multiple of cellWidth.
+	 * @param height The number of blocks along y, a multiple of cellHeight.
+	 * @param depth The number of blocks along z, a multiple of cellDepth.
+	 * @param cellWidth The lattice spacing along x in blocks.
+	 * @param cellHeight The lattice spacing along y in blocks.
+	 * @param cellDepth The lattice spacing along z in blocks.
+	 * @param frequency The scale applied to the block coordinates.
+	 */
+	public static void fillTrilinear3D(IScalarField3D field, float[] out, int originX, int originY, int originZ, int width, int height, int depth,
+			int cellWidth, int cellHeight, int cellDepth, double frequency) {
+		assert field != null : "Interpolation:fillTrilinear3D: field == null";
+		assert cellWidth > 0 && cellHeight > 0 && cellDepth > 0 : "Interpolation:fillTrilinear3D: cell sizes must be positive";
+		assert width % cellWidth == 0 && height % cellHeight == 0 && depth % cellDepth == 0 : "Interpolation:fillTrilinear3D: box must be a whole number of cells";
+
+		int cells_x = width / cellWidth;
+		int cells_y = height / cellHeight;
+		int cells_z = depth / cellDepth;
+		int points_x = cells_x + 1;
+		int points_z = cells_z + 1;
+
+		float[] lattice = new float[points_x * (cells_y + 1) * points_z];
+		for (int ly = 0; ly <= cells_y; ly++) {
+			double y = (originY + ly * cellHeight) * frequency;
+			for (int lz = 0; lz <= cells_z; lz++) {
+				double z = (originZ + lz * cellDepth) * frequency;
+				int row = (ly * points_z + lz) * points_x;
+				for (int lx = 0; lx <= cells_x; lx++) {
+					lattice[row + lx] = (float) field.sample((originX + lx * cellWidth) * frequency, y, z);
+				}
+			}
+		}
+
+		upsampleTrilinear(lattice, cells_x, cells_y, cells_z, cellWidth, cellHeight, cellDepth, out);
+	}
+
+	/**
+	 * Trilinearly upsamples a coarse lattice to full resolution.
+	 * Uses the weights of {@link #trilinearI} in incremental form: inside a cell the edge values are
+	 * stepped along y, then z, then x by constant increments, so there is no per-block allocation
+	 * and no per-block weight computation.
+	 *
+	 * @param lattice The lattice values at {@code [(ly * (cellsZ + 1) + lz) * (cellsX + 1) + lx]},
+	 *                (cellsX + 1) * (cellsY + 1) * (cellsZ + 1) long.
+	 * @param cellsX The number of cells along x.
+	 * @param cellsY The number of cells along y.
+	 * @param cellsZ The number of cells along z.
+	 * @param cellWidth The cell size along x in output samples.
+	 * @param cellHeight The cell size along y in output samples.
+	 * @param cellDepth The cell size along z in output samples.
+	 * @param out The output array at {@code [(y * depth + z) * width + x]} with width = cellsX * cellWidth,
+	 *            height = cellsY * cellHeight and depth = cellsZ * cellDepth.
+	 */
+	public static void upsampleTrilinear(float[] lattice, int cellsX, int cellsY, int cellsZ, int cellWidth, int cellHeight, int cellDepth, float[] out) {
+		int points_x = cellsX + 1;
+		int points_z = cellsZ + 1;
+		int width = cellsX * cellWidth;
+		int depth = cellsZ * cellDepth;
+
+		assert lattice != null : "Interpolation:upsampleTrilinear: lattice == null";
+		assert out != null : "Interpolation:upsampleTrilinear: out == null";
+		assert lattice.length >= points_x * (cellsY + 1) * points_z : "Interpolation:upsampleTrilinear: lattice is too small";
+		assert out.length >= width * cellsY * cellHeight * depth : "Interpolation:upsampleTrilinear: out is too small";
+
+		double step_x = 1.0 / cellWidth;
+		double step_y = 1.0 / cellHeight;
+		double step_z = 1.0 / cellDepth;
+
+		for (int cy = 0; cy < cellsY; cy++) {
+			for (int cz = 0; cz < cellsZ; cz++) {
+				int down = (cy * points_z + cz) * points_x;
+				int up = down + points_z * points_x;
+				for (int cx = 0; cx < cellsX; cx++) {
+					// Corners of the cell, named by their (x, z) offsets, below and above
+					double c00 = lattice[down + cx];
+					double c10 = lattice[down + cx + 1];
+					double c01 = lattice[down + points_x + cx];
+					double c11 = lattice[down + points_x + cx + 1];
+					double d00 = (lattice[up + cx] - c00) * step_y;
+					double d10 = (lattice[up + cx + 1] - c10) * step_y;
+					double d01 = (lattice[up + points_x + cx] - c01) * step_y;
+					double d11 = (lattice[up + points_x + cx + 1] - c11) * step_y;
+
+					for (int iy = 0; iy < cellHeight; iy++) {
+						// Step the near and far x edges along z
+						double near = c00;
+						double far = c10;
+						double near_step = (c01 - c00) * step_z;
+						double far_step = (c11 - c10) * step_z;
+
+						int y = cy * cellHeight + iy;
+						for (int iz = 0; iz < cellDepth; iz++) {
+							int index = (y * depth + cz * cellDepth + iz) * width + cx * cellWidth;
+							double value = near;
+							double value_step = (far - near) * step_x;
+							for (int ix = 0; ix < cellWidth; ix++) {
+								out[index + ix] = (float) value;
+								value += value_step;
+							}
+							near += near_step;
+							far += far_step;
+						}
+
+						c00 += d00;
+						c10 += d10;
+						c01 += d01;
+						c11 += d11;
+					}
+				}
+			}
+		}
+	}
+}
\ No newline at end of file
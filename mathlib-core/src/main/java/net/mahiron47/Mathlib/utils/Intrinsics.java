@@ -0,0 +1,94 @@
+package net.mahiron47.mathlib.utils;
+
+/**
+ * Primitive operations the library routes through a single place so that newer JDKs can use faster versions.
+ * This is the Java 8 implementation. The multi-release jar carries a replacement under
+ * {@code META-INF/versions/17} built on {@link java.lang.Math#fma} and {@link java.lang.Math#multiplyHigh};
+ * the JVM picks the right class when it is loaded. {@link #floor} and {@link #abs} are the same code in
+ * both classes, so noise and other world generation built on them is identical on every JDK.
+ */
+public final class Intrinsics {
+	private Intrinsics() {
+		// Private constructor to prevent instantiation
+	}
+
+	/**
+	 * Computes a * b + c. Newer JDKs compute it with a single rounding.
+	 * @param a The first factor.
+	 * @param b The second factor.
+	 * @param c The addend.
+	 * @return a * b + c.
+	 */
+	public static float fma(float a, float b, float c) {
+		return a * b + c;
+	}
+
+	/**
+	 * Computes a * b + c. Newer JDKs compute it with a single rounding.
+	 * @param a The first factor.
+	 * @param b The second factor.
+	 * @param c The addend.
+	 * @return a * b + c.
+	 */
+	public static double fma(double a, double b, double c) {
+		return a * b + c;
+	}
+
+	/**
+	 * Returns the largest integer less than or equal to the double value.
+	 * Only defined for values within the int range; outside it, and for NaN, the result comes
+	 * from the saturating int cast and is meaningless, but the same on every JDK.
+	 * @param x The input value.
+	 * @return The floored value.
+	 */
+	public static double floor(double x) {
+		return (x >= 0) ? (int) x : ((int) x - ((x == (int) x) ? 0 : 1));
+	}
+
+	/**
+	 * Returns the largest integer less than or equal to the float value.
+	 * Only defined for values within the int range; outside it, and for NaN, the result comes
+	 * from the saturating int cast and is meaningless, but the same on every JDK.
+	 * @param x The input value.
+	 * @return The floored value.
+	 */
+	public static float floor(float x) {
+		return (x >= 0) ? (int) x : ((int) x - ((x == (int) x) ? 0 : 1));
+	}
+
+	/**
+	 * Returns the absolute value of a double.
+	 * @param x The input value.
+	 * @return The absolute value of x.
+	 */
+	public static double abs(double x) {
+		return (x >= 0) ? x : -x;
+	}
+
+	/**
+	 * Returns the absolute value of a float.
+	 * @param x The input value.
+	 * @return The absolute value of x.
+	 */
+	public static float abs(float x) {
+		return (x >= 0) ? x : -x;
+	}
+
+	/**
+	 * Returns the high 64 bits of the 128-bit product of two longs.
+	 * @param a The first factor.
+	 * @param b The second factor.
+	 * @return The high half of a * b.
+	 */
+	public static long multiplyHigh(long a, long b) {
+		// Schoolbook multiplication on 32-bit halves
+		long a_hi = a >> 32, a_lo = a & 0xFFFFFFFFL;
+		long b_hi = b >> 32, b_lo = b & 0xFFFFFFFFL;
+
+		long lo_lo = a_lo * b_lo;
+		long hi_lo = a_hi * b_lo + (lo_lo >>> 32);
+		long lo_hi = a_lo * b_hi + (hi_lo & 0xFFFFFFFFL);
+
+		return a_hi * b_hi + (hi_lo >> 32) + (lo_hi >> 32);
+	}
+}
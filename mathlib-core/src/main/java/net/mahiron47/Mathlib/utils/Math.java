@@ -177,7 +177,7 @@ public class Math {
 	 * @return The absolute value of x.
 	 */
 	public static double abs(double x) {
-		return (x >= 0) ? x : -x;
+		return Intrinsics.abs(x);
 	}
 
 	/**
@@ -186,7 +186,7 @@ public class Math {
 	 * @return The absolute value of x.
 	 */
 	public static float abs(float x) {
-		return (x >= 0) ? x : -x;
+		return Intrinsics.abs(x);
 	}
 
 	/**
@@ -369,7 +369,7 @@ public class Math {
 	 * @return The floored value.
 	 */
 	public static double floor(double x) {
-		return (x >= 0) ? (int) x : ((int) x - ((x == (int) x) ? 0 : 1));
+		return Intrinsics.floor(x);
 	}
 	
 	/**
@@ -378,7 +378,7 @@ public class Math {
 	 * @return The floored value.
 	 */
 	public static float floor(float x) {
-		return (x >= 0) ? (int) x : ((int) x - ((x == (int) x) ? 0 : 1));
+		return Intrinsics.floor(x);
 	}
 
 	/**
@@ -804,80 +804,152 @@ public class Math {
 	/**
 	 * Computes the gradient for 2D noise.
 	 * @param hash Hash value.
-	 * @param p 2D vector.
+	 * @param x X component of the distance vector.
+	 * @param y Y component of the distance vector.
 	 * @return Gradient dot product.
 	 */
-	public static double grad(int hash, Vec2d p) {
+	public static double grad(int hash, double x, double y) {
 		int h = hash & 7; // Convert low 3 bits of hash code
-		double u = h < 4 ? p.getd(0) : p.getd(1); // into 8 simple gradient directions,
-		double v = h < 4 ? p.getd(1) : p.getd(0); // and compute the dot product with (x,y).
+		double u = h < 4 ? x : y; // into 8 simple gradient directions,
+		double v = h < 4 ? y : x; // and compute the dot product with (x,y).
 		return ((h & 1) != 0 ? -u : u) + ((h & 2) != 0 ? -2.0 * v : 2.0 * v);
 	}
 
 	/**
 	 * Computes the gradient for 2D noise.
 	 * @param hash Hash value.
-	 * @param p 2D vector.
+	 * @param x X component of the distance vector.
+	 * @param y Y component of the distance vector.
 	 * @return Gradient dot product.
 	 */
-	public static float grad(int hash, Vec2f p) {
+	public static float grad(int hash, float x, float y) {
 		int h = hash & 7; // Convert low 3 bits of hash code
-		float u = h < 4 ? p.getf(0) : p.getf(1); // into 8 simple gradient directions,
-		float v = h < 4 ? p.getf(1) : p.getf(0); // and compute the dot product with (x,y).
+		float u = h < 4 ? x : y; // into 8 simple gradient directions,
+		float v = h < 4 ? y : x; // and compute the dot product with (x,y).
 		return ((h & 1) != 0 ? -u : u) + ((h & 2) != 0 ? -2.0f * v : 2.0f * v);
 	}
 
+	/**
+	 * Computes the gradient for 2D noise.
+	 * @param hash Hash value.
+	 * @param p 2D vector.
+	 * @return Gradient dot product.
+	 */
+	public static double grad(int hash, Vec2d p) {
+		return grad(hash, p.getd(0), p.getd(1));
+	}
+
+	/**
+	 * Computes the gradient for 2D noise.
+	 * @param hash Hash value.
+	 * @param p 2D vector.
+	 * @return Gradient dot product.
+	 */
+	public static float grad(int hash, Vec2f p) {
+		return grad(hash, p.getf(0), p.getf(1));
+	}
+
 	/**
 	 * Computes the gradient for 3D noise.
 	 * @param hash Hash value.
-	 * @param p 3D vector.
+	 * @param x X component of the distance vector.
+	 * @param y Y component of the distance vector.
+	 * @param z Z component of the distance vector.
 	 * @return Gradient dot product.
 	 */
-	public static double grad(int hash, Vec3d p) {
+	public static double grad(int hash, double x, double y, double z) {
 		int h = hash & 15; // Convert low 4 bits of hash code into 12 simple
-		double u = h < 8 ? p.getd(0) : p.getd(1); // gradient directions, and compute dot product.
-		double v = h < 4 ? p.getd(1) : (h == 12 || h == 14 ? p.getd(0) : p.getd(2)); // Fix repeats at h = 12 to 15
+		double u = h < 8 ? x : y; // gradient directions, and compute dot product.
+		double v = h < 4 ? y : (h == 12 || h == 14 ? x : z); // Fix repeats at h = 12 to 15
 		return ((h & 1) != 0 ? -u : u) + ((h & 2) != 0 ? -v : v);
 	}
 
 	/**
 	 * Computes the gradient for 3D noise.
 	 * @param hash Hash value.
-	 * @param p 3D vector.
+	 * @param x X component of the distance vector.
+	 * @param y Y component of the distance vector.
+	 * @param z Z component of the distance vector.
 	 * @return Gradient dot product.
 	 */
-	public static float grad(int hash, Vec3f p) {
+	public static float grad(int hash, float x, float y, float z) {
 		int h = hash & 15; // Convert low 4 bits of hash code into 12 simple
-		float u = h < 8 ? p.getf(0) : p.getf(1); // gradient directions, and compute dot product.
-		float v = h < 4 ? p.getf(1) : (h == 12 || h == 14 ? p.getf(0) : p.getf(2)); // Fix repeats at h = 12 to 15
+		float u = h < 8 ? x : y; // gradient directions, and compute dot product.
+		float v = h < 4 ? y : (h == 12 || h == 14 ? x : z); // Fix repeats at h = 12 to 15
 		return ((h & 1) != 0 ? -u : u) + ((h & 2) != 0 ? -v : v);
 	}
 
+	/**
+	 * Computes the gradient for 3D noise.
+	 * @param hash Hash value.
+	 * @param p 3D vector.
+	 * @return Gradient dot product.
+	 */
+	public static double grad(int hash, Vec3d p) {
+		return grad(hash, p.getd(0), p.getd(1), p.getd(2));
+	}
+
+	/**
+	 * Computes the gradient for 3D noise.
+	 * @param hash Hash value.
+	 * @param p 3D vector.
+	 * @return Gradient dot product.
+	 */
+	public static float grad(int hash, Vec3f p) {
+		return grad(hash, p.getf(0), p.getf(1), p.getf(2));
+	}
+
 	/**
 	 * Computes the gradient for 4D noise.
 	 * @param hash Hash value.
-	 * @param p 4D vector.
+	 * @param x X component of the distance vector.
+	 * @param y Y component of the distance vector.
+	 * @param z Z component of the distance vector.
+	 * @param w W component of the distance vector.
 	 * @return Gradient dot product.
 	 */
-	public static double grad(int hash, Vec4d p) {
+	public static double grad(int hash, double x, double y, double z, double w) {
 		int h = hash & 31; // Convert low 5 bits of hash code into 32 simple
-		double u = h < 24 ? p.getd(0) : p.getd(1); // gradient directions, and compute dot product.
-		double v = h < 16 ? p.getd(1) : p.getd(2);
-		double t = h < 8 ? p.getd(2) : p.getd(3);
+		double u = h < 24 ? x : y; // gradient directions, and compute dot product.
+		double v = h < 16 ? y : z;
+		double t = h < 8 ? z : w;
 		return ((h & 1) != 0 ? -u : u) + ((h & 2) != 0 ? -v : v) + ((h & 4) != 0 ? -t : t);
 	}
 
 	/**
 	 * Computes the gradient for 4D noise.
 	 * @param hash Hash value.
-	 * @param p 4D vector.
+	 * @param x X component of the distance vector.
+	 * @param y Y component of the distance vector.
+	 * @param z Z component of the distance vector.
+	 * @param w W component of the distance vector.
 	 * @return Gradient dot product.
 	 */
-	public static float grad(int hash, Vec4f p) {
+	public static float grad(int hash, float x, float y, float z, float w) {
 		int h = hash & 31; // Convert low 5 bits of hash code into 32 simple
-		float u = h < 24 ? p.getf(0) : p.getf(1); // gradient directions, and compute dot product.
-		float v = h < 16 ? p.getf(1) : p.getf(2);
-		float t = h < 8 ? p.getf(2) : p.getf(3);
+		float u = h < 24 ? x : y; // gradient directions, and compute dot product.
+		float v = h < 16 ? y : z;
+		float t = h < 8 ? z : w;
 		return ((h & 1) != 0 ? -u : u) + ((h & 2) != 0 ? -v : v) + ((h & 4) != 0 ? -t : t);
 	}
+
+	/**
+	 * Computes the gradient for 4D noise.
+	 * @param hash Hash value.
+	 * @param p 4D vector.
+	 * @return Gradient dot product.
+	 */
+	public static double grad(int hash, Vec4d p) {
+		return grad(hash, p.getd(0), p.getd(1), p.getd(2), p.getd(3));
+	}
+
+	/**
+	 * Computes the gradient for 4D noise.
+	 * @param hash Hash value.
+	 * @param p 4D vector.
+	 * @return Gradient dot product.
+	 */
+	public static float grad(int hash, Vec4f p) {
+		return grad(hash, p.getf(0), p.getf(1), p.getf(2), p.getf(3));
+	}
 }
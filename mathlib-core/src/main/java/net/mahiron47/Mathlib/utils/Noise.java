@@ -0,0 +1,1889 @@
+package net.mahiron47.mathlib.utils;
+
+import net.mahiron47.mathlib.types.Vec2d;
+import net.mahiron47.mathlib.types.Vec3d;
+import net.mahiron47.mathlib.types.Vec2f;
+import net.mahiron47.mathlib.types.Vec3f;
+import net.mahiron47.mathlib.types.Vec4d;
+import net.mahiron47.mathlib.types.Vec4f;
+import net.mahiron47.mathlib.types.interfaces.IVector;
+
+/**
+ * Utility class for generating pseudo-random noise values using sine functions.
+ */
+public class Noise {
+	private static final double F2 = 0.366025404; // (sqrt(2 + 1) - 1) / 2;
+	private static final double G2 = 0.211324865; // (3 - sqrt(3)) / 6;
+	private static final double F3 = 0.333333333; // (sqrt(3 + 1) - 1) / 3;
+	private static final double G3 = 0.166666667; // (4 - sqrt(4)) / 12;
+	private static final double F4 = 0.309016994; // (sqrt(4 + 1) - 1) / 4;
+	private static final double G4 = 0.138196601; // (5 - sqrt(5)) / 20;
+
+	private static final float F2f = 0.366025404f; // (sqrt(2 + 1) - 1) / 2;
+	private static final float G2f = 0.211324865f; // (3 - sqrt(3)) / 6;
+	private static final float F3f = 0.333333333f; // (sqrt(3 + 1) - 1) / 3;
+	private static final float G3f = 0.166666667f; // (4 - sqrt(4)) / 12;
+	private static final float F4f = 0.309016994f; // (sqrt(4 + 1) - 1) / 4;
+	private static final float G4f = 0.138196601f; // (5 - sqrt(5)) / 20;
+
+	// Scales of the hash bit fields used to jitter the cellular feature points into [0, 1)
+	private static final double CELL_JITTER16 = 1.0 / 65536.0;
+	private static final double CELL_JITTER11 = 1.0 / 2048.0;
+	private static final double CELL_JITTER10 = 1.0 / 1024.0;
+	private static final float CELL_JITTERf16 = 1.0f / 65536.0f;
+	private static final float CELL_JITTERf11 = 1.0f / 2048.0f;
+	private static final float CELL_JITTERf10 = 1.0f / 1024.0f;
+
+	// Neighbour offsets in search order, the own cell first
+	private static final int[] NEIGHBOUR_ORDER = { 0, -1, 1 };
+
+	private Noise() {
+		// Private constructor to prevent instantiation
+	}
+
+	/**
+	 * Generates a 1D sin noise value based on the input x.
+	 *
+	 * @param p The input value.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static double sinoise(double p) {
+		return Math.fract(Math.sin(p * 495119) * 499509);
+	}
+
+	/**
+	 * Generates a 1D sin noise value based on the input x.
+	 * @param p The input value.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static float sinoise(float p) {
+		return Math.fract(Math.sin(p * 495119) * 499509);
+	}
+
+	/**
+	 * Generates a 2D sin noise value based on the input x and y.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static double sinoise(double x, double y) {
+		return Math.fract(Math.sin(x * 495119 + y * 494109) * 499509);
+	}
+
+	/**
+	 * Generates a 2D sin noise value based on the input x and y.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static float sinoise(float x, float y) {
+		return Math.fract(Math.sin(x * 495119 + y * 494109) * 499509);
+	}
+
+	/**
+	 * Generates a 2D sin noise value based on the input vector.
+	 * @param p The input Vec2d.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static double sinoise(Vec2d p) {
+		return sinoise(p.getd(0), p.getd(1));
+	}
+
+	/**
+	 * Generates a 2D sin noise value based on the input vector.
+	 * @param p The input Vec2f.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static float sinoise(Vec2f p) {
+		return sinoise(p.getf(0), p.getf(1));
+	}
+
+	/**
+	 * Generates a 3D sin noise value based on the input x, y, and z.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static double sinoise(double x, double y, double z) {
+		return Math.fract(Math.sin(x * 495119 + y * 494109 + z * 549161) * 499509);
+	}
+
+	/**
+	 * Generates a 3D sin noise value based on the input x, y, and z.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static float sinoise(float x, float y, float z) {
+		return Math.fract(Math.sin(x * 495119 + y * 494109 + z * 549161) * 499509);
+	}
+
+	/**
+	 * Generates a 3D sin noise value based on the input vector.
+	 * @param p The input Vec3d.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static double sinoise(Vec3d p) {
+		return sinoise(p.getd(0), p.getd(1), p.getd(2));
+	}
+
+	/**
+	 * Generates a 3D sin noise value based on the input vector.
+	 * @param p The input Vec3f.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static float sinoise(Vec3f p) {
+		return sinoise(p.getf(0), p.getf(1), p.getf(2));
+	}
+
+	/**
+	 * Generates a 4D sin noise value based on the input x, y, z, and w.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @param w The w coordinate.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static double sinoise(double x, double y, double z, double w) {
+		return Math.fract(Math.sin(x * 495119 + y * 494109 + z * 549161 + w * 547967) * 499509);
+	}
+
+	/**
+	 * Generates a 4D sin noise value based on the input x, y, z, and w.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @param w The w coordinate.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static float sinoise(float x, float y, float z, float w) {
+		return Math.fract(Math.sin(x * 495119 + y * 494109 + z * 549161 + w * 547967) * 499509);
+	}
+
+	/**
+	 * Generates a 4D sin noise value based on the input vector and w.
+	 * @param p The input Vec3d.
+	 * @param w The w coordinate.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static double sinoise(Vec3d p, double w) {
+		return sinoise(p.getd(0), p.getd(1), p.getd(2), w);
+	}
+
+	/**
+	 * Generates a 4D sin noise value based on the input vector and w.
+	 * @param p The input Vec3f.
+	 * @param w The w coordinate.
+	 * @return A pseudo-random noise value between 0.0 and 1.0.
+	 */
+	public static float sinoise(Vec3f p, float w) {
+		return sinoise(p.getf(0), p.getf(1), p.getf(2), w);
+	}
+
+	/**
+	 * Generates a 2D simplex noise value based on the input coordinates.
+	 * Runs entirely on primitive locals and does not allocate.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public static double simplexNoise(double x, double y) {
+		// Skew the input space to determine which simplex cell we're in
+		double pos_factor = (x + y) * F2;
+		double cell_x = Math.floor(x + pos_factor);
+		double cell_y = Math.floor(y + pos_factor);
+
+		// Unskew the cell origin back to (x,y) space and calculate the distances to the input position
+		double pos_refactor = (cell_x + cell_y) * G2;
+		double x0 = x - (cell_x - pos_refactor);
+		double y0 = y - (cell_y - pos_refactor);
+
+		// For the 2D case, the simplex shape is an equilateral triangle.
+		// Determine which simplex we are in.
+		double i1, j1;
+		if (x0 > y0) {
+			i1 = 1.0; j1 = 0.0;
+		} else {
+			i1 = 0.0; j1 = 1.0;
+		}
+
+		// Calculate the distances from the cell origin to the simplex vertexes
+		double x1 = x0 - i1 + G2;
+		double y1 = y0 - j1 + G2;
+		double x2 = x0 - 1.0 + 2.0 * G2;
+		double y2 = y0 - 1.0 + 2.0 * G2;
+
+		// Calculate the contribution from the corners
+		double n0 = 0.0, n1 = 0.0, n2 = 0.0;
+		double t0 = 0.5 - (x0 * x0 + y0 * y0);
+		if (t0 > 0.0) {
+			t0 *= t0;
+			n0 = t0 * t0 * Math.grad((int) Math.floor(sinoise(cell_x, cell_y) * 1000), x0, y0);
+		}
+		double t1 = 0.5 - (x1 * x1 + y1 * y1);
+		if (t1 > 0.0) {
+			t1 *= t1;
+			n1 = t1 * t1 * Math.grad((int) Math.floor(sinoise(cell_x + i1, cell_y + j1) * 1000), x1, y1);
+		}
+		double t2 = 0.5 - (x2 * x2 + y2 * y2);
+		if (t2 > 0.0) {
+			t2 *= t2;
+			n2 = t2 * t2 * Math.grad((int) Math.floor(sinoise(cell_x + 1.0, cell_y + 1.0) * 1000), x2, y2);
+		}
+
+		return n0 * 40.0 + n1 * 40.0 + n2 * 40.0;
+	}
+
+	/**
+	 * Generates a 2D simplex noise value based on the input coordinates.
+	 * Runs entirely on primitive locals and does not allocate.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public static float simplexNoise(float x, float y) {
+		// Skew the input space to determine which simplex cell we're in
+		float pos_factor = (x + y) * F2f;
+		float cell_x = Math.floor(x + pos_factor);
+		float cell_y = Math.floor(y + pos_factor);
+
+		// Unskew the cell origin back to (x,y) space and calculate the distances to the input position
+		float pos_refactor = (cell_x + cell_y) * G2f;
+		float x0 = x - (cell_x - pos_refactor);
+		float y0 = y - (cell_y - pos_refactor);
+
+		// For the 2D case, the simplex shape is an equilateral triangle.
+		// Determine which simplex we are in.
+		float i1, j1;
+		if (x0 > y0) {
+			i1 = 1.0f; j1 = 0.0f;
+		} else {
+			i1 = 0.0f; j1 = 1.0f;
+		}
+
+		// Calculate the distances from the cell origin to the simplex vertexes
+		float x1 = x0 - i1 + G2f;
+		float y1 = y0 - j1 + G2f;
+		float x2 = x0 - 1.0f + 2.0f * G2f;
+		float y2 = y0 - 1.0f + 2.0f * G2f;
+
+		// Calculate the contribution from the corners
+		float n0 = 0.0f, n1 = 0.0f, n2 = 0.0f;
+		float t0 = 0.5f - (x0 * x0 + y0 * y0);
+		if (t0 > 0.0f) {
+			t0 *= t0;
+			n0 = t0 * t0 * Math.grad((int) Math.floor(sinoise(cell_x, cell_y) * 1000), x0, y0);
+		}
+		float t1 = 0.5f - (x1 * x1 + y1 * y1);
+		if (t1 > 0.0f) {
+			t1 *= t1;
+			n1 = t1 * t1 * Math.grad((int) Math.floor(sinoise(cell_x + i1, cell_y + j1) * 1000), x1, y1);
+		}
+		float t2 = 0.5f - (x2 * x2 + y2 * y2);
+		if (t2 > 0.0f) {
+			t2 *= t2;
+			n2 = t2 * t2 * Math.grad((int) Math.floor(sinoise(cell_x + 1.0f, cell_y + 1.0f) * 1000), x2, y2);
+		}
+
+		return n0 * 40.0f + n1 * 40.0f + n2 * 40.0f;
+	}
+
+	/**
+	 * Generates a 2D simplex noise value based on the input vector.
+	 *
+	 * @param p The input vector.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public static double simplexNoise(Vec2d p) {
+		return simplexNoise(p.getd(0), p.getd(1));
+	}
+
+	/**
+	 * Generates a 2D simplex noise value based on the input vector.
+	 *
+	 * @param p The input vector.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public static float simplexNoise(Vec2f p) {
+		return simplexNoise(p.getf(0), p.getf(1));
+	}
+
+	/**
+	 * Generates a 3D simplex noise value based on the input coordinates.
+	 * Runs entirely on primitive locals and does not allocate.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public static double simplexNoise(double x, double y, double z) {
+		// Skew the input space to determine which simplex cell we're in
+		double pos_factor = (x + y + z) * F3;
+		double cell_x = Math.floor(x + pos_factor);
+		double cell_y = Math.floor(y + pos_factor);
+		double cell_z = Math.floor(z + pos_factor);
+
+		// Unskew the cell origin back to (x,y,z) space and calculate the distances to the input position
+		double pos_refactor = (cell_x + cell_y + cell_z) * G3;
+		double x0 = x - (cell_x - pos_refactor);
+		double y0 = y - (cell_y - pos_refactor);
+		double z0 = z - (cell_z - pos_refactor);
+
+		// For the 3D case, the simplex shape is a slightly irregular tetrahedron.
+		// Determine which simplex we are in.
+		double i1, j1, k1;
+		double i2, j2, k2;
+		if (x0 > y0) {
+			if (x0 > z0) {
+				i1 = 1.0; j1 = 0.0; k1 = 0.0;
+				if (y0 > z0) {
+					i2 = 0.0; j2 = 1.0; k2 = 0.0;
+				} else {
+					i2 = 0.0; j2 = 0.0; k2 = 1.0;
+				}
+			} else {
+				i1 = 0.0; j1 = 0.0; k1 = 1.0;
+				if (y0 > z0) {
+					i2 = 0.0; j2 = 1.0; k2 = 0.0;
+				} else {
+					i2 = 0.0; j2 = 0.0; k2 = 1.0;
+				}
+			}
+		} else {
+			if (y0 > z0) {
+				i1 = 0.0; j1 = 1.0; k1 = 0.0;
+				if (x0 > z0) {
+					i2 = 1.0; j2 = 0.0; k2 = 0.0;
+				} else {
+					i2 = 0.0; j2 = 0.0; k2 = 1.0;
+				}
+			} else {
+				i1 = 0.0; j1 = 0.0; k1 = 1.0;
+				if (x0 > y0) {
+					i2 = 1.0; j2 = 0.0; k2 = 0.0;
+				} else {
+					i2 = 0.0; j2 = 1.0; k2 = 0.0;
+				}
+			}
+		}
+
+		// Calculate the distances from the cell origin to the simplex vertexes.
+		// The last vertex is measured from the second one, as the Vec3d implementation always did.
+		double x1 = x0 - i1 + G3;
+		double y1 = y0 - j1 + G3;
+		double z1 = z0 - k1 + G3;
+		double x2 = x0 - i2 + 2.0 * G3;
+		double y2 = y0 - j2 + 2.0 * G3;
+		double z2 = z0 - k2 + 2.0 * G3;
+		double x3 = x1 - 1.0 + 3.0 * G3;
+		double y3 = y1 - 1.0 + 3.0 * G3;
+		double z3 = z1 - 1.0 + 3.0 * G3;
+
+		// Calculate the contribution from the corners
+		double n0 = 0.0, n1 = 0.0, n2 = 0.0, n3 = 0.0;
+		double t0 = 0.5 - (x0 * x0 + y0 * y0 + z0 * z0);
+		if (t0 > 0.0) {
+			t0 *= t0;
+			n0 = t0 * t0 * Math.grad((int) Math.floor(sinoise(cell_x, cell_y, cell_z) * 1000), x0, y0, z0);
+		}
+		double t1 = 0.5 - (x1 * x1 + y1 * y1 + z1 * z1);
+		if (t1 > 0.0) {
+			t1 *= t1;
+			n1 = t1 * t1 * Math.grad((int) Math.floor(sinoise(cell_x + i1, cell_y + j1, cell_z + k1) * 1000), x1, y1, z1);
+		}
+		double t2 = 0.5 - (x2 * x2 + y2 * y2 + z2 * z2);
+		if (t2 > 0.0) {
+			t2 *= t2;
+			n2 = t2 * t2 * Math.grad((int) Math.floor(sinoise(cell_x + i2, cell_y + j2, cell_z + k2) * 1000), x2, y2, z2);
+		}
+		double t3 = 0.5 - (x3 * x3 + y3 * y3 + z3 * z3);
+		if (t3 > 0.0) {
+			t3 *= t3;
+			n3 = t3 * t3 * Math.grad((int) Math.floor(sinoise(cell_x + 1.0, cell_y + 1.0, cell_z + 1.0) * 1000), x3, y3, z3);
+		}
+
+		return n0 * 40.0 + n1 * 40.0 + n2 * 40.0 + n3 * 40.0;
+	}
+
+	/**
+	 * Generates a 3D simplex noise value based on the input coordinates.
+	 * Runs entirely on primitive locals and does not allocate.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public static float simplexNoise(float x, float y, float z) {
+		// Skew the input space to determine which simplex cell we're in
+		float pos_factor = (x + y + z) * F3f;
+		float cell_x = Math.floor(x + pos_factor);
+		float cell_y = Math.floor(y + pos_factor);
+		float cell_z = Math.floor(z + pos_factor);
+
+		// Unskew the cell origin back to (x,y,z) space and calculate the distances to the input position
+		float pos_refactor = (cell_x + cell_y + cell_z) * G3f;
+		float x0 = x - (cell_x - pos_refactor);
+		float y0 = y - (cell_y - pos_refactor);
+		float z0 = z - (cell_z - pos_refactor);
+
+		// For the 3D case, the simplex shape is a slightly irregular tetrahedron.
+		// Determine which simplex we are in.
+		float i1, j1, k1;
+		float i2, j2, k2;
+		if (x0 > y0) {
+			if (x0 > z0) {
+				i1 = 1.0f; j1 = 0.0f; k1 = 0.0f;
+				if (y0 > z0) {
+					i2 = 0.0f; j2 = 1.0f; k2 = 0.0f;
+				} else {
+					i2 = 0.0f; j2 = 0.0f; k2 = 1.0f;
+				}
+			} else {
+				i1 = 0.0f; j1 = 0.0f; k1 = 1.0f;
+				if (y0 > z0) {
+					i2 = 0.0f; j2 = 1.0f; k2 = 0.0f;
+				} else {
+					i2 = 0.0f; j2 = 0.0f; k2 = 1.0f;
+				}
+			}
+		} else {
+			if (y0 > z0) {
+				i1 = 0.0f; j1 = 1.0f; k1 = 0.0f;
+				if (x0 > z0) {
+					i2 = 1.0f; j2 = 0.0f; k2 = 0.0f;
+				} else {
+					i2 = 0.0f; j2 = 0.0f; k2 = 1.0f;
+				}
+			} else {
+				i1 = 0.0f; j1 = 0.0f; k1 = 1.0f;
+				if (x0 > y0) {
+					i2 = 1.0f; j2 = 0.0f; k2 = 0.0f;
+				} else {
+					i2 = 0.0f; j2 = 1.0f; k2 = 0.0f;
+				}
+			}
+		}
+
+		// Calculate the distances from the cell origin to the simplex vertexes
+		float x1 = x0 - i1 + G3f;
+		float y1 = y0 - j1 + G3f;
+		float z1 = z0 - k1 + G3f;
+		float x2 = x0 - i2 + 2.0f * G3f;
+		float y2 = y0 - j2 + 2.0f * G3f;
+		float z2 = z0 - k2 + 2.0f * G3f;
+		float x3 = x0 - 1.0f + 3.0f * G3f;
+		float y3 = y0 - 1.0f + 3.0f * G3f;
+		float z3 = z0 - 1.0f + 3.0f * G3f;
+
+		// Calculate the contribution from the corners
+		float n0 = 0.0f, n1 = 0.0f, n2 = 0.0f, n3 = 0.0f;
+		float t0 = 0.5f - (x0 * x0 + y0 * y0 + z0 * z0);
+		if (t0 > 0.0f) {
+			t0 *= t0;
+			n0 = t0 * t0 * Math.grad((int) Math.floor(sinoise(cell_x, cell_y, cell_z) * 1000), x0, y0, z0);
+		}
+		float t1 = 0.5f - (x1 * x1 + y1 * y1 + z1 * z1);
+		if (t1 > 0.0f) {
+			t1 *= t1;
+			n1 = t1 * t1 * Math.grad((int) Math.floor(sinoise(cell_x + i1, cell_y + j1, cell_z + k1) * 1000), x1, y1, z1);
+		}
+		float t2 = 0.5f - (x2 * x2 + y2 * y2 + z2 * z2);
+		if (t2 > 0.0f) {
+			t2 *= t2;
+			n2 = t2 * t2 * Math.grad((int) Math.floor(sinoise(cell_x + i2, cell_y + j2, cell_z + k2) * 1000), x2, y2, z2);
+		}
+		float t3 = 0.5f - (x3 * x3 + y3 * y3 + z3 * z3);
+		if (t3 > 0.0f) {
+			t3 *= t3;
+			n3 = t3 * t3 * Math.grad((int) Math.floor(sinoise(cell_x + 1.0f, cell_y + 1.0f, cell_z + 1.0f) * 1000), x3, y3, z3);
+		}
+
+		return n0 * 40.0f + n1 * 40.0f + n2 * 40.0f + n3 * 40.0f;
+	}
+
+	/**
+	 * Generates a 3D simplex noise value based on the input vector.
+	 * @param p The input Vec3d.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public static double simplexNoise(Vec3d p) {
+		return simplexNoise(p.getd(0), p.getd(1), p.getd(2));
+	}
+
+	/**
+	 * Generates a 3D simplex noise value based on the input vector.
+	 * @param p The input Vec3f.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public static float simplexNoise(Vec3f p) {
+		return simplexNoise(p.getf(0), p.getf(1), p.getf(2));
+	}
+
+	/**
+	 * Generates a 4D simplex noise value based on the input coordinates.
+	 * Runs entirely on primitive locals and does not allocate.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @param w The w coordinate, e.g. time for animated 3D fields.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public static double simplexNoise(double x, double y, double z, double w) {
+		// Skew the input space to determine which simplex cell we're in
+		double pos_factor = (x + y + z + w) * F4;
+		double cell_x = Math.floor(x + pos_factor);
+		double cell_y = Math.floor(y + pos_factor);
+		double cell_z = Math.floor(z + pos_factor);
+		double cell_w = Math.floor(w + pos_factor);
+
+		// Unskew the cell origin back to (x,y,z,w) space and calculate the distances to the input position
+		double pos_refactor = (cell_x + cell_y + cell_z + cell_w) * G4;
+		double x0 = x - (cell_x - pos_refactor);
+		double y0 = y - (cell_y - pos_refactor);
+		double z0 = z - (cell_z - pos_refactor);
+		double w0 = w - (cell_w - pos_refactor);
+
+		// For the 4D case, the simplex is a pentachoron. Rank the coordinates by magnitude
+		// to find which of the 24 simplices we are in and the order its vertexes are visited.
+		int rank_x = 0, rank_y = 0, rank_z = 0, rank_w = 0;
+		if (x0 > y0) rank_x++; else rank_y++;
+		if (x0 > z0) rank_x++; else rank_z++;
+		if (x0 > w0) rank_x++; else rank_w++;
+		if (y0 > z0) rank_y++; else rank_z++;
+		if (y0 > w0) rank_y++; else rank_w++;
+		if (z0 > w0) rank_z++; else rank_w++;
+
+		double i1 = rank_x >= 3 ? 1.0 : 0.0, j1 = rank_y >= 3 ? 1.0 : 0.0, k1 = rank_z >= 3 ? 1.0 : 0.0, l1 = rank_w >= 3 ? 1.0 : 0.0;
+		double i2 = rank_x >= 2 ? 1.0 : 0.0, j2 = rank_y >= 2 ? 1.0 : 0.0, k2 = rank_z >= 2 ? 1.0 : 0.0, l2 = rank_w >= 2 ? 1.0 : 0.0;
+		double i3 = rank_x >= 1 ? 1.0 : 0.0, j3 = rank_y >= 1 ? 1.0 : 0.0, k3 = rank_z >= 1 ? 1.0 : 0.0, l3 = rank_w >= 1 ? 1.0 : 0.0;
+
+		// Calculate the distances from the cell origin to the simplex vertexes
+		double x1 = x0 - i1 + G4;
+		double y1 = y0 - j1 + G4;
+		double z1 = z0 - k1 + G4;
+		double w1 = w0 - l1 + G4;
+		double x2 = x0 - i2 + 2.0 * G4;
+		double y2 = y0 - j2 + 2.0 * G4;
+		double z2 = z0 - k2 + 2.0 * G4;
+		double w2 = w0 - l2 + 2.0 * G4;
+		double x3 = x0 - i3 + 3.0 * G4;
+		double y3 = y0 - j3 + 3.0 * G4;
+		double z3 = z0 - k3 + 3.0 * G4;
+		double w3 = w0 - l3 + 3.0 * G4;
+		double x4 = x0 - 1.0 + 4.0 * G4;
+		double y4 = y0 - 1.0 + 4.0 * G4;
+		double z4 = z0 - 1.0 + 4.0 * G4;
+		double w4 = w0 - 1.0 + 4.0 * G4;
+
+		// Calculate the contribution from the corners
+		double n0 = 0.0, n1 = 0.0, n2 = 0.0, n3 = 0.0, n4 = 0.0;
+		double t0 = 0.6 - (x0 * x0 + y0 * y0 + z0 * z0 + w0 * w0);
+		if (t0 > 0.0) {
+			t0 *= t0;
+			n0 = t0 * t0 * Math.grad((int) Math.floor(sinoise(cell_x, cell_y, cell_z, cell_w) * 1000), x0, y0, z0, w0);
+		}
+		double t1 = 0.6 - (x1 * x1 + y1 * y1 + z1 * z1 + w1 * w1);
+		if (t1 > 0.0) {
+			t1 *= t1;
+			n1 = t1 * t1 * Math.grad((int) Math.floor(sinoise(cell_x + i1, cell_y + j1, cell_z + k1, cell_w + l1) * 1000), x1, y1, z1, w1);
+		}
+		double t2 = 0.6 - (x2 * x2 + y2 * y2 + z2 * z2 + w2 * w2);
+		if (t2 > 0.0) {
+			t2 *= t2;
+			n2 = t2 * t2 * Math.grad((int) Math.floor(sinoise(cell_x + i2, cell_y + j2, cell_z + k2, cell_w + l2) * 1000), x2, y2, z2, w2);
+		}
+		double t3 = 0.6 - (x3 * x3 + y3 * y3 + z3 * z3 + w3 * w3);
+		if (t3 > 0.0) {
+			t3 *= t3;
+			n3 = t3 * t3 * Math.grad((int) Math.floor(sinoise(cell_x + i3, cell_y + j3, cell_z + k3, cell_w + l3) * 1000), x3, y3, z3, w3);
+		}
+		double t4 = 0.6 - (x4 * x4 + y4 * y4 + z4 * z4 + w4 * w4);
+		if (t4 > 0.0) {
+			t4 *= t4;
+			n4 = t4 * t4 * Math.grad((int) Math.floor(sinoise(cell_x + 1.0, cell_y + 1.0, cell_z + 1.0, cell_w + 1.0) * 1000), x4, y4, z4, w4);
+		}
+
+		// Scale the result to stay within [-1, 1]
+		return 27.0 * (n0 + n1 + n2 + n3 + n4);
+	}
+
+	/**
+	 * Generates a 4D simplex noise value based on the input coordinates.
+	 * Runs entirely on primitive locals and does not allocate.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @param w The w coordinate, e.g. time for animated 3D fields.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public static float simplexNoise(float x, float y, float z, float w) {
+		// Skew the input space to determine which simplex cell we're in
+		float pos_factor = (x + y + z + w) * F4f;
+		float cell_x = Math.floor(x + pos_factor);
+		float cell_y = Math.floor(y + pos_factor);
+		float cell_z = Math.floor(z + pos_factor);
+		float cell_w = Math.floor(w + pos_factor);
+
+		// Unskew the cell origin back to (x,y,z,w) space and calculate the distances to the input position
+		float pos_refactor = (cell_x + cell_y + cell_z + cell_w) * G4f;
+		float x0 = x - (cell_x - pos_refactor);
+		float y0 = y - (cell_y - pos_refactor);
+		float z0 = z - (cell_z - pos_refactor);
+		float w0 = w - (cell_w - pos_refactor);
+
+		// For the 4D case, the simplex is a pentachoron. Rank the coordinates by magnitude
+		// to find which of the 24 simplices we are in and the order its vertexes are visited.
+		int rank_x = 0, rank_y = 0, rank_z = 0, rank_w = 0;
+		if (x0 > y0) rank_x++; else rank_y++;
+		if (x0 > z0) rank_x++; else rank_z++;
+		if (x0 > w0) rank_x++; else rank_w++;
+		if (y0 > z0) rank_y++; else rank_z++;
+		if (y0 > w0) rank_y++; else rank_w++;
+		if (z0 > w0) rank_z++; else rank_w++;
+
+		float i1 = rank_x >= 3 ? 1.0f : 0.0f, j1 = rank_y >= 3 ? 1.0f : 0.0f, k1 = rank_z >= 3 ? 1.0f : 0.0f, l1 = rank_w >= 3 ? 1.0f : 0.0f;
+		float i2 = rank_x >= 2 ? 1.0f : 0.0f, j2 = rank_y >= 2 ? 1.0f : 0.0f, k2 = rank_z >= 2 ? 1.0f : 0.0f, l2 = rank_w >= 2 ? 1.0f : 0.0f;
+		float i3 = rank_x >= 1 ? 1.0f : 0.0f, j3 = rank_y >= 1 ? 1.0f : 0.0f, k3 = rank_z >= 1 ? 1.0f : 0.0f, l3 = rank_w >= 1 ? 1.0f : 0.0f;
+
+		// Calculate the distances from the cell origin to the simplex vertexes
+		float x1 = x0 - i1 + G4f;
+		float y1 = y0 - j1 + G4f;
+		float z1 = z0 - k1 + G4f;
+		float w1 = w0 - l1 + G4f;
+		float x2 = x0 - i2 + 2.0f * G4f;
+		float y2 = y0 - j2 + 2.0f * G4f;
+		float z2 = z0 - k2 + 2.0f * G4f;
+		float w2 = w0 - l2 + 2.0f * G4f;
+		float x3 = x0 - i3 + 3.0f * G4f;
+		float y3 = y0 - j3 + 3.0f * G4f;
+		float z3 = z0 - k3 + 3.0f * G4f;
+		float w3 = w0 - l3 + 3.0f * G4f;
+		float x4 = x0 - 1.0f + 4.0f * G4f;
+		float y4 = y0 - 1.0f + 4.0f * G4f;
+		float z4 = z0 - 1.0f + 4.0f * G4f;
+		float w4 = w0 - 1.0f + 4.0f * G4f;
+
+		// Calculate the contribution from the corners
+		float n0 = 0.0f, n1 = 0.0f, n2 = 0.0f, n3 = 0.0f, n4 = 0.0f;
+		float t0 = 0.6f - (x0 * x0 + y0 * y0 + z0 * z0 + w0 * w0);
+		if (t0 > 0.0f) {
+			t0 *= t0;
+			n0 = t0 * t0 * Math.grad((int) Math.floor(sinoise(cell_x, cell_y, cell_z, cell_w) * 1000), x0, y0, z0, w0);
+		}
+		float t1 = 0.6f - (x1 * x1 + y1 * y1 + z1 * z1 + w1 * w1);
+		if (t1 > 0.0f) {
+			t1 *= t1;
+			n1 = t1 * t1 * Math.grad((int) Math.floor(sinoise(cell_x + i1, cell_y + j1, cell_z + k1, cell_w + l1) * 1000), x1, y1, z1, w1);
+		}
+		float t2 = 0.6f - (x2 * x2 + y2 * y2 + z2 * z2 + w2 * w2);
+		if (t2 > 0.0f) {
+			t2 *= t2;
+			n2 = t2 * t2 * Math.grad((int) Math.floor(sinoise(cell_x + i2, cell_y + j2, cell_z + k2, cell_w + l2) * 1000), x2, y2, z2, w2);
+		}
+		float t3 = 0.6f - (x3 * x3 + y3 * y3 + z3 * z3 + w3 * w3);
+		if (t3 > 0.0f) {
+			t3 *= t3;
+			n3 = t3 * t3 * Math.grad((int) Math.floor(sinoise(cell_x + i3, cell_y + j3, cell_z + k3, cell_w + l3) * 1000), x3, y3, z3, w3);
+		}
+		float t4 = 0.6f - (x4 * x4 + y4 * y4 + z4 * z4 + w4 * w4);
+		if (t4 > 0.0f) {
+			t4 *= t4;
+			n4 = t4 * t4 * Math.grad((int) Math.floor(sinoise(cell_x + 1.0f, cell_y + 1.0f, cell_z + 1.0f, cell_w + 1.0f) * 1000), x4, y4, z4, w4);
+		}
+
+		// Scale the result to stay within [-1, 1]
+		return 27.0f * (n0 + n1 + n2 + n3 + n4);
+	}
+
+	/**
+	 * Generates a 2D simplex noise value together with its analytic partial derivatives.
+	 * The derivatives are accumulated from the same corner falloff and gradient terms as the value,
+	 * so this costs little more than a single {@link #simplexNoise(double, double)} call and does not allocate.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param out The output array, at least 3 long; receives (value, d/dx, d/dy).
+	 * @return The noise value, identical to {@link #simplexNoise(double, double)}.
+	 */
+	public static double simplexNoiseDerivatives(double x, double y, double[] out) {
+		assert out != null : "Noise:simplexNoiseDerivatives: out == null";
+		assert out.length >= 3 : "Noise:simplexNoiseDerivatives: out must hold at least 3 values";
+
+		return simplexDerivatives(x, y, out, null);
+	}
+
+	/**
+	 * Generates a 2D simplex noise value together with its analytic partial derivatives.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param out The reusable output vector; receives (value, d/dx, d/dy).
+	 * @return The noise value, identical to {@link #simplexNoise(double, double)}.
+	 */
+	public static double simplexNoiseDerivatives(double x, double y, Vec3d out) {
+		assert out != null : "Noise:simplexNoiseDerivatives: out == null";
+
+		return simplexDerivatives(x, y, (double[]) null, out);
+	}
+
+	/**
+	 * Generates a 2D simplex noise value together with its analytic partial derivatives.
+	 * The derivatives are accumulated from the same corner falloff and gradient terms as the value,
+	 * so this costs little more than a single {@link #simplexNoise(float, float)} call and does not allocate.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param out The output array, at least 3 long; receives (value, d/dx, d/dy).
+	 * @return The noise value, identical to {@link #simplexNoise(float, float)}.
+	 */
+	public static float simplexNoiseDerivatives(float x, float y, float[] out) {
+		assert out != null : "Noise:simplexNoiseDerivatives: out == null";
+		assert out.length >= 3 : "Noise:simplexNoiseDerivatives: out must hold at least 3 values";
+
+		return simplexDerivatives(x, y, out, null);
+	}
+
+	/**
+	 * Generates a 2D simplex noise value together with its analytic partial derivatives.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param out The reusable output vector; receives (value, d/dx, d/dy).
+	 * @return The noise value, identical to {@link #simplexNoise(float, float)}.
+	 */
+	public static float simplexNoiseDerivatives(float x, float y, Vec3f out) {
+		assert out != null : "Noise:simplexNoiseDerivatives: out == null";
+
+		return simplexDerivatives(x, y, (float[]) null, out);
+	}
+
+	/**
+	 * Generates a 3D simplex noise value together with its analytic partial derivatives.
+	 * The derivatives are accumulated from the same corner falloff and gradient terms as the value,
+	 * so this costs little more than a single {@link #simplexNoise(double, double, double)} call and does not allocate.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @param out The output array, at least 4 long; receives (value, d/dx, d/dy, d/dz).
+	 * @return The noise value, identical to {@link #simplexNoise(double, double, double)}.
+	 */
+	public static double simplexNoiseDerivatives(double x, double y, double z, double[] out) {
+		assert out != null : "Noise:simplexNoiseDerivatives: out == null";
+		assert out.length >= 4 : "Noise:simplexNoiseDerivatives: out must hold at least 4 values";
+
+		return simplexDerivatives(x, y, z, out, null);
+	}
+
+	/**
+	 * Generates a 3D simplex noise value together with its analytic partial derivatives.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @param out The reusable output vector; receives (value, d/dx, d/dy, d/dz).
+	 * @return The noise value, identical to {@link #simplexNoise(double, double, double)}.
+	 */
+	public static double simplexNoiseDerivatives(double x, double y, double z, Vec4d out) {
+		assert out != null : "Noise:simplexNoiseDerivatives: out == null";
+
+		return simplexDerivatives(x, y, z, (double[]) null, out);
+	}
+
+	/**
+	 * Generates a 3D simplex noise value together with its analytic partial derivatives.
+	 * The derivatives are accumulated from the same corner falloff and gradient terms as the value,
+	 * so this costs little more than a single {@link #simplexNoise(float, float, float)} call and does not allocate.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @param out The output array, at least 4 long; receives (value, d/dx, d/dy, d/dz).
+	 * @return The noise value, identical to {@link #simplexNoise(float, float, float)}.
+	 */
+	public static float simplexNoiseDerivatives(float x, float y, float z, float[] out) {
+		assert out != null : "Noise:simplexNoiseDerivatives: out == null";
+		assert out.length >= 4 : "Noise:simplexNoiseDerivatives: out must hold at least 4 values";
+
+		return simplexDerivatives(x, y, z, out, null);
+	}
+
+	/**
+	 * Generates a 3D simplex noise value together with its analytic partial derivatives.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @param out The reusable output vector; receives (value, d/dx, d/dy, d/dz).
+	 * @return The noise value, identical to {@link #simplexNoise(float, float, float)}.
+	 */
+	public static float simplexNoiseDerivatives(float x, float y, float z, Vec4f out) {
+		assert out != null : "Noise:simplexNoiseDerivatives: out == null";
+
+		return simplexDerivatives(x, y, z, (float[]) null, out);
+	}
+
+	/**
+	 * Fills a 2D grid of simplex noise values into a caller-supplied array.
+	 * Samples are taken at ((originX + x) * frequency, (originZ + z) * frequency) and
+	 * stored at {@code out[z * width + x]}. The corner hashes of the current simplex cell
+	 * are reused along each row, so values match {@link #simplexNoise(double, double)}.
+	 *
+	 * @param out The output array, at least width * depth long.
+	 * @param originX The x coordinate of the first sample.
+	 * @param originZ The z coordinate of the first sample.
+	 * @param width The number of samples along x.
+	 * @param depth The number of samples along z.
+	 * @param frequency The scale applied to the block coordinates.
+	 */
+	public static void fillSimplex2D(float[] out, int originX, int originZ, int width, int depth, double frequency) {
+		assert out != null : "Noise:fillSimplex2D: out == null";
+		assert width > 0 && depth > 0 : "Noise:fillSimplex2D: width and depth must be positive";
+		assert out.length >= width * depth : "Noise:fillSimplex2D: out is too small for the requested grid";
+
+		// Corner hashes of the last visited cell, indexed by i + 2 * j
+		double cached_x = Double.NaN, cached_y = Double.NaN;
+		int[] hashes = new int[4];
+		int cached = 0; // Bit c is set once hashes[c] is valid for the current cell
+
+		for (int z = 0; z < depth; z++) {
+			double y = (originZ + z) * frequency;
+			int row = z * width;
+
+			for (int ix = 0; ix < width; ix++) {
+				double x = (originX + ix) * frequency;
+
+				double pos_factor = (x + y) * F2;
+				double cell_x = Math.floor(x + pos_factor);
+				double cell_y = Math.floor(y + pos_factor);
+				if (cell_x != cached_x || cell_y != cached_y) {
+					cached_x = cell_x;
+					cached_y = cell_y;
+					cached = 0;
+				}
+
+				double pos_refactor = (cell_x + cell_y) * G2;
+				double x0 = x - (cell_x - pos_refactor);
+				double y0 = y - (cell_y - pos_refactor);
+
+				double i1, j1;
+				int c1;
+				if (x0 > y0) {
+					i1 = 1.0; j1 = 0.0; c1 = 1;
+				} else {
+					i1 = 0.0; j1 = 1.0; c1 = 2;
+				}
+
+				double x1 = x0 - i1 + G2;
+				double y1 = y0 - j1 + G2;
+				double x2 = x0 - 1.0 + 2.0 * G2;
+				double y2 = y0 - 1.0 + 2.0 * G2;
+
+				double n0 = 0.0, n1 = 0.0, n2 = 0.0;
+				double t0 = 0.5 - (x0 * x0 + y0 * y0);
+				if (t0 > 0.0) {
+					t0 *= t0;
+					if ((cached & 1) == 0) {
+						hashes[0] = cornerHash(cell_x, cell_y);
+						cached |= 1;
+					}
+					n0 = t0 * t0 * Math.grad(hashes[0], x0, y0);
+				}
+				double t1 = 0.5 - (x1 * x1 + y1 * y1);
+				if (t1 > 0.0) {
+					t1 *= t1;
+					if ((cached & (1 << c1)) == 0) {
+						hashes[c1] = cornerHash(cell_x + i1, cell_y + j1);
+						cached |= 1 << c1;
+					}
+					n1 = t1 * t1 * Math.grad(hashes[c1], x1, y1);
+				}
+				double t2 = 0.5 - (x2 * x2 + y2 * y2);
+				if (t2 > 0.0) {
+					t2 *= t2;
+					if ((cached & 8) == 0) {
+						hashes[3] = cornerHash(cell_x + 1.0, cell_y + 1.0);
+						cached |= 8;
+					}
+					n2 = t2 * t2 * Math.grad(hashes[3], x2, y2);
+				}
+
+				out[row + ix] = (float) (n0 * 40.0 + n1 * 40.0 + n2 * 40.0);
+			}
+		}
+	}
+
+	/**
+	 * Fills a 3D box of simplex noise values into a caller-supplied array, e.g. a 16x256x16 chunk.
+	 * Samples are taken at ((originX + x) * frequency, (originY + y) * frequency, (originZ + z) * frequency)
+	 * and stored at {@code out[(y * depth + z) * width + x]}. The corner hashes of the current simplex
+	 * cell are reused along each row, so values match {@link #simplexNoise(double, double, double)}.
+	 *
+	 * @param out The output array, at least width * height * depth long.
+	 * @param originX The x coordinate of the first sample.
+	 * @param originY The y coordinate of the first sample.
+	 * @param originZ The z coordinate of the first sample.
+	 * @param width The number of samples along x.
+	 * @param height The number of samples along y.
+	 * @param depth The number of samples along z.
+	 * @param frequency The scale applied to the block coordinates.
+	 */
+	public static void fillSimplex3D(float[] out, int originX, int originY, int originZ, int width, int height, int depth, double frequency) {
+		assert out != null : "Noise:fillSimplex3D: out == null";
+		assert width > 0 && height > 0 && depth > 0 : "Noise:fillSimplex3D: width, height and depth must be positive";
+		assert out.length >= width * height * depth : "Noise:fillSimplex3D: out is too small for the requested box";
+
+		// Corner hashes of the last visited cell, indexed by i + 2 * j + 4 * k
+		double cached_x = Double.NaN, cached_y = Double.NaN, cached_z = Double.NaN;
+		int[] hashes = new int[8];
+		int cached = 0; // Bit c is set once hashes[c] is valid for the current cell
+
+		for (int iy = 0; iy < height; iy++) {
+			double y = (originY + iy) * frequency;
+
+			for (int iz = 0; iz < depth; iz++) {
+				double z = (originZ + iz) * frequency;
+				int row = (iy * depth + iz) * width;
+
+				for (int ix = 0; ix < width; ix++) {
+					double x = (originX + ix) * frequency;
+
+					double pos_factor = (x + y + z) * F3;
+					double cell_x = Math.floor(x + pos_factor);
+					double cell_y = Math.floor(y + pos_factor);
+					double cell_z = Math.floor(z + pos_factor);
+					if (cell_x != cached_x || cell_y != cached_y || cell_z != cached_z) {
+						cached_x = cell_x;
+						cached_y = cell_y;
+						cached_z = cell_z;
+						cached = 0;
+					}
+
+					double pos_refactor = (cell_x + cell_y + cell_z) * G3;
+					double x0 = x - (cell_x - pos_refactor);
+					double y0 = y - (cell_y - pos_refactor);
+					double z0 = z - (cell_z - pos_refactor);
+
+					double i1, j1, k1;
+					double i2, j2, k2;
+					int c1, c2;
+					if (x0 > y0) {
+						if (x0 > z0) {
+							i1 = 1.0; j1 = 0.0; k1 = 0.0; c1 = 1;
+							if (y0 > z0) {
+								i2 = 0.0; j2 = 1.0; k2 = 0.0; c2 = 2;
+							} else {
+								i2 = 0.0; j2 = 0.0; k2 = 1.0; c2 = 4;
+							}
+						} else {
+							i1 = 0.0; j1 = 0.0; k1 = 1.0; c1 = 4;
+							if (y0 > z0) {
+								i2 = 0.0; j2 = 1.0; k2 = 0.0; c2 = 2;
+							} else {
+								i2 = 0.0; j2 = 0.0; k2 = 1.0; c2 = 4;
+							}
+						}
+					} else {
+						if (y0 > z0) {
+							i1 = 0.0; j1 = 1.0; k1 = 0.0; c1 = 2;
+							if (x0 > z0) {
+								i2 = 1.0; j2 = 0.0; k2 = 0.0; c2 = 1;
+							} else {
+								i2 = 0.0; j2 = 0.0; k2 = 1.0; c2 = 4;
+							}
+						} else {
+							i1 = 0.0; j1 = 0.0; k1 = 1.0; c1 = 4;
+							if (x0 > y0) {
+								i2 = 1.0; j2 = 0.0; k2 = 0.0; c2 = 1;
+							} else {
+								i2 = 0.0; j2 = 1.0; k2 = 0.0; c2 = 2;
+							}
+						}
+					}
+
+					double x1 = x0 - i1 + G3;
+					double y1 = y0 - j1 + G3;
+					double z1 = z0 - k1 + G3;
+					double x2 = x0 - i2 + 2.0 * G3;
+					double y2 = y0 - j2 + 2.0 * G3;
+					double z2 = z0 - k2 + 2.0 * G3;
+					double x3 = x1 - 1.0 + 3.0 * G3;
+					double y3 = y1 - 1.0 + 3.0 * G3;
+					double z3 = z1 - 1.0 + 3.0 * G3;
+
+					double n0 = 0.0, n1 = 0.0, n2 = 0.0, n3 = 0.0;
+					double t0 = 0.5 - (x0 * x0 + y0 * y0 + z0 * z0);
+					if (t0 > 0.0) {
+						t0 *= t0;
+						if ((cached & 1) == 0) {
+							hashes[0] = cornerHash(cell_x, cell_y, cell_z);
+							cached |= 1;
+						}
+						n0 = t0 * t0 * Math.grad(hashes[0], x0, y0, z0);
+					}
+					double t1 = 0.5 - (x1 * x1 + y1 * y1 + z1 * z1);
+					if (t1 > 0.0) {
+						t1 *= t1;
+						if ((cached & (1 << c1)) == 0) {
+							hashes[c1] = cornerHash(cell_x + i1, cell_y + j1, cell_z + k1);
+							cached |= 1 << c1;
+						}
+						n1 = t1 * t1 * Math.grad(hashes[c1], x1, y1, z1);
+					}
+					double t2 = 0.5 - (x2 * x2 + y2 * y2 + z2 * z2);
+					if (t2 > 0.0) {
+						t2 *= t2;
+						if ((cached & (1 << c2)) == 0) {
+							hashes[c2] = cornerHash(cell_x + i2, cell_y + j2, cell_z + k2);
+							cached |= 1 << c2;
+						}
+						n2 = t2 * t2 * Math.grad(hashes[c2], x2, y2, z2);
+					}
+					double t3 = 0.5 - (x3 * x3 + y3 * y3 + z3 * z3);
+					if (t3 > 0.0) {
+						t3 *= t3;
+						if ((cached & (1 << 7)) == 0) {
+							hashes[7] = cornerHash(cell_x + 1.0, cell_y + 1.0, cell_z + 1.0);
+							cached |= 1 << 7;
+						}
+						n3 = t3 * t3 * Math.grad(hashes[7], x3, y3, z3);
+					}
+
+					out[row + ix] = (float) (n0 * 40.0 + n1 * 40.0 + n2 * 40.0 + n3 * 40.0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Generates 2D cellular (Worley) noise with one jittered feature point per unit cell.
+	 * F1 and F2 are the distances to the nearest and second nearest feature point; the returned
+	 * cell hash identifies the cell owning the nearest point and is stable, so it can be used as a cell ID.
+	 * Feature points come from an integer hash and neighbour cells that cannot beat F2 are skipped.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param out The output array, at least 2 long; receives (F1, F2).
+	 * @return The hash of the cell owning the nearest feature point.
+	 */
+	public static int cellularNoise(double x, double y, double[] out) {
+		assert out != null : "Noise:cellularNoise: out == null";
+		assert out.length >= 2 : "Noise:cellularNoise: out must hold at least 2 values";
+
+		int cell_x = (int) Math.floor(x);
+		int cell_y = (int) Math.floor(y);
+		double fx = x - cell_x;
+		double fy = y - cell_y;
+
+		// Visit the own cell first so the neighbours can be pruned against a tight F2
+		double f1 = Double.MAX_VALUE, f2 = Double.MAX_VALUE;
+		int cell = 0;
+		for (int b = 0; b < 3; b++) {
+			int j = NEIGHBOUR_ORDER[b];
+			double edge_y = j < 0 ? fy : (j > 0 ? 1.0 - fy : 0.0);
+			edge_y *= edge_y;
+			if (edge_y >= f2) continue;
+
+			for (int a = 0; a < 3; a++) {
+				int i = NEIGHBOUR_ORDER[a];
+				double edge_x = i < 0 ? fx : (i > 0 ? 1.0 - fx : 0.0);
+				if (edge_y + edge_x * edge_x >= f2) continue;
+
+				int h = cellHash(cell_x + i, cell_y + j);
+				double dx = i + (h & 0xFFFF) * CELL_JITTER16 - fx;
+				double dy = j + (h >>> 16) * CELL_JITTER16 - fy;
+				double d = dx * dx + dy * dy;
+				if (d < f1) {
+					f2 = f1;
+					f1 = d;
+					cell = h;
+				} else if (d < f2) {
+					f2 = d;
+				}
+			}
+		}
+
+		out[0] = java.lang.Math.sqrt(f1);
+		out[1] = java.lang.Math.sqrt(f2);
+		return cell;
+	}
+
+	/**
+	 * Generates 2D cellular (Worley) noise with one jittered feature point per unit cell.
+	 * F1 and F2 are the distances to the nearest and second nearest feature point; the returned
+	 * cell hash identifies the cell owning the nearest point and is stable, so it can be used as a cell ID.
+	 * Feature points come from an integer hash and neighbour cells that cannot beat F2 are skipped.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param out The output array, at least 2 long; receives (F1, F2).
+	 * @return The hash of the cell owning the nearest feature point.
+	 */
+	public static int cellularNoise(float x, float y, float[] out) {
+		assert out != null : "Noise:cellularNoise: out == null";
+		assert out.length >= 2 : "Noise:cellularNoise: out must hold at least 2 values";
+
+		int cell_x = (int) Math.floor(x);
+		int cell_y = (int) Math.floor(y);
+		float fx = x - cell_x;
+		float fy = y - cell_y;
+
+		// Visit the own cell first so the neighbours can be pruned against a tight F2
+		float f1 = Float.MAX_VALUE, f2 = Float.MAX_VALUE;
+		int cell = 0;
+		for (int b = 0; b < 3; b++) {
+			int j = NEIGHBOUR_ORDER[b];
+			float edge_y = j < 0 ? fy : (j > 0 ? 1.0f - fy : 0.0f);
+			edge_y *= edge_y;
+			if (edge_y >= f2) continue;
+
+			for (int a = 0; a < 3; a++) {
+				int i = NEIGHBOUR_ORDER[a];
+				float edge_x = i < 0 ? fx : (i > 0 ? 1.0f - fx : 0.0f);
+				if (edge_y + edge_x * edge_x >= f2) continue;
+
+				int h = cellHash(cell_x + i, cell_y + j);
+				float dx = i + (h & 0xFFFF) * CELL_JITTERf16 - fx;
+				float dy = j + (h >>> 16) * CELL_JITTERf16 - fy;
+				float d = dx * dx + dy * dy;
+				if (d < f1) {
+					f2 = f1;
+					f1 = d;
+					cell = h;
+				} else if (d < f2) {
+					f2 = d;
+				}
+			}
+		}
+
+		out[0] = (float) java.lang.Math.sqrt(f1);
+		out[1] = (float) java.lang.Math.sqrt(f2);
+		return cell;
+	}
+
+	/**
+	 * Generates 3D cellular (Worley) noise with one jittered feature point per unit cell.
+	 * F1 and F2 are the distances to the nearest and second nearest feature point; the returned
+	 * cell hash identifies the cell owning the nearest point.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @param out The output array, at least 2 long; receives (F1, F2).
+	 * @return The hash of the cell owning the nearest feature point.
+	 */
+	public static int cellularNoise(double x, double y, double z, double[] out) {
+		assert out != null : "Noise:cellularNoise: out == null";
+		assert out.length >= 2 : "Noise:cellularNoise: out must hold at least 2 values";
+
+		int cell_x = (int) Math.floor(x);
+		int cell_y = (int) Math.floor(y);
+		int cell_z = (int) Math.floor(z);
+		double fx = x - cell_x;
+		double fy = y - cell_y;
+		double fz = z - cell_z;
+
+		// Visit the own cell first so the neighbours can be pruned against a tight F2
+		double f1 = Double.MAX_VALUE, f2 = Double.MAX_VALUE;
+		int cell = 0;
+		for (int c = 0; c < 3; c++) {
+			int k = NEIGHBOUR_ORDER[c];
+			double edge_z = k < 0 ? fz : (k > 0 ? 1.0 - fz : 0.0);
+			edge_z *= edge_z;
+			if (edge_z >= f2) continue;
+
+			for (int b = 0; b < 3; b++) {
+				int j = NEIGHBOUR_ORDER[b];
+				double edge_y = j < 0 ? fy : (j > 0 ? 1.0 - fy : 0.0);
+				edge_y = edge_z + edge_y * edge_y;
+				if (edge_y >= f2) continue;
+
+				for (int a = 0; a < 3; a++) {
+					int i = NEIGHBOUR_ORDER[a];
+					double edge_x = i < 0 ? fx : (i > 0 ? 1.0 - fx : 0.0);
+					if (edge_y + edge_x * edge_x >= f2) continue;
+
+					int h = cellHash(cell_x + i, cell_y + j, cell_z + k);
+					double dx = i + (h & 0x7FF) * CELL_JITTER11 - fx;
+					double dy = j + ((h >>> 11) & 0x7FF) * CELL_JITTER11 - fy;
+					double dz = k + (h >>> 22) * CELL_JITTER10 - fz;
+					double d = dx * dx + dy * dy + dz * dz;
+					if (d < f1) {
+						f2 = f1;
+						f1 = d;
+						cell = h;
+					} else if (d < f2) {
+						f2 = d;
+					}
+				}
+			}
+		}
+
+		out[0] = java.lang.Math.sqrt(f1);
+		out[1] = java.lang.Math.sqrt(f2);
+		return cell;
+	}
+
+	/**
+	 * Generates 3D cellular (Worley) noise with one jittered feature point per unit cell.
+	 * F1 and F2 are the distances to the nearest and second nearest feature point; the returned
+	 * cell hash identifies the cell owning the nearest point.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @param out The output array, at least 2 long; receives (F1, F2).
+	 * @return The hash of the cell owning the nearest feature point.
+	 */
+	public static int cellularNoise(float x, float y, float z, float[] out) {
+		assert out != null : "Noise:cellularNoise: out == null";
+		assert out.length >= 2 : "Noise:cellularNoise: out must hold at least 2 values";
+
+		int cell_x = (int) Math.floor(x);
+		int cell_y = (int) Math.floor(y);
+		int cell_z = (int) Math.floor(z);
+		float fx = x - cell_x;
+		float fy = y - cell_y;
+		float fz = z - cell_z;
+
+		// Visit the own cell first so the neighbours can be pruned against a tight F2
+		float f1 = Float.MAX_VALUE, f2 = Float.MAX_VALUE;
+		int cell = 0;
+		for (int c = 0; c < 3; c++) {
+			int k = NEIGHBOUR_ORDER[c];
+			float edge_z = k < 0 ? fz : (k > 0 ? 1.0f - fz : 0.0f);
+			edge_z *= edge_z;
+			if (edge_z >= f2) continue;
+
+			for (int b = 0; b < 3; b++) {
+				int j = NEIGHBOUR_ORDER[b];
+				float edge_y = j < 0 ? fy : (j > 0 ? 1.0f - fy : 0.0f);
+				edge_y = edge_z + edge_y * edge_y;
+				if (edge_y >= f2) continue;
+
+				for (int a = 0; a < 3; a++) {
+					int i = NEIGHBOUR_ORDER[a];
+					float edge_x = i < 0 ? fx : (i > 0 ? 1.0f - fx : 0.0f);
+					if (edge_y + edge_x * edge_x >= f2) continue;
+
+					int h = cellHash(cell_x + i, cell_y + j, cell_z + k);
+					float dx = i + (h & 0x7FF) * CELL_JITTERf11 - fx;
+					float dy = j + ((h >>> 11) & 0x7FF) * CELL_JITTERf11 - fy;
+					float dz = k + (h >>> 22) * CELL_JITTERf10 - fz;
+					float d = dx * dx + dy * dy + dz * dz;
+					if (d < f1) {
+						f2 = f1;
+						f1 = d;
+						cell = h;
+					} else if (d < f2) {
+						f2 = d;
+					}
+				}
+			}
+		}
+
+		out[0] = (float) java.lang.Math.sqrt(f1);
+		out[1] = (float) java.lang.Math.sqrt(f2);
+		return cell;
+	}
+
+	/**
+	 * Fills a 2D grid of cellular noise into caller-supplied arrays, e.g. the 16x16 columns of a chunk.
+	 * Samples are taken at ((originX + x) * frequency, (originZ + z) * frequency) and stored at
+	 * {@code [z * width + x]}. The feature points of the 3x3 cells around the current cell are kept
+	 * while consecutive samples stay in the same cell, so values match {@link #cellularNoise(double, double, double[])}.
+	 * Any output array may be null if that value is not needed.
+	 *
+	 * @param f1 The output array for F1, or null.
+	 * @param f2 The output array for F2, or null.
+	 * @param cells The output array for the cell hashes, or null.
+	 * @param originX The x coordinate of the first sample.
+	 * @param originZ The z coordinate of the first sample.
+	 * @param width The number of samples along x.
+	 * @param depth The number of samples along z.
+	 * @param frequency The scale applied to the block coordinates.
+	 */
+	public static void fillCellular2D(float[] f1, float[] f2, int[] cells, int originX, int originZ, int width, int depth, double frequency) {
+		assert width > 0 && depth > 0 : "Noise:fillCellular2D: width and depth must be positive";
+		assert f1 == null || f1.length >= width * depth : "Noise:fillCellular2D: f1 is too small for the requested grid";
+		assert f2 == null || f2.length >= width * depth : "Noise:fillCellular2D: f2 is too small for the requested grid";
+		assert cells == null || cells.length >= width * depth : "Noise:fillCellular2D: cells is too small for the requested grid";
+
+		// Feature points of the 3x3 neighbourhood relative to the current cell, own cell first
+		double[] point_x = new double[9];
+		double[] point_y = new double[9];
+		int[] hashes = new int[9];
+		int last_x = 0, last_y = 0;
+		boolean valid = false;
+
+		for (int iz = 0; iz < depth; iz++) {
+			double y = (originZ + iz) * frequency;
+			int cell_y = (int) Math.floor(y);
+			double fy = y - cell_y;
+			int row = iz * width;
+
+			for (int ix = 0; ix < width; ix++) {
+				double x = (originX + ix) * frequency;
+				int cell_x = (int) Math.floor(x);
+				double fx = x - cell_x;
+
+				if (!valid || cell_x != last_x || cell_y != last_y) {
+					int n = 0;
+					for (int b = 0; b < 3; b++) {
+						int j = NEIGHBOUR_ORDER[b];
+						for (int a = 0; a < 3; a++, n++) {
+							int i = NEIGHBOUR_ORDER[a];
+							int h = cellHash(cell_x + i, cell_y + j);
+							point_x[n] = i + (h & 0xFFFF) * CELL_JITTER16;
+							point_y[n] = j + (h >>> 16) * CELL_JITTER16;
+							hashes[n] = h;
+						}
+					}
+					last_x = cell_x;
+					last_y = cell_y;
+					valid = true;
+				}
+
+				double d1 = Double.MAX_VALUE, d2 = Double.MAX_VALUE;
+				int cell = 0;
+				for (int b = 0, n = 0; b < 3; b++) {
+					int j = NEIGHBOUR_ORDER[b];
+					double edge_y = j < 0 ? fy : (j > 0 ? 1.0 - fy : 0.0);
+					edge_y *= edge_y;
+					if (edge_y >= d2) {
+						n += 3;
+						continue;
+					}
+
+					for (int a = 0; a < 3; a++, n++) {
+						int i = NEIGHBOUR_ORDER[a];
+						double edge_x = i < 0 ? fx : (i > 0 ? 1.0 - fx : 0.0);
+						if (edge_y + edge_x * edge_x >= d2) continue;
+
+						double dx = point_x[n] - fx;
+						double dy = point_y[n] - fy;
+						double d = dx * dx + dy * dy;
+						if (d < d1) {
+							d2 = d1;
+							d1 = d;
+							cell = hashes[n];
+						} else if (d < d2) {
+							d2 = d;
+						}
+					}
+				}
+
+				if (f1 != null) f1[row + ix] = (float) java.lang.Math.sqrt(d1);
+				if (f2 != null) f2[row + ix] = (float) java.lang.Math.sqrt(d2);
+				if (cells != null) cells[row + ix] = cell;
+			}
+		}
+	}
+
+	/**
+	 * Shared kernel of the simplexNoiseDerivatives overloads; writes to {@code out} if it is set, otherwise to {@code vout}.
+	 * {@link Math#grad} is linear in the offset, so feeding it unit offsets yields the gradient vector of a corner.
+	 */
+	private static double simplexDerivatives(double x, double y, double[] out, IVector vout) {
+		// Skew the input space to determine which simplex cell we're in
+		double pos_factor = (x + y) * F2;
+		double cell_x = Math.floor(x + pos_factor);
+		double cell_y = Math.floor(y + pos_factor);
+
+		// Unskew the cell origin back to (x,y) space and calculate the distances to the input position
+		double pos_refactor = (cell_x + cell_y) * G2;
+		double x0 = x - (cell_x - pos_refactor);
+		double y0 = y - (cell_y - pos_refactor);
+
+		// For the 2D case, the simplex shape is an equilateral triangle.
+		// Determine which simplex we are in.
+		double i1, j1;
+		if (x0 > y0) {
+			i1 = 1.0; j1 = 0.0;
+		} else {
+			i1 = 0.0; j1 = 1.0;
+		}
+
+		// Calculate the distances from the cell origin to the simplex vertexes
+		double x1 = x0 - i1 + G2;
+		double y1 = y0 - j1 + G2;
+		double x2 = x0 - 1.0 + 2.0 * G2;
+		double y2 = y0 - 1.0 + 2.0 * G2;
+
+		// Calculate the contribution from the corners.
+		// A corner adds t^4 * (g . d) with t = 0.5 - |d|^2, so its derivative is t^4 * g - 8 * t^3 * (g . d) * d.
+		double n0 = 0.0, n1 = 0.0, n2 = 0.0, dx = 0.0, dy = 0.0;
+		double t0 = 0.5 - (x0 * x0 + y0 * y0);
+		if (t0 > 0.0) {
+			int h = (int) Math.floor(sinoise(cell_x, cell_y) * 1000);
+			double gx = Math.grad(h, 1.0, 0.0);
+			double gy = Math.grad(h, 0.0, 1.0);
+			double dot = gx * x0 + gy * y0;
+			double sq = t0 * t0;
+			double quad = sq * sq;
+			double slope = -8.0 * sq * t0 * dot;
+			n0 = quad * dot;
+			dx += quad * gx + slope * x0;
+			dy += quad * gy + slope * y0;
+		}
+		double t1 = 0.5 - (x1 * x1 + y1 * y1);
+		if (t1 > 0.0) {
+			int h = (int) Math.floor(sinoise(cell_x + i1, cell_y + j1) * 1000);
+			double gx = Math.grad(h, 1.0, 0.0);
+			double gy = Math.grad(h, 0.0, 1.0);
+			double dot = gx * x1 + gy * y1;
+			double sq = t1 * t1;
+			double quad = sq * sq;
+			double slope = -8.0 * sq * t1 * dot;
+			n1 = quad * dot;
+			dx += quad * gx + slope * x1;
+			dy += quad * gy + slope * y1;
+		}
+		double t2 = 0.5 - (x2 * x2 + y2 * y2);
+		if (t2 > 0.0) {
+			int h = (int) Math.floor(sinoise(cell_x + 1.0, cell_y + 1.0) * 1000);
+			double gx = Math.grad(h, 1.0, 0.0);
+			double gy = Math.grad(h, 0.0, 1.0);
+			double dot = gx * x2 + gy * y2;
+			double sq = t2 * t2;
+			double quad = sq * sq;
+			double slope = -8.0 * sq * t2 * dot;
+			n2 = quad * dot;
+			dx += quad * gx + slope * x2;
+			dy += quad * gy + slope * y2;
+		}
+
+		double value = n0 * 40.0 + n1 * 40.0 + n2 * 40.0;
+		if (out != null) {
+			out[0] = value;
+			out[1] = 40.0 * dx;
+			out[2] = 40.0 * dy;
+		} else {
+			vout.set(0, value);
+			vout.set(1, 40.0 * dx);
+			vout.set(2, 40.0 * dy);
+		}
+		return value;
+	}
+
+	private static float simplexDerivatives(float x, float y, float[] out, IVector vout) {
+		// Skew the input space to determine which simplex cell we're in
+		float pos_factor = (x + y) * F2f;
+		float cell_x = Math.floor(x + pos_factor);
+		float cell_y = Math.floor(y + pos_factor);
+
+		// Unskew the cell origin back to (x,y) space and calculate the distances to the input position
+		float pos_refactor = (cell_x + cell_y) * G2f;
+		float x0 = x - (cell_x - pos_refactor);
+		float y0 = y - (cell_y - pos_refactor);
+
+		// For the 2D case, the simplex shape is an equilateral triangle.
+		// Determine which simplex we are in.
+		float i1, j1;
+		if (x0 > y0) {
+			i1 = 1.0f; j1 = 0.0f;
+		} else {
+			i1 = 0.0f; j1 = 1.0f;
+		}
+
+		// Calculate the distances from the cell origin to the simplex vertexes
+		float x1 = x0 - i1 + G2f;
+		float y1 = y0 - j1 + G2f;
+		float x2 = x0 - 1.0f + 2.0f * G2f;
+		float y2 = y0 - 1.0f + 2.0f * G2f;
+
+		// Calculate the contribution from the corners.
+		// A corner adds t^4 * (g . d) with t = 0.5 - |d|^2, so its derivative is t^4 * g - 8 * t^3 * (g . d) * d.
+		float n0 = 0.0f, n1 = 0.0f, n2 = 0.0f, dx = 0.0f, dy = 0.0f;
+		float t0 = 0.5f - (x0 * x0 + y0 * y0);
+		if (t0 > 0.0f) {
+			int h = (int) Math.floor(sinoise(cell_x, cell_y) * 1000);
+			float gx = Math.grad(h, 1.0f, 0.0f);
+			float gy = Math.grad(h, 0.0f, 1.0f);
+			float dot = gx * x0 + gy * y0;
+			float sq = t0 * t0;
+			float quad = sq * sq;
+			float slope = -8.0f * sq * t0 * dot;
+			n0 = quad * dot;
+			dx += quad * gx + slope * x0;
+			dy += quad * gy + slope * y0;
+		}
+		float t1 = 0.5f - (x1 * x1 + y1 * y1);
+		if (t1 > 0.0f) {
+			int h = (int) Math.floor(sinoise(cell_x + i1, cell_y + j1) * 1000);
+			float gx = Math.grad(h, 1.0f, 0.0f);
+			float gy = Math.grad(h, 0.0f, 1.0f);
+			float dot = gx * x1 + gy * y1;
+			float sq = t1 * t1;
+			float quad = sq * sq;
+			float slope = -8.0f * sq * t1 * dot;
+			n1 = quad * dot;
+			dx += quad * gx + slope * x1;
+			dy += quad * gy + slope * y1;
+		}
+		float t2 = 0.5f - (x2 * x2 + y2 * y2);
+		if (t2 > 0.0f) {
+			int h = (int) Math.floor(sinoise(cell_x + 1.0f, cell_y + 1.0f) * 1000);
+			float gx = Math.grad(h, 1.0f, 0.0f);
+			float gy = Math.grad(h, 0.0f, 1.0f);
+			float dot = gx * x2 + gy * y2;
+			float sq = t2 * t2;
+			float quad = sq * sq;
+			float slope = -8.0f * sq * t2 * dot;
+			n2 = quad * dot;
+			dx += quad * gx + slope * x2;
+			dy += quad * gy + slope * y2;
+		}
+
+		float value = n0 * 40.0f + n1 * 40.0f + n2 * 40.0f;
+		if (out != null) {
+			out[0] = value;
+			out[1] = 40.0f * dx;
+			out[2] = 40.0f * dy;
+		} else {
+			vout.set(0, value);
+			vout.set(1, 40.0f * dx);
+			vout.set(2, 40.0f * dy);
+		}
+		return value;
+	}
+
+	private static double simplexDerivatives(double x, double y, double z, double[] out, IVector vout) {
+		// Skew the input space to determine which simplex cell we're in
+		double pos_factor = (x + y + z) * F3;
+		double cell_x = Math.floor(x + pos_factor);
+		double cell_y = Math.floor(y + pos_factor);
+		double cell_z = Math.floor(z + pos_factor);
+
+		// Unskew the cell origin back to (x,y,z) space and calculate the distances to the input position
+		double pos_refactor = (cell_x + cell_y + cell_z) * G3;
+		double x0 = x - (cell_x - pos_refactor);
+		double y0 = y - (cell_y - pos_refactor);
+		double z0 = z - (cell_z - pos_refactor);
+
+		// For the 3D case, the simplex shape is a slightly irregular tetrahedron.
+		// Determine which simplex we are in.
+		double i1, j1, k1;
+		double i2, j2, k2;
+		if (x0 > y0) {
+			if (x0 > z0) {
+				i1 = 1.0; j1 = 0.0; k1 = 0.0;
+				if (y0 > z0) {
+					i2 = 0.0; j2 = 1.0; k2 = 0.0;
+				} else {
+					i2 = 0.0; j2 = 0.0; k2 = 1.0;
+				}
+			} else {
+				i1 = 0.0; j1 = 0.0; k1 = 1.0;
+				if (y0 > z0) {
+					i2 = 0.0; j2 = 1.0; k2 = 0.0;
+				} else {
+					i2 = 0.0; j2 = 0.0; k2 = 1.0;
+				}
+			}
+		} else {
+			if (y0 > z0) {
+				i1 = 0.0; j1 = 1.0; k1 = 0.0;
+				if (x0 > z0) {
+					i2 = 1.0; j2 = 0.0; k2 = 0.0;
+				} else {
+					i2 = 0.0; j2 = 0.0; k2 = 1.0;
+				}
+			} else {
+				i1 = 0.0; j1 = 0.0; k1 = 1.0;
+				if (x0 > y0) {
+					i2 = 1.0; j2 = 0.0; k2 = 0.0;
+				} else {
+					i2 = 0.0; j2 = 1.0; k2 = 0.0;
+				}
+			}
+		}
+
+		// Calculate the distances from the cell origin to the simplex vertexes.
+		// The last vertex is measured from the second one, as the Vec3d implementation always did.
+		double x1 = x0 - i1 + G3;
+		double y1 = y0 - j1 + G3;
+		double z1 = z0 - k1 + G3;
+		double x2 = x0 - i2 + 2.0 * G3;
+		double y2 = y0 - j2 + 2.0 * G3;
+		double z2 = z0 - k2 + 2.0 * G3;
+		double x3 = x1 - 1.0 + 3.0 * G3;
+		double y3 = y1 - 1.0 + 3.0 * G3;
+		double z3 = z1 - 1.0 + 3.0 * G3;
+
+		// Calculate the contribution from the corners.
+		// A corner adds t^4 * (g . d) with t = 0.5 - |d|^2, so its derivative is t^4 * g - 8 * t^3 * (g . d) * d.
+		double n0 = 0.0, n1 = 0.0, n2 = 0.0, n3 = 0.0, dx = 0.0, dy = 0.0, dz = 0.0;
+		double t0 = 0.5 - (x0 * x0 + y0 * y0 + z0 * z0);
+		if (t0 > 0.0) {
+			int h = (int) Math.floor(sinoise(cell_x, cell_y, cell_z) * 1000);
+			double gx = Math.grad(h, 1.0, 0.0, 0.0);
+			double gy = Math.grad(h, 0.0, 1.0, 0.0);
+			double gz = Math.grad(h, 0.0, 0.0, 1.0);
+			double dot = gx * x0 + gy * y0 + gz * z0;
+			double sq = t0 * t0;
+			double quad = sq * sq;
+			double slope = -8.0 * sq * t0 * dot;
+			n0 = quad * dot;
+			dx += quad * gx + slope * x0;
+			dy += quad * gy + slope * y0;
+			dz += quad * gz + slope * z0;
+		}
+		double t1 = 0.5 - (x1 * x1 + y1 * y1 + z1 * z1);
+		if (t1 > 0.0) {
+			int h = (int) Math.floor(sinoise(cell_x + i1, cell_y + j1, cell_z + k1) * 1000);
+			double gx = Math.grad(h, 1.0, 0.0, 0.0);
+			double gy = Math.grad(h, 0.0, 1.0, 0.0);
+			double gz = Math.grad(h, 0.0, 0.0, 1.0);
+			double dot = gx * x1 + gy * y1 + gz * z1;
+			double sq = t1 * t1;
+			double quad = sq * sq;
+			double slope = -8.0 * sq * t1 * dot;
+			n1 = quad * dot;
+			dx += quad * gx + slope * x1;
+			dy += quad * gy + slope * y1;
+			dz += quad * gz + slope * z1;
+		}
+		double t2 = 0.5 - (x2 * x2 + y2 * y2 + z2 * z2);
+		if (t2 > 0.0) {
+			int h = (int) Math.floor(sinoise(cell_x + i2, cell_y + j2, cell_z + k2) * 1000);
+			double gx = Math.grad(h, 1.0, 0.0, 0.0);
+			double gy = Math.grad(h, 0.0, 1.0, 0.0);
+			double gz = Math.grad(h, 0.0, 0.0, 1.0);
+			double dot = gx * x2 + gy * y2 + gz * z2;
+			double sq = t2 * t2;
+			double quad = sq * sq;
+			double slope = -8.0 * sq * t2 * dot;
+			n2 = quad * dot;
+			dx += quad * gx + slope * x2;
+			dy += quad * gy + slope * y2;
+			dz += quad * gz + slope * z2;
+		}
+		double t3 = 0.5 - (x3 * x3 + y3 * y3 + z3 * z3);
+		if (t3 > 0.0) {
+			int h = (int) Math.floor(sinoise(cell_x + 1.0, cell_y + 1.0, cell_z + 1.0) * 1000);
+			double gx = Math.grad(h, 1.0, 0.0, 0.0);
+			double gy = Math.grad(h, 0.0, 1.0, 0.0);
+			double gz = Math.grad(h, 0.0, 0.0, 1.0);
+			double dot = gx * x3 + gy * y3 + gz * z3;
+			double sq = t3 * t3;
+			double quad = sq * sq;
+			double slope = -8.0 * sq * t3 * dot;
+			n3 = quad * dot;
+			dx += quad * gx + slope * x3;
+			dy += quad * gy + slope * y3;
+			dz += quad * gz + slope * z3;
+		}
+
+		double value = n0 * 40.0 + n1 * 40.0 + n2 * 40.0 + n3 * 40.0;
+		if (out != null) {
+			out[0] = value;
+			out[1] = 40.0 * dx;
+			out[2] = 40.0 * dy;
+			out[3] = 40.0 * dz;
+		} else {
+			vout.set(0, value);
+			vout.set(1, 40.0 * dx);
+			vout.set(2, 40.0 * dy);
+			vout.set(3, 40.0 * dz);
+		}
+		return value;
+	}
+
+	private static float simplexDerivatives(float x, float y, float z, float[] out, IVector vout) {
+		// Skew the input space to determine which simplex cell we're in
+		float pos_factor = (x + y + z) * F3f;
+		float cell_x = Math.floor(x + pos_factor);
+		float cell_y = Math.floor(y + pos_factor);
+		float cell_z = Math.floor(z + pos_factor);
+
+		// Unskew the cell origin back to (x,y,z) space and calculate the distances to the input position
+		float pos_refactor = (cell_x + cell_y + cell_z) * G3f;
+		float x0 = x - (cell_x - pos_refactor);
+		float y0 = y - (cell_y - pos_refactor);
+		float z0 = z - (cell_z - pos_refactor);
+
+		// For the 3D case, the simplex shape is a slightly irregular tetrahedron.
+		// Determine which simplex we are in.
+		float i1, j1, k1;
+		float i2, j2, k2;
+		if (x0 > y0) {
+			if (x0 > z0) {
+				i1 = 1.0f; j1 = 0.0f; k1 = 0.0f;
+				if (y0 > z0) {
+					i2 = 0.0f; j2 = 1.0f; k2 = 0.0f;
+				} else {
+					i2 = 0.0f; j2 = 0.0f; k2 = 1.0f;
+				}
+			} else {
+				i1 = 0.0f; j1 = 0.0f; k1 = 1.0f;
+				if (y0 > z0) {
+					i2 = 0.0f; j2 = 1.0f; k2 = 0.0f;
+				} else {
+					i2 = 0.0f; j2 = 0.0f; k2 = 1.0f;
+				}
+			}
+		} else {
+			if (y0 > z0) {
+				i1 = 0.0f; j1 = 1.0f; k1 = 0.0f;
+				if (x0 > z0) {
+					i2 = 1.0f; j2 = 0.0f; k2 = 0.0f;
+				} else {
+					i2 = 0.0f; j2 = 0.0f; k2 = 1.0f;
+				}
+			} else {
+				i1 = 0.0f; j1 = 0.0f; k1 = 1.0f;
+				if (x0 > y0) {
+					i2 = 1.0f; j2 = 0.0f; k2 = 0.0f;
+				} else {
+					i2 = 0.0f; j2 = 1.0f; k2 = 0.0f;
+				}
+			}
+		}
+
+		// Calculate the distances from the cell origin to the simplex vertexes
+		float x1 = x0 - i1 + G3f;
+		float y1 = y0 - j1 + G3f;
+		float z1 = z0 - k1 + G3f;
+		float x2 = x0 - i2 + 2.0f * G3f;
+		float y2 = y0 - j2 + 2.0f * G3f;
+		float z2 = z0 - k2 + 2.0f * G3f;
+		float x3 = x0 - 1.0f + 3.0f * G3f;
+		float y3 = y0 - 1.0f + 3.0f * G3f;
+		float z3 = z0 - 1.0f + 3.0f * G3f;
+
+		// Calculate the contribution from the corners.
+		// A corner adds t^4 * (g . d) with t = 0.5 - |d|^2, so its derivative is t^4 * g - 8 * t^3 * (g . d) * d.
+		float n0 = 0.0f, n1 = 0.0f, n2 = 0.0f, n3 = 0.0f, dx = 0.0f, dy = 0.0f, dz = 0.0f;
+		float t0 = 0.5f - (x0 * x0 + y0 * y0 + z0 * z0);
+		if (t0 > 0.0f) {
+			int h = (int) Math.floor(sinoise(cell_x, cell_y, cell_z) * 1000);
+			float gx = Math.grad(h, 1.0f, 0.0f, 0.0f);
+			float gy = Math.grad(h, 0.0f, 1.0f, 0.0f);
+			float gz = Math.grad(h, 0.0f, 0.0f, 1.0f);
+			float dot = gx * x0 + gy * y0 + gz * z0;
+			float sq = t0 * t0;
+			float quad = sq * sq;
+			float slope = -8.0f * sq * t0 * dot;
+			n0 = quad * dot;
+			dx += quad * gx + slope * x0;
+			dy += quad * gy + slope * y0;
+			dz += quad * gz + slope * z0;
+		}
+		float t1 = 0.5f - (x1 * x1 + y1 * y1 + z1 * z1);
+		if (t1 > 0.0f) {
+			int h = (int) Math.floor(sinoise(cell_x + i1, cell_y + j1, cell_z + k1) * 1000);
+			float gx = Math.grad(h, 1.0f, 0.0f, 0.0f);
+			float gy = Math.grad(h, 0.0f, 1.0f, 0.0f);
+			float gz = Math.grad(h, 0.0f, 0.0f, 1.0f);
+			float dot = gx * x1 + gy * y1 + gz * z1;
+			float sq = t1 * t1;
+			float quad = sq * sq;
+			float slope = -8.0f * sq * t1 * dot;
+			n1 = quad * dot;
+			dx += quad * gx + slope * x1;
+			dy += quad * gy + slope * y1;
+			dz += quad * gz + slope * z1;
+		}
+		float t2 = 0.5f - (x2 * x2 + y2 * y2 + z2 * z2);
+		if (t2 > 0.0f) {
+			int h = (int) Math.floor(sinoise(cell_x + i2, cell_y + j2, cell_z + k2) * 1000);
+			float gx = Math.grad(h, 1.0f, 0.0f, 0.0f);
+			float gy = Math.grad(h, 0.0f, 1.0f, 0.0f);
+			float gz = Math.grad(h, 0.0f, 0.0f, 1.0f);
+			float dot = gx * x2 + gy * y2 + gz * z2;
+			float sq = t2 * t2;
+			float quad = sq * sq;
+			float slope = -8.0f * sq * t2 * dot;
+			n2 = quad * dot;
+			dx += quad * gx + slope * x2;
+			dy += quad * gy + slope * y2;
+			dz += quad * gz + slope * z2;
+		}
+		float t3 = 0.5f - (x3 * x3 + y3 * y3 + z3 * z3);
+		if (t3 > 0.0f) {
+			int h = (int) Math.floor(sinoise(cell_x + 1.0f, cell_y + 1.0f, cell_z + 1.0f) * 1000);
+			float gx = Math.grad(h, 1.0f, 0.0f, 0.0f);
+			float gy = Math.grad(h, 0.0f, 1.0f, 0.0f);
+			float gz = Math.grad(h, 0.0f, 0.0f, 1.0f);
+			float dot = gx * x3 + gy * y3 + gz * z3;
+			float sq = t3 * t3;
+			float quad = sq * sq;
+			float slope = -8.0f * sq * t3 * dot;
+			n3 = quad * dot;
+			dx += quad * gx + slope * x3;
+			dy += quad * gy + slope * y3;
+			dz += quad * gz + slope * z3;
+		}
+
+		float value = n0 * 40.0f + n1 * 40.0f + n2 * 40.0f + n3 * 40.0f;
+		if (out != null) {
+			out[0] = value;
+			out[1] = 40.0f * dx;
+			out[2] = 40.0f * dy;
+			out[3] = 40.0f * dz;
+		} else {
+			vout.set(0, value);
+			vout.set(1, 40.0f * dx);
+			vout.set(2, 40.0f * dy);
+			vout.set(3, 40.0f * dz);
+		}
+		return value;
+	}
+
+	/**
+	 * Hashes a 2D simplex lattice corner the same way the simplex kernels do.
+	 */
+	private static int cornerHash(double x, double y) {
+		return (int) Math.floor(sinoise(x, y) * 1000);
+	}
+
+	/**
+	 * Hashes a 3D simplex lattice corner the same way the simplex kernels do.
+	 */
+	private static int cornerHash(double x, double y, double z) {
+		return (int) Math.floor(sinoise(x, y, z) * 1000);
+	}
+
+	/**
+	 * Hashes a 2D cell to the integer that places its feature point.
+	 */
+	private static int cellHash(int x, int y) {
+		int h = x * 0x8DA6B343 ^ y * 0xD8163841;
+		// Final avalanche (MurmurHash3 fmix32)
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		h *= 0xC2B2AE35;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	/**
+	 * Hashes a 3D cell to the integer that places its feature point.
+	 */
+	private static int cellHash(int x, int y, int z) {
+		int h = x * 0x8DA6B343 ^ y * 0xD8163841 ^ z * 0xCB1AB31F;
+		// Final avalanche (MurmurHash3 fmix32)
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		h *= 0xC2B2AE35;
+		h ^= h >>> 16;
+		return h;
+	}
+}
@@ -0,0 +1,650 @@
+package net.mahiron47.mathlib.utils;
+
+import java.util.Random;
+
+import net.mahiron47.mathlib.types.Vec2d;
+import net.mahiron47.mathlib.types.Vec2f;
+import net.mahiron47.mathlib.types.Vec3d;
+import net.mahiron47.mathlib.types.Vec3f;
+
+/**
+ * Seeded simplex noise generator.
+ * The permutation and gradient tables are built once at construction, so hashing a
+ * lattice corner costs a couple of array loads instead of the sine hash used by {@link Noise}.
+ * Instances are immutable and can be shared between threads.
+ */
+public class NoiseGenerator {
+	private static final double F2 = 0.36602540378443865; // (sqrt(2 + 1) - 1) / 2;
+	private static final double G2 = 0.21132486540518713; // (3 - sqrt(3)) / 6;
+	private static final double F3 = 1.0 / 3.0;           // (sqrt(3 + 1) - 1) / 3;
+	private static final double G3 = 1.0 / 6.0;           // (4 - sqrt(4)) / 12;
+	private static final double F4 = 0.30901699437494745; // (sqrt(4 + 1) - 1) / 4;
+	private static final double G4 = 0.1381966011250105;  // (5 - sqrt(5)) / 20;
+
+	private static final float F2f = 0.36602540378443865f;
+	private static final float G2f = 0.21132486540518713f;
+	private static final float F3f = 1.0f / 3.0f;
+	private static final float G3f = 1.0f / 6.0f;
+	private static final float F4f = 0.30901699437494745f;
+	private static final float G4f = 0.1381966011250105f;
+
+	// The 12 edge midpoints of a cube, used as gradient directions
+	private static final double[] GRAD_X = { 1, -1,  1, -1,  1, -1,  1, -1,  0,  0,  0,  0 };
+	private static final double[] GRAD_Y = { 1,  1, -1, -1,  0,  0,  0,  0,  1, -1,  1, -1 };
+	private static final double[] GRAD_Z = { 0,  0,  0,  0,  1,  1, -1, -1,  1,  1, -1, -1 };
+
+	private static final float[] GRAD_Xf = { 1, -1,  1, -1,  1, -1,  1, -1,  0,  0,  0,  0 };
+	private static final float[] GRAD_Yf = { 1,  1, -1, -1,  0,  0,  0,  0,  1, -1,  1, -1 };
+	private static final float[] GRAD_Zf = { 0,  0,  0,  0,  1,  1, -1, -1,  1,  1, -1, -1 };
+
+	private final long  seed;
+	private final int[] perm;      // 512 entries, the shuffled 0..255 sequence repeated twice
+	private final int[] permGrad;  // 512 entries, gradient index of each permutation entry
+
+	public NoiseGenerator(long seed) {
+		this.seed = seed;
+		this.perm = new int[512];
+		this.permGrad = new int[512];
+
+		int[] source = new int[256];
+		for (int i = 0; i < 256; i++) {
+			source[i] = i;
+		}
+
+		// Fisher-Yates shuffle driven by the seed
+		Random random = new Random(seed);
+		for (int i = 255; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int tmp = source[i];
+			source[i] = source[j];
+			source[j] = tmp;
+		}
+
+		for (int i = 0; i < 512; i++) {
+			perm[i] = source[i & 255];
+			permGrad[i] = perm[i] % 12;
+		}
+	}
+
+	/**
+	 * Gets the seed this generator was built from.
+	 * @return The seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Generates a 2D simplex noise value based on the input coordinates.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public double simplexNoise(double x, double y) {
+		// Skew the input space to determine which simplex cell we're in
+		double pos_factor = (x + y) * F2;
+		int i = (int) Math.floor(x + pos_factor);
+		int j = (int) Math.floor(y + pos_factor);
+
+		// Unskew the cell origin back to (x,y) space
+		double pos_refactor = (i + j) * G2;
+		double x0 = x - (i - pos_refactor);
+		double y0 = y - (j - pos_refactor);
+
+		// Determine which simplex we are in
+		int i1, j1;
+		if (x0 > y0) {
+			i1 = 1; j1 = 0;
+		} else {
+			i1 = 0; j1 = 1;
+		}
+
+		double x1 = x0 - i1 + G2;
+		double y1 = y0 - j1 + G2;
+		double x2 = x0 - 1.0 + 2.0 * G2;
+		double y2 = y0 - 1.0 + 2.0 * G2;
+
+		// Hash the corners through the permutation table
+		int ii = i & 255;
+		int jj = j & 255;
+
+		double n = 0.0;
+		double t0 = 0.5 - x0 * x0 - y0 * y0;
+		if (t0 > 0.0) {
+			int g = permGrad[ii + perm[jj]];
+			t0 *= t0;
+			n += t0 * t0 * (GRAD_X[g] * x0 + GRAD_Y[g] * y0);
+		}
+		double t1 = 0.5 - x1 * x1 - y1 * y1;
+		if (t1 > 0.0) {
+			int g = permGrad[ii + i1 + perm[jj + j1]];
+			t1 *= t1;
+			n += t1 * t1 * (GRAD_X[g] * x1 + GRAD_Y[g] * y1);
+		}
+		double t2 = 0.5 - x2 * x2 - y2 * y2;
+		if (t2 > 0.0) {
+			int g = permGrad[ii + 1 + perm[jj + 1]];
+			t2 *= t2;
+			n += t2 * t2 * (GRAD_X[g] * x2 + GRAD_Y[g] * y2);
+		}
+
+		// Scale the result to stay within [-1, 1]
+		return 70.0 * n;
+	}
+
+	/**
+	 * Generates a 2D simplex noise value based on the input coordinates.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public float simplexNoise(float x, float y) {
+		// Skew the input space to determine which simplex cell we're in
+		float pos_factor = (x + y) * F2f;
+		int i = (int) Math.floor(x + pos_factor);
+		int j = (int) Math.floor(y + pos_factor);
+
+		// Unskew the cell origin back to (x,y) space
+		float pos_refactor = (i + j) * G2f;
+		float x0 = x - (i - pos_refactor);
+		float y0 = y - (j - pos_refactor);
+
+		// Determine which simplex we are in
+		int i1, j1;
+		if (x0 > y0) {
+			i1 = 1; j1 = 0;
+		} else {
+			i1 = 0; j1 = 1;
+		}
+
+		float x1 = x0 - i1 + G2f;
+		float y1 = y0 - j1 + G2f;
+		float x2 = x0 - 1.0f + 2.0f * G2f;
+		float y2 = y0 - 1.0f + 2.0f * G2f;
+
+		// Hash the corners through the permutation table
+		int ii = i & 255;
+		int jj = j & 255;
+
+		float n = 0.0f;
+		float t0 = 0.5f - x0 * x0 - y0 * y0;
+		if (t0 > 0.0f) {
+			int g = permGrad[ii + perm[jj]];
+			t0 *= t0;
+			n += t0 * t0 * (GRAD_Xf[g] * x0 + GRAD_Yf[g] * y0);
+		}
+		float t1 = 0.5f - x1 * x1 - y1 * y1;
+		if (t1 > 0.0f) {
+			int g = permGrad[ii + i1 + perm[jj + j1]];
+			t1 *= t1;
+			n += t1 * t1 * (GRAD_Xf[g] * x1 + GRAD_Yf[g] * y1);
+		}
+		float t2 = 0.5f - x2 * x2 - y2 * y2;
+		if (t2 > 0.0f) {
+			int g = permGrad[ii + 1 + perm[jj + 1]];
+			t2 *= t2;
+			n += t2 * t2 * (GRAD_Xf[g] * x2 + GRAD_Yf[g] * y2);
+		}
+
+		// Scale the result to stay within [-1, 1]
+		return 70.0f * n;
+	}
+
+	/**
+	 * Generates a 2D simplex noise value based on the input vector.
+	 * @param p The input Vec2d.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public double simplexNoise(Vec2d p) {
+		return simplexNoise(p.getd(0), p.getd(1));
+	}
+
+	/**
+	 * Generates a 2D simplex noise value based on the input vector.
+	 * @param p The input Vec2f.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public float simplexNoise(Vec2f p) {
+		return simplexNoise(p.getf(0), p.getf(1));
+	}
+
+	/**
+	 * Generates a 3D simplex noise value based on the input coordinates.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public double simplexNoise(double x, double y, double z) {
+		// Skew the input space to determine which simplex cell we're in
+		double pos_factor = (x + y + z) * F3;
+		int i = (int) Math.floor(x + pos_factor);
+		int j = (int) Math.floor(y + pos_factor);
+		int k = (int) Math.floor(z + pos_factor);
+
+		// Unskew the cell origin back to (x,y,z) space
+		double pos_refactor = (i + j + k) * G3;
+		double x0 = x - (i - pos_refactor);
+		double y0 = y - (j - pos_refactor);
+		double z0 = z - (k - pos_refactor);
+
+		// Determine which simplex we are in
+		int i1, j1, k1;
+		int i2, j2, k2;
+		if (x0 >= y0) {
+			if (y0 >= z0) {
+				i1 = 1; j1 = 0; k1 = 0; i2 = 1; j2 = 1; k2 = 0;
+			} else if (x0 >= z0) {
+				i1 = 1; j1 = 0; k1 = 0; i2 = 1; j2 = 0; k2 = 1;
+			} else {
+				i1 = 0; j1 = 0; k1 = 1; i2 = 1; j2 = 0; k2 = 1;
+			}
+		} else {
+			if (y0 < z0) {
+				i1 = 0; j1 = 0; k1 = 1; i2 = 0; j2 = 1; k2 = 1;
+			} else if (x0 < z0) {
+				i1 = 0; j1 = 1; k1 = 0; i2 = 0; j2 = 1; k2 = 1;
+			} else {
+				i1 = 0; j1 = 1; k1 = 0; i2 = 1; j2 = 1; k2 = 0;
+			}
+		}
+
+		double x1 = x0 - i1 + G3;
+		double y1 = y0 - j1 + G3;
+		double z1 = z0 - k1 + G3;
+		double x2 = x0 - i2 + 2.0 * G3;
+		double y2 = y0 - j2 + 2.0 * G3;
+		double z2 = z0 - k2 + 2.0 * G3;
+		double x3 = x0 - 1.0 + 3.0 * G3;
+		double y3 = y0 - 1.0 + 3.0 * G3;
+		double z3 = z0 - 1.0 + 3.0 * G3;
+
+		// Hash the corners through the permutation table
+		int ii = i & 255;
+		int jj = j & 255;
+		int kk = k & 255;
+
+		double n = 0.0;
+		double t0 = 0.6 - x0 * x0 - y0 * y0 - z0 * z0;
+		if (t0 > 0.0) {
+			int g = permGrad[ii + perm[jj + perm[kk]]];
+			t0 *= t0;
+			n += t0 * t0 * (GRAD_X[g] * x0 + GRAD_Y[g] * y0 + GRAD_Z[g] * z0);
+		}
+		double t1 = 0.6 - x1 * x1 - y1 * y1 - z1 * z1;
+		if (t1 > 0.0) {
+			int g = permGrad[ii + i1 + perm[jj + j1 + perm[kk + k1]]];
+			t1 *= t1;
+			n += t1 * t1 * (GRAD_X[g] * x1 + GRAD_Y[g] * y1 + GRAD_Z[g] * z1);
+		}
+		double t2 = 0.6 - x2 * x2 - y2 * y2 - z2 * z2;
+		if (t2 > 0.0) {
+			int g = permGrad[ii + i2 + perm[jj + j2 + perm[kk + k2]]];
+			t2 *= t2;
+			n += t2 * t2 * (GRAD_X[g] * x2 + GRAD_Y[g] * y2 + GRAD_Z[g] * z2);
+		}
+		double t3 = 0.6 - x3 * x3 - y3 * y3 - z3 * z3;
+		if (t3 > 0.0) {
+			int g = permGrad[ii + 1 + perm[jj + 1 + perm[kk + 1]]];
+			t3 *= t3;
+			n += t3 * t3 * (GRAD_X[g] * x3 + GRAD_Y[g] * y3 + GRAD_Z[g] * z3);
+		}
+
+		// Scale the result to stay within [-1, 1]
+		return 32.0 * n;
+	}
+
+	/**
+	 * Generates a 3D simplex noise value based on the input coordinates.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public float simplexNoise(float x, float y, float z) {
+		// Skew the input space to determine which simplex cell we're in
+		float pos_factor = (x + y + z) * F3f;
+		int i = (int) Math.floor(x + pos_factor);
+		int j = (int) Math.floor(y + pos_factor);
+		int k = (int) Math.floor(z + pos_factor);
+
+		// Unskew the cell origin back to (x,y,z) space
+		float pos_refactor = (i + j + k) * G3f;
+		float x0 = x - (i - pos_refactor);
+		float y0 = y - (j - pos_refactor);
+		float z0 = z - (k - pos_refactor);
+
+		// Determine which simplex we are in
+		int i1, j1, k1;
+		int i2, j2, k2;
+		if (x0 >= y0) {
+			if (y0 >= z0) {
+				i1 = 1; j1 = 0; k1 = 0; i2 = 1; j2 = 1; k2 = 0;
+			} else if (x0 >= z0) {
+				i1 = 1; j1 = 0; k1 = 0; i2 = 1; j2 = 0; k2 = 1;
+			} else {
+				i1 = 0; j1 = 0; k1 = 1; i2 = 1; j2 = 0; k2 = 1;
+			}
+		} else {
+			if (y0 < z0) {
+				i1 = 0; j1 = 0; k1 = 1; i2 = 0; j2 = 1; k2 = 1;
+			} else if (x0 < z0) {
+				i1 = 0; j1 = 1; k1 = 0; i2 = 0; j2 = 1; k2 = 1;
+			} else {
+				i1 = 0; j1 = 1; k1 = 0; i2 = 1; j2 = 1; k2 = 0;
+			}
+		}
+
+		float x1 = x0 - i1 + G3f;
+		float y1 = y0 - j1 + G3f;
+		float z1 = z0 - k1 + G3f;
+		float x2 = x0 - i2 + 2.0f * G3f;
+		float y2 = y0 - j2 + 2.0f * G3f;
+		float z2 = z0 - k2 + 2.0f * G3f;
+		float x3 = x0 - 1.0f + 3.0f * G3f;
+		float y3 = y0 - 1.0f + 3.0f * G3f;
+		float z3 = z0 - 1.0f + 3.0f * G3f;
+
+		// Hash the corners through the permutation table
+		int ii = i & 255;
+		int jj = j & 255;
+		int kk = k & 255;
+
+		float n = 0.0f;
+		float t0 = 0.6f - x0 * x0 - y0 * y0 - z0 * z0;
+		if (t0 > 0.0f) {
+			int g = permGrad[ii + perm[jj + perm[kk]]];
+			t0 *= t0;
+			n += t0 * t0 * (GRAD_Xf[g] * x0 + GRAD_Yf[g] * y0 + GRAD_Zf[g] * z0);
+		}
+		float t1 = 0.6f - x1 * x1 - y1 * y1 - z1 * z1;
+		if (t1 > 0.0f) {
+			int g = permGrad[ii + i1 + perm[jj + j1 + perm[kk + k1]]];
+			t1 *= t1;
+			n += t1 * t1 * (GRAD_Xf[g] * x1 + GRAD_Yf[g] * y1 + GRAD_Zf[g] * z1);
+		}
+		float t2 = 0.6f - x2 * x2 - y2 * y2 - z2 * z2;
+		if (t2 > 0.0f) {
+			int g = permGrad[ii + i2 + perm[jj + j2 + perm[kk + k2]]];
+			t2 *= t2;
+			n += t2 * t2 * (GRAD_Xf[g] * x2 + GRAD_Yf[g] * y2 + GRAD_Zf[g] * z2);
+		}
+		float t3 = 0.6f - x3 * x3 - y3 * y3 - z3 * z3;
+		if (t3 > 0.0f) {
+			int g = permGrad[ii + 1 + perm[jj + 1 + perm[kk + 1]]];
+			t3 *= t3;
+			n += t3 * t3 * (GRAD_Xf[g] * x3 + GRAD_Yf[g] * y3 + GRAD_Zf[g] * z3);
+		}
+
+		// Scale the result to stay within [-1, 1]
+		return 32.0f * n;
+	}
+
+	/**
+	 * Generates a 3D simplex noise value based on the input vector.
+	 * @param p The input Vec3d.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public double simplexNoise(Vec3d p) {
+		return simplexNoise(p.getd(0), p.getd(1), p.getd(2));
+	}
+
+	/**
+	 * Generates a 3D simplex noise value based on the input vector.
+	 * @param p The input Vec3f.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public float simplexNoise(Vec3f p) {
+		return simplexNoise(p.getf(0), p.getf(1), p.getf(2));
+	}
+
+	/**
+	 * Generates a 4D simplex noise value based on the input coordinates.
+	 * Runs entirely on primitive locals and does not allocate.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @param w The w coordinate, e.g. time for animated 3D fields.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public double simplexNoise(double x, double y, double z, double w) {
+		// Skew the input space to determine which simplex cell we're in
+		double pos_factor = (x + y + z + w) * F4;
+		int cell_x = (int) Math.floor(x + pos_factor);
+		int cell_y = (int) Math.floor(y + pos_factor);
+		int cell_z = (int) Math.floor(z + pos_factor);
+		int cell_w = (int) Math.floor(w + pos_factor);
+
+		// Unskew the cell origin back to (x,y,z,w) space and calculate the distances to the input position
+		double pos_refactor = (cell_x + cell_y + cell_z + cell_w) * G4;
+		double x0 = x - (cell_x - pos_refactor);
+		double y0 = y - (cell_y - pos_refactor);
+		double z0 = z - (cell_z - pos_refactor);
+		double w0 = w - (cell_w - pos_refactor);
+
+		// For the 4D case, the simplex is a pentachoron. Rank the coordinates by magnitude
+		// to find which of the 24 simplices we are in and the order its vertexes are visited.
+		int rank_x = 0, rank_y = 0, rank_z = 0, rank_w = 0;
+		if (x0 > y0) rank_x++; else rank_y++;
+		if (x0 > z0) rank_x++; else rank_z++;
+		if (x0 > w0) rank_x++; else rank_w++;
+		if (y0 > z0) rank_y++; else rank_z++;
+		if (y0 > w0) rank_y++; else rank_w++;
+		if (z0 > w0) rank_z++; else rank_w++;
+
+		int i1 = rank_x >= 3 ? 1 : 0, j1 = rank_y >= 3 ? 1 : 0, k1 = rank_z >= 3 ? 1 : 0, l1 = rank_w >= 3 ? 1 : 0;
+		int i2 = rank_x >= 2 ? 1 : 0, j2 = rank_y >= 2 ? 1 : 0, k2 = rank_z >= 2 ? 1 : 0, l2 = rank_w >= 2 ? 1 : 0;
+		int i3 = rank_x >= 1 ? 1 : 0, j3 = rank_y >= 1 ? 1 : 0, k3 = rank_z >= 1 ? 1 : 0, l3 = rank_w >= 1 ? 1 : 0;
+
+		// Calculate the distances from the cell origin to the simplex vertexes
+		double x1 = x0 - i1 + G4;
+		double y1 = y0 - j1 + G4;
+		double z1 = z0 - k1 + G4;
+		double w1 = w0 - l1 + G4;
+		double x2 = x0 - i2 + 2.0 * G4;
+		double y2 = y0 - j2 + 2.0 * G4;
+		double z2 = z0 - k2 + 2.0 * G4;
+		double w2 = w0 - l2 + 2.0 * G4;
+		double x3 = x0 - i3 + 3.0 * G4;
+		double y3 = y0 - j3 + 3.0 * G4;
+		double z3 = z0 - k3 + 3.0 * G4;
+		double w3 = w0 - l3 + 3.0 * G4;
+		double x4 = x0 - 1.0 + 4.0 * G4;
+		double y4 = y0 - 1.0 + 4.0 * G4;
+		double z4 = z0 - 1.0 + 4.0 * G4;
+		double w4 = w0 - 1.0 + 4.0 * G4;
+
+		// Hash the corners through the permutation table
+		int ii = cell_x & 255;
+		int jj = cell_y & 255;
+		int kk = cell_z & 255;
+		int ll = cell_w & 255;
+
+		// Calculate the contribution from the corners
+		double n0 = 0.0, n1 = 0.0, n2 = 0.0, n3 = 0.0, n4 = 0.0;
+		double t0 = 0.6 - (x0 * x0 + y0 * y0 + z0 * z0 + w0 * w0);
+		if (t0 > 0.0) {
+			t0 *= t0;
+			n0 = t0 * t0 * Math.grad(perm[ii + perm[jj + perm[kk + perm[ll]]]], x0, y0, z0, w0);
+		}
+		double t1 = 0.6 - (x1 * x1 + y1 * y1 + z1 * z1 + w1 * w1);
+		if (t1 > 0.0) {
+			t1 *= t1;
+			n1 = t1 * t1 * Math.grad(perm[ii + i1 + perm[jj + j1 + perm[kk + k1 + perm[ll + l1]]]], x1, y1, z1, w1);
+		}
+		double t2 = 0.6 - (x2 * x2 + y2 * y2 + z2 * z2 + w2 * w2);
+		if (t2 > 0.0) {
+			t2 *= t2;
+			n2 = t2 * t2 * Math.grad(perm[ii + i2 + perm[jj + j2 + perm[kk + k2 + perm[ll + l2]]]], x2, y2, z2, w2);
+		}
+		double t3 = 0.6 - (x3 * x3 + y3 * y3 + z3 * z3 + w3 * w3);
+		if (t3 > 0.0) {
+			t3 *= t3;
+			n3 = t3 * t3 * Math.grad(perm[ii + i3 + perm[jj + j3 + perm[kk + k3 + perm[ll + l3]]]], x3, y3, z3, w3);
+		}
+		double t4 = 0.6 - (x4 * x4 + y4 * y4 + z4 * z4 + w4 * w4);
+		if (t4 > 0.0) {
+			t4 *= t4;
+			n4 = t4 * t4 * Math.grad(perm[ii + 1 + perm[jj + 1 + perm[kk + 1 + perm[ll + 1]]]], x4, y4, z4, w4);
+		}
+
+		// Scale the result to stay within [-1, 1]
+		return 27.0 * (n0 + n1 + n2 + n3 + n4);
+	}
+
+	/**
+	 * Generates a 4D simplex noise value based on the input coordinates.
+	 * Runs entirely on primitive locals and does not allocate.
+	 *
+	 * @param x The x coordinate.
+	 * @param y The y coordinate.
+	 * @param z The z coordinate.
+	 * @param w The w coordinate, e.g. time for animated 3D fields.
+	 * @return A pseudo-random noise value between -1.0 and 1.0.
+	 */
+	public float simplexNoise(float x, float y, float z, float w) {
+		// Skew the input space to determine which simplex cell we're in
+		float pos_factor = (x + y + z + w) * F4f;
+		int cell_x = (int) Math.floor(x + pos_factor);
+		int cell_y = (int) Math.floor(y + pos_factor);
+		int cell_z = (int) Math.floor(z + pos_factor);
+		int cell_w = (int) Math.floor(w + pos_factor);
+
+		// Unskew the cell origin back to (x,y,z,w) space and calculate the distances to the input position
+		float pos_refactor = (cell_x + cell_y + cell_z + cell_w) * G4f;
+		float x0 = x - (cell_x - pos_refactor);
+		float y0 = y - (cell_y - pos_refactor);
+		float z0 = z - (cell_z - pos_refactor);
+		float w0 = w - (cell_w - pos_refactor);
+
+		// For the 4D case, the simplex is a pentachoron. Rank the coordinates by magnitude
+		// to find which of the 24 simplices we are in and the order its vertexes are visited.
+		int rank_x = 0, rank_y = 0, rank_z = 0, rank_w = 0;
+		if (x0 > y0) rank_x++; else rank_y++;
+		if (x0 > z0) rank_x++; else rank_z++;
+		if (x0 > w0) rank_x++; else rank_w++;
+		if (y0 > z0) rank_y++; else rank_z++;
+		if (y0 > w0) rank_y++; else rank_w++;
+		if (z0 > w0) rank_z++; else rank_w++;
+
+		int i1 = rank_x >= 3 ? 1 : 0, j1 = rank_y >= 3 ? 1 : 0, k1 = rank_z >= 3 ? 1 : 0, l1 = rank_w >= 3 ? 1 : 0;
+		int i2 = rank_x >= 2 ? 1 : 0, j2 = rank_y >= 2 ? 1 : 0, k2 = rank_z >= 2 ? 1 : 0, l2 = rank_w >= 2 ? 1 : 0;
+		int i3 = rank_x >= 1 ? 1 : 0, j3 = rank_y >= 1 ? 1 : 0, k3 = rank_z >= 1 ? 1 : 0, l3 = rank_w >= 1 ? 1 : 0;
+
+		// Calculate the distances from the cell origin to the simplex vertexes
+		float x1 = x0 - i1 + G4f;
+		float y1 = y0 - j1 + G4f;
+		float z1 = z0 - k1 + G4f;
+		float w1 = w0 - l1 + G4f;
+		float x2 = x0 - i2 + 2.0f * G4f;
+		float y2 = y0 - j2 + 2.0f * G4f;
+		float z2 = z0 - k2 + 2.0f * G4f;
+		float w2 = w0 - l2 + 2.0f * G4f;
+		float x3 = x0 - i3 + 3.0f * G4f;
+		float y3 = y0 - j3 + 3.0f * G4f;
+		float z3 = z0 - k3 + 3.0f * G4f;
+		float w3 = w0 - l3 + 3.0f * G4f;
+		float x4 = x0 - 1.0f + 4.0f * G4f;
+		float y4 = y0 - 1.0f + 4.0f * G4f;
+		float z4 = z0 - 1.0f + 4.0f * G4f;
+		float w4 = w0 - 1.0f + 4.0f * G4f;
+
+		// Hash the corners through the permutation table
+		int ii = cell_x & 255;
+		int jj = cell_y & 255;
+		int kk = cell_z & 255;
+		int ll = cell_w & 255;
+
+		// Calculate the contribution from the corners
+		float n0 = 0.0f, n1 = 0.0f, n2 = 0.0f, n3 = 0.0f, n4 = 0.0f;
+		float t0 = 0.6f - (x0 * x0 + y0 * y0 + z0 * z0 + w0 * w0);
+		if (t0 > 0.0f) {
+			t0 *= t0;
+			n0 = t0 * t0 * Math.grad(perm[ii + perm[jj + perm[kk + perm[ll]]]], x0, y0, z0, w0);
+		}
+		float t1 = 0.6f - (x1 * x1 + y1 * y1 + z1 * z1 + w1 * w1);
+		if (t1 > 0.0f) {
+			t1 *= t1;
+			n1 = t1 * t1 * Math.grad(perm[ii + i1 + perm[jj + j1 + perm[kk + k1 + perm[ll + l1]]]], x1, y1, z1, w1);
+		}
+		float t2 = 0.6f - (x2 * x2 + y2 * y2 + z2 * z2 + w2 * w2);
+		if (t2 > 0.0f) {
+			t2 *= t2;
+			n2 = t2 * t2 * Math.grad(perm[ii + i2 + perm[jj + j2 + perm[kk + k2 + perm[ll + l2]]]], x2, y2, z2, w2);
+		}
+		float t3 = 0.6f - (x3 * x3 + y3 * y3 + z3 * z3 + w3 * w3);
+		if (t3 > 0.0f) {
+			t3 *= t3;
+			n3 = t3 * t3 * Math.grad(perm[ii + i3 + perm[jj + j3 + perm[kk + k3 + perm[ll + l3]]]], x3, y3, z3, w3);
+		}
+		float t4 = 0.6f - (x4 * x4 + y4 * y4 + z4 * z4 + w4 * w4);
+		if (t4 > 0.0f) {
+			t4 *= t4;
+			n4 = t4 * t4 * Math.grad(perm[ii + 1 + perm[jj + 1 + perm[kk + 1 + perm[ll + 1]]]], x4, y4, z4, w4);
+		}
+
+		// Scale the result to stay within [-1, 1]
+		return 27.0f * (n0 + n1 + n2 + n3 + n4);
+	}
+
+	/**
+	 * Fills a 2D grid of simplex noise values into a caller-supplied array.
+	 * Samples are taken at ((originX + x) * frequency, (originZ + z) * frequency) and
+	 * stored at {@code out[z * width + x]}, the same layout as {@link Noise#fillSimplex2D}.
+	 *
+	 * @param out The output array, at least width * depth long.
+	 * @param originX The x coordinate of the first sample.
+	 * @param originZ The z coordinate of the first sample.
+	 * @param width The number of samples along x.
+	 * @param depth The number of samples along z.
+	 * @param frequency The scale applied to the block coordinates.
+	 */
+	public void fillSimplex2D(float[] out, int originX, int originZ, int width, int depth, double frequency) {
+		assert out != null : "NoiseGenerator:fillSimplex2D: out == null";
+		assert width > 0 && depth > 0 : "NoiseGenerator:fillSimplex2D: width and depth must be positive";
+		assert out.length >= width * depth : "NoiseGenerator:fillSimplex2D: out is too small for the requested grid";
+
+		for (int z = 0; z < depth; z++) {
+			double y = (originZ + z) * frequency;
+			int row = z * width;
+			for (int x = 0; x < width; x++) {
+				out[row + x] = (float) simplexNoise((originX + x) * frequency, y);
+			}
+		}
+	}
+
+	/**
+	 * Fills a 3D box of simplex noise values into a caller-supplied array.
+	 * Values are stored at {@code out[(y * depth + z) * width + x]}, the same layout as {@link Noise#fillSimplex3D}.
+	 *
+	 * @param out The output array, at least width * height * depth long.
+	 * @param originX The x coordinate of the first sample.
+	 * @param originY The y coordinate of the first sample.
+	 * @param originZ The z coordinate of the first sample.
+	 * @param width The number of samples along x.
+	 * @param height The number of samples along y.
+	 * @param depth The number of samples along z.
+	 * @param frequency The scale applied to the block coordinates.
+	 */
+	public void fillSimplex3D(float[] out, int originX, int originY, int originZ, int width, int height, int depth, double frequency) {
+		assert out != null : "NoiseGenerator:fillSimplex3D: out == null";
+		assert width > 0 && height > 0 && depth > 0 : "NoiseGenerator:fillSimplex3D: width, height and depth must be positive";
+		assert out.length >= width * height * depth : "NoiseGenerator:fillSimplex3D: out is too small for the requested box";
+
+		for (int y = 0; y < height; y++) {
+			double sy = (originY + y) * frequency;
+			for (int z = 0; z < depth; z++) {
+				double sz = (originZ + z) * frequency;
+				int row = (y * depth + z) * width;
+				for (int x = 0; x < width; x++) {
+					out[row + x] = (float) simplexNoise((originX + x) * frequency, sy, sz);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,317 @@
+package net.mahiron47.mathlib.utils;
+
+import java.util.Arrays;
+
+import net.mahiron47.mathlib.types.interfaces.IScalarField2D;
+
+/**
+ * Bounded, thread-safe cache of square noise tiles, e.g. the 16x16 columns of a chunk.
+ * Tiles are keyed by the sampled field, the sampling frequency and the packed tile
+ * coordinates, and stored as {@code float[tileSize * tileSize]} with the layout of
+ * {@link Noise#fillSimplex2D}. Memory is bounded by a byte budget; when a segment is
+ * full the least recently referenced tile is evicted with the CLOCK algorithm.
+ *
+ * <p>The cache is split into independently locked segments. A hit only probes an
+ * open-addressing table and does not allocate. Returned arrays are shared between
+ * callers and must not be modified.</p>
+ */
+public class NoiseTileCache {
+	private static final int DEFAULT_SEGMENTS = 16;
+	private static final int ARRAY_OVERHEAD_BYTES = 16;
+	private static final int MAX_SEGMENT_CAPACITY = 1 << 26;
+
+	private final int       tileSize;
+	private final Segment[] segments;
+	private final int       segmentMask;
+
+	/**
+	 * Creates a cache of 16x16 tiles.
+	 * @param maxBytes The memory budget of the cached tiles in bytes.
+	 */
+	public NoiseTileCache(long maxBytes) {
+		this(16, maxBytes);
+	}
+
+	/**
+	 * Creates a cache.
+	 * @param tileSize The width and depth of a tile in samples.
+	 * @param maxBytes The memory budget of the cached tiles in bytes.
+	 */
+	public NoiseTileCache(int tileSize, long maxBytes) {
+		assert tileSize > 0 : "NoiseTileCache:constructor: tileSize must be positive";
+
+		long tileBytes = (long) tileSize * tileSize * 4 + ARRAY_OVERHEAD_BYTES;
+		long capacity = maxBytes / tileBytes;
+		assert capacity > 0 : "NoiseTileCache:constructor: maxBytes is smaller than a single tile";
+
+		// Do not spread a small budget over more segments than it has tiles
+		int segmentCount = DEFAULT_SEGMENTS;
+		while (segmentCount > 1 && capacity < segmentCount) {
+			segmentCount >>= 1;
+		}
+
+		this.tileSize = tileSize;
+		this.segments = new Segment[segmentCount];
+		this.segmentMask = segmentCount - 1;
+		long perSegment = capacity / segmentCount;
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = new Segment(perSegment > MAX_SEGMENT_CAPACITY ? MAX_SEGMENT_CAPACITY : (int) perSegment);
+		}
+	}
+
+	/**
+	 * Gets the width and depth of a tile in samples.
+	 * @return The tile size.
+	 */
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	/**
+	 * Gets the maximum number of tiles the cache holds.
+	 * @return The capacity in tiles.
+	 */
+	public int getCapacity() {
+		int capacity = 0;
+		for (Segment segment : segments) {
+			capacity += segment.capacity;
+		}
+		return capacity;
+	}
+
+	/**
+	 * Gets the number of tiles currently cached.
+	 * @return The number of cached tiles.
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.size;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Gets the number of lookups served from the cache.
+	 * @return The hit count.
+	 */
+	public long getHits() {
+		long hits = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				hits += segment.hits;
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * Gets the number of lookups that had to evaluate the field.
+	 * @return The miss count.
+	 */
+	public long getMisses() {
+		long misses = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				misses += segment.misses;
+			}
+		}
+		return misses;
+	}
+
+	/**
+	 * Removes every tile and resets the counters.
+	 */
+	public void clear() {
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	/**
+	 * Packs tile coordinates into the long used as part of the cache key.
+	 * @param tileX The x coordinate of the tile.
+	 * @param tileZ The z coordinate of the tile.
+	 * @return The packed coordinates.
+	 */
+	public static long pack(int tileX, int tileZ) {
+		return ((long) tileX << 32) | (tileZ & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Gets the noise tile at the given tile coordinates, evaluating and caching it on a miss.
+	 * Sample (x, z) of the tile is taken at ((tileX * tileSize + x) * frequency, (tileZ * tileSize + z) * frequency)
+	 * and stored at {@code tile[z * tileSize + x]}.
+	 *
+	 * @param field The field to sample; must be thread-safe.
+	 * @param frequency The scale applied to the block coordinates.
+	 * @param tileX The x coordinate of the tile, e.g. the chunk x coordinate.
+	 * @param tileZ The z coordinate of the tile, e.g. the chunk z coordinate.
+	 * @return The shared, read-only tile values.
+	 */
+	public float[] get(IScalarField2D field, double frequency, int tileX, int tileZ) {
+		assert field != null : "NoiseTileCache:get: field == null";
+
+		long frequencyBits = Double.doubleToLongBits(frequency);
+		long position = pack(tileX, tileZ);
+		int hash = hash(field, frequencyBits, position);
+		Segment segment = segments[(hash >>> 16) & segmentMask];
+
+		synchronized (segment) {
+			int slot = segment.find(hash, field, frequencyBits, position);
+			if (slot >= 0) {
+				segment.referenced[slot] = true;
+				segment.hits++;
+				return segment.tiles[slot];
+			}
+			segment.misses++;
+		}
+
+		// Evaluate outside the lock so other lookups on this segment are not blocked
+		float[] tile = new float[tileSize * tileSize];
+		int originX = tileX * tileSize;
+		int originZ = tileZ * tileSize;
+		for (int z = 0; z < tileSize; z++) {
+			double y = (originZ + z) * frequency;
+			int row = z * tileSize;
+			for (int x = 0; x < tileSize; x++) {
+				tile[row + x] = (float) field.sample((originX + x) * frequency, y);
+			}
+		}
+
+		synchronized (segment) {
+			// Another thread may have filled the same tile in the meantime
+			int slot = segment.find(hash, field, frequencyBits, position);
+			if (slot >= 0) {
+				segment.referenced[slot] = true;
+				return segment.tiles[slot];
+			}
+			segment.insert(hash, field, frequencyBits, position, tile);
+		}
+		return tile;
+	}
+
+	private static int hash(Object field, long frequencyBits, long position) {
+		long h = position * 0x9E3779B97F4A7C15L;
+		h ^= frequencyBits + 0x632BE59BD9B4E019L + (h << 6) + (h >>> 2);
+		h ^= System.identityHashCode(field) * 0xC2B2AE3D27D4EB4FL;
+		// Final avalanche (MurmurHash3 fmix64)
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return (int) h;
+	}
+
+	/**
+	 * A fixed number of tile slots indexed by a linear-probing hash table.
+	 * All access is guarded by the segment's monitor.
+	 */
+	private static final class Segment {
+		private final int       capacity;
+		private final Object[]  fields;
+		private final long[]    frequencies;
+		private final long[]    positions;
+		private final int[]     hashes;
+		private final float[][] tiles;
+		private final boolean[] referenced;
+		private final int[]     table; // slot + 1, 0 marks an empty bucket
+		private final int       mask;
+
+		private int  size;
+		private int  hand;
+		private long hits;
+		private long misses;
+
+		Segment(int capacity) {
+			this.capacity = Math.max(1, capacity);
+			this.fields = new Object[this.capacity];
+			this.frequencies = new long[this.capacity];
+			this.positions = new long[this.capacity];
+			this.hashes = new int[this.capacity];
+			this.tiles = new float[this.capacity][];
+			this.referenced = new boolean[this.capacity];
+
+			int buckets = Integer.highestOneBit(this.capacity) << 2;
+			this.table = new int[buckets];
+			this.mask = buckets - 1;
+		}
+
+		int find(int hash, Object field, long frequencyBits, long position) {
+			for (int i = hash & mask; table[i] != 0; i = (i + 1) & mask) {
+				int slot = table[i] - 1;
+				if (hashes[slot] == hash && positions[slot] == position && frequencies[slot] == frequencyBits && fields[slot] == field) {
+					return slot;
+				}
+			}
+			return -1;
+		}
+
+		void insert(int hash, Object field, long frequencyBits, long position, float[] tile) {
+			int slot;
+			if (size < capacity) {
+				slot = size++;
+			} else {
+				// CLOCK: give every referenced tile a second chance before evicting it
+				while (referenced[hand]) {
+					referenced[hand] = false;
+					hand = (hand + 1) % capacity;
+				}
+				slot = hand;
+				hand = (hand + 1) % capacity;
+				unlink(slot);
+			}
+
+			fields[slot] = field;
+			frequencies[slot] = frequencyBits;
+			positions[slot] = position;
+			hashes[slot] = hash;
+			tiles[slot] = tile;
+			referenced[slot] = false;
+
+			int i = hash & mask;
+			while (table[i] != 0) {
+				i = (i + 1) & mask;
+			}
+			table[i] = slot + 1;
+		}
+
+		private void unlink(int slot) {
+			int i = hashes[slot] & mask;
+			while (table[i] != slot + 1) {
+				i = (i + 1) & mask;
+			}
+			table[i] = 0;
+
+			// Shift back the following entries of the probe sequence to close the gap
+			for (int j = (i + 1) & mask; table[j] != 0; j = (j + 1) & mask) {
+				int home = hashes[table[j] - 1] & mask;
+				boolean reachable = (i <= j) ? (i < home && home <= j) : (i < home || home <= j);
+				if (!reachable) {
+					table[i] = table[j];
+					table[j] = 0;
+					i = j;
+				}
+			}
+
+			fields[slot] = null;
+			tiles[slot] = null;
+		}
+
+		void clear() {
+			Arrays.fill(fields, null);
+			Arrays.fill(tiles, null);
+			Arrays.fill(referenced, false);
+			Arrays.fill(table, 0);
+			size = 0;
+			hand = 0;
+			hits = 0;
+			misses = 0;
+		}
+	}
+}
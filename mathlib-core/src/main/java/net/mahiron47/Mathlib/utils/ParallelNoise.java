@@ -0,0 +1,248 @@
+package net.mahiron47.mathlib.utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import net.mahiron47.mathlib.types.interfaces.IScalarField2D;
+import net.mahiron47.mathlib.types.interfaces.IScalarField3D;
+
+/**
+ * Evaluates large noise regions on a {@link ForkJoinPool}.
+ * A region is split recursively along its longest axis into tiles of at most
+ * {@code tileSamples} samples, and every tile writes its own disjoint part of
+ * the shared output array, so no locking is needed. The layouts match
+ * {@link Noise#fillSimplex2D} and {@link Noise#fillSimplex3D}.
+ *
+ * <pre>
+ * ParallelNoise parallel = new ParallelNoise(32);
+ * parallel.fill2D(Noise::simplexNoise, heightmap, 0, 0, 512, 512, 0.01);
+ * parallel.fill3D(fractal, density, 0, 0, 0, 16, 256, 16, 0.02);
+ * </pre>
+ */
+public class ParallelNoise {
+	public static final int DEFAULT_TILE_SAMPLES = 4096;
+
+	private final ForkJoinPool pool;
+	private final boolean      ownsPool;
+	private final int          tileSamples;
+
+	/**
+	 * Creates a region evaluator with its own pool.
+	 * @param parallelism The number of worker threads.
+	 */
+	public ParallelNoise(int parallelism) {
+		this(parallelism, DEFAULT_TILE_SAMPLES);
+	}
+
+	/**
+	 * Creates a region evaluator with its own pool.
+	 * @param parallelism The number of worker threads.
+	 * @param tileSamples The maximum number of samples a single task evaluates.
+	 */
+	public ParallelNoise(int parallelism, int tileSamples) {
+		assert parallelism > 0 : "ParallelNoise:constructor: parallelism must be positive";
+		assert tileSamples > 0 : "ParallelNoise:constructor: tileSamples must be positive";
+
+		this.pool = new ForkJoinPool(parallelism);
+		this.ownsPool = true;
+		this.tileSamples = tileSamples;
+	}
+
+	/**
+	 * Creates a region evaluator running on an existing pool, e.g. {@link ForkJoinPool#commonPool()}.
+	 * The pool is not shut down by {@link #shutdown()}.
+	 * @param pool The pool to run on.
+	 * @param tileSamples The maximum number of samples a single task evaluates.
+	 */
+	public ParallelNoise(ForkJoinPool pool, int tileSamples) {
+		assert pool != null : "ParallelNoise:constructor: pool == null";
+		assert tileSamples > 0 : "ParallelNoise:constructor: tileSamples must be positive";
+
+		this.pool = pool;
+		this.ownsPool = false;
+		this.tileSamples = tileSamples;
+	}
+
+	/**
+	 * Gets the parallelism of the underlying pool.
+	 * @return The number of worker threads.
+	 */
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Shuts down the pool if it was created by this evaluator.
+	 */
+	public void shutdown() {
+		if (ownsPool) {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Fills a 2D grid of field values in parallel.
+	 * Samples are taken at ((originX + x) * frequency, (originZ + z) * frequency) and
+	 * stored at {@code out[z * width + x]}.
+	 *
+	 * @param field The field to sample; must be thread-safe.
+	 * @param out The output array, at least width * depth long.
+	 * @param originX The x coordinate of the first sample.
+	 * @param originZ The z coordinate of the first sample.
+	 * @param width The number of samples along x.
+	 * @param depth The number of samples along z.
+	 * @param frequency The scale applied to the block coordinates.
+	 */
+	public void fill2D(IScalarField2D field, float[] out, int originX, int originZ, int width, int depth, double frequency) {
+		assert field != null : "ParallelNoise:fill2D: field == null";
+		assert out != null : "ParallelNoise:fill2D: out == null";
+		assert width > 0 && depth > 0 : "ParallelNoise:fill2D: width and depth must be positive";
+		assert out.length >= width * depth : "ParallelNoise:fill2D: out is too small for the requested grid";
+
+		pool.invoke(new Tile2D(field, out, originX, originZ, width, frequency, 0, width, 0, depth));
+	}
+
+	/**
+	 * Fills a 3D box of field values in parallel.
+	 * Samples are taken at ((originX + x) * frequency, (originY + y) * frequency, (originZ + z) * frequency)
+	 * and stored at {@code out[(y * depth + z) * width + x]}.
+	 *
+	 * @param field The field to sample; must be thread-safe.
+	 * @param out The output array, at least width * height * depth long.
+	 * @param originX The x coordinate of the first sample.
+	 * @param originY The y coordinate of the first sample.
+	 * @param originZ The z coordinate of the first sample.
+	 * @param width The number of samples along x.
+	 * @param height The number of samples along y.
+	 * @param depth The number of samples along z.
+	 * @param frequency The scale applied to the block coordinates.
+	 */
+	public void fill3D(IScalarField3D field, float[] out, int originX, int originY, int originZ, int width, int height, int depth, double frequency) {
+		assert field != null : "ParallelNoise:fill3D: field == null";
+		assert out != null : "ParallelNoise:fill3D: out == null";
+		assert width > 0 && height > 0 && depth > 0 : "ParallelNoise:fill3D: width, height and depth must be positive";
+		assert out.length >= width * height * depth : "ParallelNoise:fill3D: out is too small for the requested box";
+
+		pool.invoke(new Tile3D(field, out, originX, originY, originZ, width, depth, frequency, 0, width, 0, height, 0, depth));
+	}
+
+	private final class Tile2D extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final IScalarField2D field;
+		private final float[]        out;
+		private final int            originX, originZ, width;
+		private final double         frequency;
+		private final int            x0, x1, z0, z1;
+
+		Tile2D(IScalarField2D field, float[] out, int originX, int originZ, int width, double frequency, int x0, int x1, int z0, int z1) {
+			this.field = field;
+			this.out = out;
+			this.originX = originX;
+			this.originZ = originZ;
+			this.width = width;
+			this.frequency = frequency;
+			this.x0 = x0; this.x1 = x1;
+			this.z0 = z0; this.z1 = z1;
+		}
+
+		@Override
+		protected void compute() {
+			int sx = x1 - x0;
+			int sz = z1 - z0;
+
+			if ((long) sx * sz > tileSamples) {
+				// Split along the longest axis
+				if (sx >= sz) {
+					int mid = x0 + sx / 2;
+					invokeAll(
+						new Tile2D(field, out, originX, originZ, width, frequency, x0, mid, z0, z1),
+						new Tile2D(field, out, originX, originZ, width, frequency, mid, x1, z0, z1)
+					);
+				} else {
+					int mid = z0 + sz / 2;
+					invokeAll(
+						new Tile2D(field, out, originX, originZ, width, frequency, x0, x1, z0, mid),
+						new Tile2D(field, out, originX, originZ, width, frequency, x0, x1, mid, z1)
+					);
+				}
+				return;
+			}
+
+			for (int z = z0; z < z1; z++) {
+				double y = (originZ + z) * frequency;
+				int row = z * width;
+				for (int x = x0; x < x1; x++) {
+					out[row + x] = (float) field.sample((originX + x) * frequency, y);
+				}
+			}
+		}
+	}
+
+	private final class Tile3D extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final IScalarField3D field;
+		private final float[]        out;
+		private final int            originX, originY, originZ, width, depth;
+		private final double         frequency;
+		private final int            x0, x1, y0, y1, z0, z1;
+
+		Tile3D(IScalarField3D field, float[] out, int originX, int originY, int originZ, int width, int depth, double frequency,
+				int x0, int x1, int y0, int y1, int z0, int z1) {
+			this.field = field;
+			this.out = out;
+			this.originX = originX;
+			this.originY = originY;
+			this.originZ = originZ;
+			this.width = width;
+			this.depth = depth;
+			this.frequency = frequency;
+			this.x0 = x0; this.x1 = x1;
+			this.y0 = y0; this.y1 = y1;
+			this.z0 = z0; this.z1 = z1;
+		}
+
+		@Override
+		protected void compute() {
+			int sx = x1 - x0;
+			int sy = y1 - y0;
+			int sz = z1 - z0;
+
+			if ((long) sx * sy * sz > tileSamples) {
+				// Split along the longest axis
+				if (sy >= sx && sy >= sz) {
+					int mid = y0 + sy / 2;
+					invokeAll(
+						new Tile3D(field, out, originX, originY, originZ, width, depth, frequency, x0, x1, y0, mid, z0, z1),
+						new Tile3D(field, out, originX, originY, originZ, width, depth, frequency, x0, x1, mid, y1, z0, z1)
+					);
+				} else if (sz >= sx) {
+					int mid = z0 + sz / 2;
+					invokeAll(
+						new Tile3D(field, out, originX, originY, originZ, width, depth, frequency, x0, x1, y0, y1, z0, mid),
+						new Tile3D(field, out, originX, originY, originZ, width, depth, frequency, x0, x1, y0, y1, mid, z1)
+					);
+				} else {
+					int mid = x0 + sx / 2;
+					invokeAll(
+						new Tile3D(field, out, originX, originY, originZ, width, depth, frequency, x0, mid, y0, y1, z0, z1),
+						new Tile3D(field, out, originX, originY, originZ, width, depth, frequency, mid, x1, y0, y1, z0, z1)
+					);
+				}
+				return;
+			}
+
+			for (int y = y0; y < y1; y++) {
+				double py = (originY + y) * frequency;
+				for (int z = z0; z < z1; z++) {
+					double pz = (originZ + z) * frequency;
+					int row = (y * depth + z) * width;
+					for (int x = x0; x < x1; x++) {
+						out[row + x] = (float) field.sample((originX + x) * frequency, py, pz);
+					}
+				}
+			}
+		}
+	}
+}
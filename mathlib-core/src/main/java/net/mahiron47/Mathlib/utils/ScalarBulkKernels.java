@@ -0,0 +1,82 @@
+package net.mahiron47.mathlib.utils;
+
+/**
+ * Plain loops over the scalar {@link Math} functions. Used on every JDK without the Vector API.
+ */
+class ScalarBulkKernels implements BulkKernels {
+	@Override
+	public void abs(float[] src, int srcOffset, float[] dst, int dstOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = Math.abs(src[srcOffset + i]);
+		}
+	}
+
+	@Override
+	public void abs(double[] src, int srcOffset, double[] dst, int dstOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = Math.abs(src[srcOffset + i]);
+		}
+	}
+
+	@Override
+	public void floor(float[] src, int srcOffset, float[] dst, int dstOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = Math.floor(src[srcOffset + i]);
+		}
+	}
+
+	@Override
+	public void floor(double[] src, int srcOffset, double[] dst, int dstOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = Math.floor(src[srcOffset + i]);
+		}
+	}
+
+	@Override
+	public void fract(float[] src, int srcOffset, float[] dst, int dstOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = Math.fract(src[srcOffset + i]);
+		}
+	}
+
+	@Override
+	public void fract(double[] src, int srcOffset, double[] dst, int dstOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = Math.fract(src[srcOffset + i]);
+		}
+	}
+
+	@Override
+	public void max(float[] a, int aOffset, float[] b, int bOffset, float[] dst, int dstOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = Math.max(a[aOffset + i], b[bOffset + i]);
+		}
+	}
+
+	@Override
+	public void max(double[] a, int aOffset, double[] b, int bOffset, double[] dst, int dstOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			dst[dstOffset + i] = Math.max(a[aOffset + i], b[bOffset + i]);
+		}
+	}
+
+	@Override
+	public void transformPoints(float[] m, float[] x, float[] y, float[] z, int offset, int length) {
+		for (int i = offset; i < offset + length; i++) {
+			float px = x[i], py = y[i], pz = z[i];
+			x[i] = Intrinsics.fma(m[2], pz, Intrinsics.fma(m[1], py, Intrinsics.fma(m[0], px, m[3])));
+			y[i] = Intrinsics.fma(m[6], pz, Intrinsics.fma(m[5], py, Intrinsics.fma(m[4], px, m[7])));
+			z[i] = Intrinsics.fma(m[10], pz, Intrinsics.fma(m[9], py, Intrinsics.fma(m[8], px, m[11])));
+		}
+	}
+
+	@Override
+	public void transformPoints(float[] m, float[] xyz, int offset, int count) {
+		for (int i = offset; i < offset + count * 3; i += 3) {
+			float px = xyz[i], py = xyz[i + 1], pz = xyz[i + 2];
+			xyz[i] = Intrinsics.fma(m[2], pz, Intrinsics.fma(m[1], py, Intrinsics.fma(m[0], px, m[3])));
+			xyz[i + 1] = Intrinsics.fma(m[6], pz, Intrinsics.fma(m[5], py, Intrinsics.fma(m[4], px, m[7])));
+			xyz[i + 2] = Intrinsics.fma(m[10], pz, Intrinsics.fma(m[9], py, Intrinsics.fma(m[8], px, m[11])));
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package net.mahiron47.mathlib.utils;
+
+/**
+ * Primitive operations the library routes through a single place so that newer JDKs can use faster versions.
+ * This is the Java 17 implementation, loaded from {@code META-INF/versions/17} of the multi-release jar
+ * instead of the Java 8 one. {@link #fma} compiles to a single fused multiply-add instruction on x86
+ * with FMA3 and on AArch64, and {@link #multiplyHigh} to a single widening multiply. {@link #floor} and
+ * {@link #abs} deliberately keep the Java 8 code rather than {@link java.lang.Math}: it differs for NaN,
+ * values outside the int range and -0.0, and noise must not change with the JDK.
+ */
+public final class Intrinsics {
+	private Intrinsics() {
+		// Private constructor to prevent instantiation
+	}
+
+	/**
+	 * Computes a * b + c with a single rounding.
+	 * @param a The first factor.
+	 * @param b The second factor.
+	 * @param c The addend.
+	 * @return a * b + c.
+	 */
+	public static float fma(float a, float b, float c) {
+		return java.lang.Math.fma(a, b, c);
+	}
+
+	/**
+	 * Computes a * b + c with a single rounding.
+	 * @param a The first factor.
+	 * @param b The second factor.
+	 * @param c The addend.
+	 * @return a * b + c.
+	 */
+	public static double fma(double a, double b, double c) {
+		return java.lang.Math.fma(a, b, c);
+	}
+
+	/**
+	 * Returns the largest integer less than or equal to the double value.
+	 * Only defined for values within the int range; outside it, and for NaN, the result comes
+	 * from the saturating int cast and is meaningless, but the same on every JDK.
+	 * @param x The input value.
+	 * @return The floored value.
+	 */
+	public static double floor(double x) {
+		return (x >= 0) ? (int) x : ((int) x - ((x == (int) x) ? 0 : 1));
+	}
+
+	/**
+	 * Returns the largest integer less than or equal to the float value.
+	 * Only defined for values within the int range; outside it, and for NaN, the result comes
+	 * from the saturating int cast and is meaningless, but the same on every JDK.
+	 * @param x The input value.
+	 * @return The floored value.
+	 */
+	public static float floor(float x) {
+		return (x >= 0) ? (int) x : ((int) x - ((x == (int) x) ? 0 : 1));
+	}
+
+	/**
+	 * Returns the absolute value of a double.
+	 * @param x The input value.
+	 * @return The absolute value of x.
+	 */
+	public static double abs(double x) {
+		return (x >= 0) ? x : -x;
+	}
+
+	/**
+	 * Returns the absolute value of a float.
+	 * @param x The input value.
+	 * @return The absolute value of x.
+	 */
+	public static float abs(float x) {
+		return (x >= 0) ? x : -x;
+	}
+
+	/**
+	 * Returns the high 64 bits of the 128-bit product of two longs.
+	 * @param a The first factor.
+	 * @param b The second factor.
+	 * @return The high half of a * b.
+	 */
+	public static long multiplyHigh(long a, long b) {
+		return java.lang.Math.multiplyHigh(a, b);
+	}
+}
@@ -0,0 +1,158 @@
+package net.mahiron47.mathlib.utils;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link Bulk} backend on the JDK Vector API, loaded reflectively on Java 17+ when the
+ * {@code jdk.incubator.vector} module is present. Each loop runs over whole vectors of the
+ * preferred species and leaves the remaining tail to the scalar loops; interleaved xyz
+ * points would need gathers and stay scalar as well.
+ * Results are bit-identical to the scalar {@link Math} functions, including their {@link Intrinsics}
+ * semantics for NaN, -0.0 and values outside the int range, so they do not depend on the array index.
+ */
+class VectorBulkKernels extends ScalarBulkKernels {
+	private static final VectorSpecies<Float>  FLOATS  = FloatVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+	// Adding and subtracting 2^(mantissa bits) rounds a smaller value to an integer
+	private static final float  FLOAT_ROUNDER  = 8388608.0f;          // 2^23
+	private static final double DOUBLE_ROUNDER = 4503599627370496.0;  // 2^52
+
+	// Intrinsics.floor goes through an int cast: values outside [-2^31, 2^31) saturate to Integer.MAX_VALUE
+	private static final float  FLOAT_INT_LIMIT  = 2147483648.0f;     // 2^31
+	private static final double DOUBLE_INT_LIMIT = 2147483648.0;      // 2^31
+
+	@Override
+	public void abs(float[] src, int srcOffset, float[] dst, int dstOffset, int length) {
+		int i = 0;
+		for (int upper = FLOATS.loopBound(length); i < upper; i += FLOATS.length()) {
+			FloatVector v = FloatVector.fromArray(FLOATS, src, srcOffset + i);
+			// Same as Math.abs: (x >= 0) ? x : -x, which keeps -0.0 and flips the sign of NaN
+			v.blend(v.neg(), v.compare(VectorOperators.GE, 0.0f).not()).intoArray(dst, dstOffset + i);
+		}
+		super.abs(src, srcOffset + i, dst, dstOffset + i, length - i);
+	}
+
+	@Override
+	public void abs(double[] src, int srcOffset, double[] dst, int dstOffset, int length) {
+		int i = 0;
+		for (int upper = DOUBLES.loopBound(length); i < upper; i += DOUBLES.length()) {
+			DoubleVector v = DoubleVector.fromArray(DOUBLES, src, srcOffset + i);
+			v.blend(v.neg(), v.compare(VectorOperators.GE, 0.0).not()).intoArray(dst, dstOffset + i);
+		}
+		super.abs(src, srcOffset + i, dst, dstOffset + i, length - i);
+	}
+
+	@Override
+	public void floor(float[] src, int srcOffset, float[] dst, int dstOffset, int length) {
+		int i = 0;
+		for (int upper = FLOATS.loopBound(length); i < upper; i += FLOATS.length()) {
+			floor(FloatVector.fromArray(FLOATS, src, srcOffset + i)).intoArray(dst, dstOffset + i);
+		}
+		super.floor(src, srcOffset + i, dst, dstOffset + i, length - i);
+	}
+
+	@Override
+	public void floor(double[] src, int srcOffset, double[] dst, int dstOffset, int length) {
+		int i = 0;
+		for (int upper = DOUBLES.loopBound(length); i < upper; i += DOUBLES.length()) {
+			floor(DoubleVector.fromArray(DOUBLES, src, srcOffset + i)).intoArray(dst, dstOffset + i);
+		}
+		super.floor(src, srcOffset + i, dst, dstOffset + i, length - i);
+	}
+
+	@Override
+	public void fract(float[] src, int srcOffset, float[] dst, int dstOffset, int length) {
+		int i = 0;
+		for (int upper = FLOATS.loopBound(length); i < upper; i += FLOATS.length()) {
+			FloatVector v = FloatVector.fromArray(FLOATS, src, srcOffset + i);
+			// Same as Math.fract: inputs failing x >= 0, including NaN, are shifted up by one
+			v.sub(floor(v)).add(1.0f, v.compare(VectorOperators.GE, 0.0f).not()).intoArray(dst, dstOffset + i);
+		}
+		super.fract(src, srcOffset + i, dst, dstOffset + i, length - i);
+	}
+
+	@Override
+	public void fract(double[] src, int srcOffset, double[] dst, int dstOffset, int length) {
+		int i = 0;
+		for (int upper = DOUBLES.loopBound(length); i < upper; i += DOUBLES.length()) {
+			DoubleVector v = DoubleVector.fromArray(DOUBLES, src, srcOffset + i);
+			v.sub(floor(v)).add(1.0, v.compare(VectorOperators.GE, 0.0).not()).intoArray(dst, dstOffset + i);
+		}
+		super.fract(src, srcOffset + i, dst, dstOffset + i, length - i);
+	}
+
+	@Override
+	public void max(float[] a, int aOffset, float[] b, int bOffset, float[] dst, int dstOffset, int length) {
+		int i = 0;
+		for (int upper = FLOATS.loopBound(length); i < upper; i += FLOATS.length()) {
+			FloatVector va = FloatVector.fromArray(FLOATS, a, aOffset + i);
+			FloatVector vb = FloatVector.fromArray(FLOATS, b, bOffset + i);
+			// Same as Math.max: (a > b) ? a : b, which differs from VectorOperators.MAX for NaN and -0.0
+			vb.blend(va, va.compare(VectorOperators.GT, vb)).intoArray(dst, dstOffset + i);
+		}
+		super.max(a, aOffset + i, b, bOffset + i, dst, dstOffset + i, length - i);
+	}
+
+	@Override
+	public void max(double[] a, int aOffset, double[] b, int bOffset, double[] dst, int dstOffset, int length) {
+		int i = 0;
+		for (int upper = DOUBLES.loopBound(length); i < upper; i += DOUBLES.length()) {
+			DoubleVector va = DoubleVector.fromArray(DOUBLES, a, aOffset + i);
+			DoubleVector vb = DoubleVector.fromArray(DOUBLES, b, bOffset + i);
+			vb.blend(va, va.compare(VectorOperators.GT, vb)).intoArray(dst, dstOffset + i);
+		}
+		super.max(a, aOffset + i, b, bOffset + i, dst, dstOffset + i, length - i);
+	}
+
+	@Override
+	public void transformPoints(float[] m, float[] x, float[] y, float[] z, int offset, int length) {
+		FloatVector m0 = FloatVector.broadcast(FLOATS, m[0]), m1 = FloatVector.broadcast(FLOATS, m[1]);
+		FloatVector m2 = FloatVector.broadcast(FLOATS, m[2]), m3 = FloatVector.broadcast(FLOATS, m[3]);
+		FloatVector m4 = FloatVector.broadcast(FLOATS, m[4]), m5 = FloatVector.broadcast(FLOATS, m[5]);
+		FloatVector m6 = FloatVector.broadcast(FLOATS, m[6]), m7 = FloatVector.broadcast(FLOATS, m[7]);
+		FloatVector m8 = FloatVector.broadcast(FLOATS, m[8]), m9 = FloatVector.broadcast(FLOATS, m[9]);
+		FloatVector m10 = FloatVector.broadcast(FLOATS, m[10]), m11 = FloatVector.broadcast(FLOATS, m[11]);
+
+		int i = 0;
+		for (int upper = FLOATS.loopBound(length); i < upper; i += FLOATS.length()) {
+			FloatVector px = FloatVector.fromArray(FLOATS, x, offset + i);
+			FloatVector py = FloatVector.fromArray(FLOATS, y, offset + i);
+			FloatVector pz = FloatVector.fromArray(FLOATS, z, offset + i);
+			// Same fused order as the scalar loop: m0 * x + m3, then + m1 * y, then + m2 * z
+			pz.fma(m2, py.fma(m1, px.fma(m0, m3))).intoArray(x, offset + i);
+			pz.fma(m6, py.fma(m5, px.fma(m4, m7))).intoArray(y, offset + i);
+			pz.fma(m10, py.fma(m9, px.fma(m8, m11))).intoArray(z, offset + i);
+		}
+		super.transformPoints(m, x, y, z, offset + i, length - i);
+	}
+
+	private static FloatVector floor(FloatVector v) {
+		// Round to an integer through the rounder with the sign of v, then step down where that rounded up.
+		// Zeros and values beyond 2^23 are already integral and pass through; adding +0.0 turns -0.0 into 0.0.
+		FloatVector rounder = FloatVector.broadcast(FLOATS, FLOAT_ROUNDER).blend(-FLOAT_ROUNDER, v.lt(0.0f));
+		FloatVector rounded = v.add(rounder).sub(rounder);
+		rounded = rounded.sub(1.0f, rounded.compare(VectorOperators.GT, v));
+		VectorMask<Float> fractional = v.abs().lt(FLOAT_ROUNDER).and(v.compare(VectorOperators.NE, 0.0f));
+		FloatVector result = v.blend(rounded, fractional).add(0.0f);
+		// Match the int cast of Intrinsics.floor: saturation to Integer.MAX_VALUE, and NaN -> 0 - 1
+		VectorMask<Float> outside = v.compare(VectorOperators.GE, FLOAT_INT_LIMIT).or(v.lt(-FLOAT_INT_LIMIT));
+		result = result.blend((float) Integer.MAX_VALUE, outside);
+		return result.blend(-1.0f, v.test(VectorOperators.IS_NAN));
+	}
+
+	private static DoubleVector floor(DoubleVector v) {
+		DoubleVector rounder = DoubleVector.broadcast(DOUBLES, DOUBLE_ROUNDER).blend(-DOUBLE_ROUNDER, v.lt(0.0));
+		DoubleVector rounded = v.add(rounder).sub(rounder);
+		rounded = rounded.sub(1.0, rounded.compare(VectorOperators.GT, v));
+		VectorMask<Double> fractional = v.abs().lt(DOUBLE_ROUNDER).and(v.compare(VectorOperators.NE, 0.0));
+		DoubleVector result = v.blend(rounded, fractional).add(0.0);
+		VectorMask<Double> outside = v.compare(VectorOperators.GE, DOUBLE_INT_LIMIT).or(v.lt(-DOUBLE_INT_LIMIT));
+		result = result.blend((double) Integer.MAX_VALUE, outside);
+		return result.blend(-1.0, v.test(VectorOperators.IS_NAN));
+	}
+}
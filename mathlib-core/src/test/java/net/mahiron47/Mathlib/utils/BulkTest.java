@@ -0,0 +1,119 @@
+package net.mahiron47.mathlib.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks that whichever {@link Bulk} backend is loaded matches the scalar {@link Math} functions bit for bit.
+ * Every special value is tried at every position of arrays up to {@link #MAX_LENGTH} long, so it lands in
+ * each vector lane and in the scalar tail for any vector width. The {@code test17} task runs this on JDK 17
+ * against the Vector API backend and sets {@code mathlib.bulk.expectVector} to make sure it is the one tested.
+ */
+public class BulkTest {
+	/** More than twice the widest vector, 16 floats, plus a tail. */
+	private static final int MAX_LENGTH = 40;
+
+	private static final float[] FLOAT_SPECIALS = {
+		0.0f, -0.0f, Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY,
+		0.5f, -0.5f, 1.0f, -1.0f, -1.5f, 8388607.5f, -8388607.5f, 8388608.0f,
+		2147483520.0f, 2147483648.0f, -2147483648.0f, -2147483904.0f, 3e9f, -3e9f, 1e20f, -1e20f,
+		Float.MAX_VALUE, -Float.MAX_VALUE, Float.MIN_VALUE, -Float.MIN_VALUE
+	};
+
+	private static final double[] DOUBLE_SPECIALS = {
+		0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+		0.5, -0.5, 1.0, -1.0, -1.5, 4503599627370495.5, -4503599627370495.5, 4503599627370496.0,
+		2147483647.5, 2147483648.0, -2147483648.0, -2147483648.5, 3e9, -3e9, 1e20, -1e20,
+		Double.MAX_VALUE, -Double.MAX_VALUE, Double.MIN_VALUE, -Double.MIN_VALUE
+	};
+
+	@Test
+	public void backendMatchesExpectation() {
+		if (Boolean.getBoolean("mathlib.bulk.expectVector")) {
+			assertTrue("Vector API backend not loaded", Bulk.isVectorized());
+		}
+	}
+
+	@Test
+	public void floatKernelsMatchScalar() {
+		Random random = new Random(47);
+		for (float special : FLOAT_SPECIALS) {
+			for (int length = 1; length <= MAX_LENGTH; length++) {
+				for (int position = 0; position < length; position++) {
+					// Offset 1 shifts the data against the vector alignment of the array
+					float[] a = new float[length + 1], b = new float[length + 1], dst = new float[length + 1];
+					for (int i = 0; i <= length; i++) {
+						a[i] = (random.nextFloat() - 0.5f) * 100.0f;
+						b[i] = (random.nextFloat() - 0.5f) * 100.0f;
+					}
+					a[1 + position] = special;
+					b[length - position] = special;
+
+					Bulk.abs(a, 1, dst, 1, length);
+					for (int i = 0; i < length; i++) {
+						assertFloat("abs", a[1 + i], Math.abs(a[1 + i]), dst[1 + i]);
+					}
+					Bulk.floor(a, 1, dst, 1, length);
+					for (int i = 0; i < length; i++) {
+						assertFloat("floor", a[1 + i], Math.floor(a[1 + i]), dst[1 + i]);
+					}
+					Bulk.fract(a, 1, dst, 1, length);
+					for (int i = 0; i < length; i++) {
+						assertFloat("fract", a[1 + i], Math.fract(a[1 + i]), dst[1 + i]);
+					}
+					Bulk.max(a, 1, b, 1, dst, 1, length);
+					for (int i = 0; i < length; i++) {
+						assertFloat("max", a[1 + i], Math.max(a[1 + i], b[1 + i]), dst[1 + i]);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void doubleKernelsMatchScalar() {
+		Random random = new Random(47);
+		for (double special : DOUBLE_SPECIALS) {
+			for (int length = 1; length <= MAX_LENGTH; length++) {
+				for (int position = 0; position < length; position++) {
+					double[] a = new double[length + 1], b = new double[length + 1], dst = new double[length + 1];
+					for (int i = 0; i <= length; i++) {
+						a[i] = (random.nextDouble() - 0.5) * 100.0;
+						b[i] = (random.nextDouble() - 0.5) * 100.0;
+					}
+					a[1 + position] = special;
+					b[length - position] = special;
+
+					Bulk.abs(a, 1, dst, 1, length);
+					for (int i = 0; i < length; i++) {
+						assertDouble("abs", a[1 + i], Math.abs(a[1 + i]), dst[1 + i]);
+					}
+					Bulk.floor(a, 1, dst, 1, length);
+					for (int i = 0; i < length; i++) {
+						assertDouble("floor", a[1 + i], Math.floor(a[1 + i]), dst[1 + i]);
+					}
+					Bulk.fract(a, 1, dst, 1, length);
+					for (int i = 0; i < length; i++) {
+						assertDouble("fract", a[1 + i], Math.fract(a[1 + i]), dst[1 + i]);
+					}
+					Bulk.max(a, 1, b, 1, dst, 1, length);
+					for (int i = 0; i < length; i++) {
+						assertDouble("max", a[1 + i], Math.max(a[1 + i], b[1 + i]), dst[1 + i]);
+					}
+				}
+			}
+		}
+	}
+
+	private static void assertFloat(String function, float input, float expected, float actual) {
+		assertEquals(function + "(" + input + ")", Float.floatToIntBits(expected), Float.floatToIntBits(actual));
+	}
+
+	private static void assertDouble(String function, double input, double expected, double actual) {
+		assertEquals(function + "(" + input + ")", Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+	}
+}